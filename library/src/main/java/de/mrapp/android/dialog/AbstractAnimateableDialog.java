@@ -24,6 +24,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
 
+import de.mrapp.android.dialog.ShowTracer.Phase;
 import de.mrapp.android.dialog.animation.DialogAnimation;
 import de.mrapp.android.dialog.decorator.AnimateableDialogDecorator;
 import de.mrapp.android.dialog.model.AnimateableDialog;
@@ -59,7 +60,12 @@ public abstract class AbstractAnimateableDialog extends AbstractHeaderDialog
 
             @Override
             public void onShow(final DialogInterface dialog) {
-                decorator.showAnimated(getShowAnimation(), null);
+                long startTime = getShowTracer().beginPhase(Phase.SHOW_ANIMATION);
+
+                if (!decorator.showAnimated(getShowAnimation(), getShowTracer().isEnabled() ?
+                        createShowAnimationTraceListener(startTime) : null)) {
+                    getShowTracer().endPhase(Phase.SHOW_ANIMATION, startTime);
+                }
 
                 if (onShowListener != null) {
                     onShowListener.onShow(dialog);
@@ -69,6 +75,27 @@ public abstract class AbstractAnimateableDialog extends AbstractHeaderDialog
         };
     }
 
+    /**
+     * Creates and returns an animation listener, which allows to trace the duration of the
+     * animation, which is used to show the dialog.
+     *
+     * @param startTime
+     *         The start time of the animation in nanoseconds as a {@link Long} value
+     * @return The animation listener, which has been created, as an instance of the type {@link
+     * AnimatorListener}
+     */
+    private AnimatorListener createShowAnimationTraceListener(final long startTime) {
+        return new AnimatorListenerAdapter() {
+
+            @Override
+            public void onAnimationEnd(final Animator animation) {
+                super.onAnimationEnd(animation);
+                getShowTracer().endPhase(Phase.SHOW_ANIMATION, startTime);
+            }
+
+        };
+    }
+
     /**
      * Creates and returns an animation listener, which allows to dismiss the dialog, once the
      * animation, which is used to hide it, has finished.
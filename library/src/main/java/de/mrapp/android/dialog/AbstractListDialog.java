@@ -21,6 +21,7 @@ import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
+import android.support.v7.widget.RecyclerView;
 import android.view.View;
 import android.view.Window;
 import android.widget.AdapterView;
@@ -70,6 +71,21 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         return decorator.getListView();
     }
 
+    @Override
+    public final RecyclerView getRecyclerView() {
+        return decorator.getRecyclerView();
+    }
+
+    @Override
+    public final boolean isRecyclerViewUsed() {
+        return decorator.isRecyclerViewUsed();
+    }
+
+    @Override
+    public final void useRecyclerView(final boolean useRecyclerView) {
+        decorator.useRecyclerView(useRecyclerView);
+    }
+
     @Override
     public final ListAdapter getListAdapter() {
         return decorator.getListAdapter();
@@ -144,6 +160,22 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         decorator.setMultiChoiceItems(adapter, checkedItems, listener);
     }
 
+    @Override
+    public final boolean isItemChecked(final int position) {
+        return decorator.isItemChecked(position);
+    }
+
+    @Override
+    public final void setItemChecked(final int position, final boolean checked) {
+        decorator.setItemChecked(position, checked);
+    }
+
+    @Override
+    public final void setItemsChecked(final int fromPosition, final int toPosition,
+                                      final boolean checked) {
+        decorator.setItemsChecked(fromPosition, toPosition, checked);
+    }
+
     @Override
     public final void setOnItemSelectedListener(
             @Nullable final AdapterView.OnItemSelectedListener listener) {
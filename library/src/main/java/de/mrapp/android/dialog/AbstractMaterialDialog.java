@@ -33,23 +33,31 @@ import android.support.annotation.StyleRes;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.Window;
 import android.widget.ScrollView;
 
+import java.io.Reader;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 
 import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.ShowTracer.Phase;
 import de.mrapp.android.dialog.animation.BackgroundAnimation;
 import de.mrapp.android.dialog.decorator.AbstractDecorator;
 import de.mrapp.android.dialog.decorator.MaterialDialogDecorator;
+import de.mrapp.android.dialog.listener.DecoratorAttachListener;
+import de.mrapp.android.dialog.listener.ShowTraceListener;
 import de.mrapp.android.dialog.model.MaterialDialog;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 
 import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
 
 /**
  * An abstract base class for all dialogs, which are designed according to Android 5's Material
@@ -75,6 +83,27 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
      */
     private DialogRootView rootView;
 
+    /**
+     * The view, which has been inflated in order to show the dialog.
+     */
+    private View view;
+
+    /**
+     * True, if the dialog's view hierarchy is retained, when the dialog is stopped, false
+     * otherwise.
+     */
+    private boolean viewHierarchyRetained;
+
+    /**
+     * The inflater, which is used to inflate the dialog's layouts in advance.
+     */
+    private AsyncViewInflater viewInflater;
+
+    /**
+     * The tracer, which is used to measure the time, which is needed to show the dialog.
+     */
+    private final ShowTracer showTracer;
+
     /**
      * Inflates the dialog's root view.
      *
@@ -82,6 +111,10 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
      * may not be null
      */
     private View inflateLayout() {
+        if (viewInflater != null) {
+            return viewInflater.obtain(R.layout.material_dialog, null);
+        }
+
         return View.inflate(getContext(), R.layout.material_dialog, null);
     }
 
@@ -104,6 +137,54 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         };
     }
 
+    /**
+     * Creates and returns a listener, which allows to trace the time, which is needed until the
+     * dialog is about to be drawn for the first time.
+     *
+     * @param observedView
+     *         The view, which is observed by the listener, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param startTime
+     *         The start time of the traced phase in nanoseconds as a {@link Long} value
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ViewTreeObserver.OnPreDrawListener}. The listener may not be null
+     */
+    @NonNull
+    private ViewTreeObserver.OnPreDrawListener createFirstLayoutTraceListener(
+            @NonNull final View observedView, final long startTime) {
+        return new ViewTreeObserver.OnPreDrawListener() {
+
+            @Override
+            public boolean onPreDraw() {
+                ViewTreeObserver observer = observedView.getViewTreeObserver();
+
+                if (observer.isAlive()) {
+                    observer.removeOnPreDrawListener(this);
+                }
+
+                showTracer.endPhase(Phase.FIRST_LAYOUT, startTime);
+                return true;
+            }
+
+        };
+    }
+
+    /**
+     * Traces the time, which is needed until the dialog is about to be drawn for the first time,
+     * if tracing is enabled.
+     *
+     * @param observedView
+     *         The view, which should be observed, as an instance of the class {@link View}. The
+     *         view may not be null
+     */
+    private void traceFirstLayout(@NonNull final View observedView) {
+        if (showTracer.isEnabled()) {
+            long startTime = showTracer.beginPhase(Phase.FIRST_LAYOUT);
+            observedView.getViewTreeObserver()
+                    .addOnPreDrawListener(createFirstLayoutTraceListener(observedView, startTime));
+        }
+    }
+
     /**
      * Attaches all registered decorators to the dialog.
      *
@@ -133,6 +214,16 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         return result;
     }
 
+    /**
+     * Attaches all registered decorators, whose attachment has been deferred, because they were
+     * inactive, if they have become active in the meantime.
+     */
+    private void attachDeferredDecorators() {
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.attachDeferred();
+        }
+    }
+
     /**
      * Detaches all registered decorators from the dialog.
      *
@@ -147,6 +238,38 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         }
     }
 
+    /**
+     * Releases the dialog's view hierarchy by detaching all registered decorators. The view
+     * hierarchy is inflated again, when the dialog is shown the next time.
+     */
+    private void releaseViewHierarchy() {
+        if (rootView != null) {
+            detachDecorators(rootView);
+            rootView = null;
+        }
+
+        view = null;
+    }
+
+    /**
+     * Resets the properties of a specific view, which may have been modified by an animation, which
+     * has been used to hide the dialog, in order to be able to show a retained view hierarchy
+     * again.
+     *
+     * @param view
+     *         The view, whose properties should be reset, as an instance of the class {@link
+     *         View}. The view may not be null
+     */
+    private void resetViewProperties(@NonNull final View view) {
+        view.animate().cancel();
+        view.setVisibility(View.VISIBLE);
+        view.setAlpha(1f);
+        view.setScaleX(1f);
+        view.setScaleY(1f);
+        view.setTranslationX(0f);
+        view.setTranslationY(0f);
+    }
+
     /**
      * Creates a dialog, which is designed according to Android 5's Material Design guidelines even
      * on pre-Lollipop devices.
@@ -163,6 +286,7 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         super(context, themeResourceId);
         this.decorator = new MaterialDialogDecorator(this);
         this.decorators = new LinkedList<>();
+        this.showTracer = new ShowTracer(getClass().getSimpleName());
         addDecorator(decorator);
         requestWindowFeature(Window.FEATURE_NO_TITLE);
         setCanceledOnTouchOutside(true);
@@ -177,6 +301,7 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
      */
     protected final void addDecorator(@NonNull final AbstractDecorator decorator) {
         this.decorators.add(decorator);
+        decorator.setShowTracer(showTracer);
     }
 
     /**
@@ -190,6 +315,171 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         return true;
     }
 
+    /**
+     * Adds a new listener, which should be notified, when the decorators of the dialog are
+     * attached to its view hierarchy. This allows to measure the time, which is needed to attach
+     * the individual decorators, as well as to observe, which decorators are inactive and
+     * therefore attached on demand.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void addDecoratorAttachListener(@NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.addAttachListener(listener);
+        }
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified, when the decorators of the dialog
+     * are attached to its view hierarchy, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void removeDecoratorAttachListener(
+            @NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.removeAttachListener(listener);
+        }
+    }
+
+    /**
+     * Returns the tracer, which is used to measure the time, which is needed to show the dialog.
+     *
+     * @return The tracer, which is used to measure the time, which is needed to show the dialog,
+     * as an instance of the class {@link ShowTracer}. The tracer may not be null
+     */
+    @NonNull
+    protected final ShowTracer getShowTracer() {
+        return showTracer;
+    }
+
+    /**
+     * Returns, whether the time, which is needed by the individual phases of showing the dialog,
+     * is traced, or not.
+     *
+     * @return True, if the time, which is needed by the individual phases of showing the dialog,
+     * is traced, false otherwise
+     */
+    public final boolean isShowTracingEnabled() {
+        return showTracer.isEnabled();
+    }
+
+    /**
+     * Sets, whether the time, which is needed by the individual phases of showing the dialog,
+     * should be traced, or not. If tracing is enabled, synchronous phases are emitted as trace
+     * sections and the durations of all phases are passed to the listeners, which have been
+     * registered by using the method {@link #addShowTraceListener(ShowTraceListener)}. By
+     * default, tracing is disabled.
+     *
+     * @param enabled
+     *         True, if the time, which is needed by the individual phases of showing the dialog,
+     *         should be traced, false otherwise
+     */
+    public final void setShowTracingEnabled(final boolean enabled) {
+        showTracer.setEnabled(enabled);
+    }
+
+    /**
+     * Adds a new listener, which should be notified about the time, which is needed by the
+     * individual phases of showing the dialog, if tracing is enabled.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public final void addShowTraceListener(@NonNull final ShowTraceListener listener) {
+        showTracer.addListener(listener);
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified about the time, which is needed
+     * by the individual phases of showing the dialog, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public final void removeShowTraceListener(@NonNull final ShowTraceListener listener) {
+        showTracer.removeListener(listener);
+    }
+
+    /**
+     * Returns, whether the dialog's view hierarchy is retained, when the dialog is stopped, or not.
+     *
+     * @return True, if the dialog's view hierarchy is retained, when the dialog is stopped, false
+     * otherwise
+     */
+    public final boolean isViewHierarchyRetained() {
+        return viewHierarchyRetained;
+    }
+
+    /**
+     * Sets, whether the dialog's view hierarchy should be retained, when the dialog is stopped, or
+     * not. If the view hierarchy is retained, the dialog's layout is not inflated again and the
+     * registered decorators stay attached, when the dialog is shown multiple times. Properties,
+     * which are changed while the dialog is not shown, are applied to the retained views directly.
+     * This is useful for dialogs, which are shown and dismissed repeatedly, but causes the views to
+     * be kept in memory, while the dialog is not shown. By default, the view hierarchy is not
+     * retained.
+     *
+     * This mode is not available for dialogs, which are able to show fragments, because a {@link
+     * android.support.v4.app.DialogFragment} creates a new window each time it is shown (see
+     * {@link AbstractMaterialDialogFragment}).
+     *
+     * @param retain
+     *         True, if the dialog's view hierarchy should be retained, when the dialog is stopped,
+     *         false otherwise
+     */
+    public final void setViewHierarchyRetained(final boolean retain) {
+        this.viewHierarchyRetained = retain;
+
+        if (!retain && !isShowing()) {
+            releaseViewHierarchy();
+        }
+    }
+
+    @Override
+    public final void prewarm() {
+        if (viewInflater == null) {
+            viewInflater = new AsyncViewInflater(getContext());
+        }
+
+        viewInflater.inflate(R.layout.material_dialog, null);
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.prewarm(viewInflater);
+        }
+    }
+
+    @NonNull
+    @Override
+    public final DialogTransaction edit() {
+        return new DialogTransaction(decorators, rootView);
+    }
+
+    @Override
+    public final void copyProperties(@NonNull final MaterialDialog source) {
+        ensureNotNull(source, "The dialog may not be null");
+        ensureTrue(source.getClass() == getClass(), "The dialog must be of the same type");
+        Iterator<AbstractDecorator> sourceDecorators =
+                ((AbstractMaterialDialog) source).decorators.iterator();
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.copyProperties(sourceDecorators.next());
+        }
+
+        super.setCancelable(decorator.isCancelable());
+        super.setCanceledOnTouchOutside(decorator.isCanceledOnTouchOutside());
+    }
+
     @Override
     public final ScrollView getScrollView() {
         return rootView != null ? rootView.getScrollView() : null;
@@ -581,11 +871,23 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
     @Override
     public final void setView(@Nullable final View view) {
         decorator.setView(view);
+        attachDeferredDecorators();
     }
 
     @Override
     public final void setView(@LayoutRes final int resourceId) {
         decorator.setView(resourceId);
+        attachDeferredDecorators();
+    }
+
+    @Override
+    public final void registerScrollableView(@NonNull final View view) {
+        decorator.registerScrollableView(view);
+    }
+
+    @Override
+    public final void unregisterScrollableView(@NonNull final View view) {
+        decorator.unregisterScrollableView(view);
     }
 
     @Override
@@ -603,6 +905,21 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         decorator.setMessage(resourceId);
     }
 
+    @Override
+    public final boolean isMessageStreamed() {
+        return decorator.isMessageStreamed();
+    }
+
+    @Override
+    public final void setMessageStream(@NonNull final Reader reader) {
+        decorator.setMessageStream(reader);
+    }
+
+    @Override
+    public final void appendMessage(@NonNull final CharSequence text) {
+        decorator.appendMessage(text);
+    }
+
     @Override
     public final CharSequence getTitle() {
         return decorator.getTitle();
@@ -617,23 +934,42 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
     @Override
     public final void onStart() {
         super.onStart();
-        View view = inflateLayout();
-        view.setOnTouchListener(createCanceledOnTouchListener());
-        setContentView(view);
         Window window = getWindow();
         assert window != null;
-        window.setLayout(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
-        rootView = view.findViewById(R.id.dialog_root_view);
-        assert rootView != null;
-        Map<ViewType, View> areas = attachDecorators(window, rootView, view);
-        rootView.addAreas(areas);
+
+        if (view != null && rootView != null) {
+            resetViewProperties(window.getDecorView());
+            resetViewProperties(rootView);
+            window.setLayout(ViewGroup.LayoutParams.MATCH_PARENT,
+                    ViewGroup.LayoutParams.MATCH_PARENT);
+        } else {
+            long startTime = showTracer.beginPhase(Phase.INFLATION);
+            view = inflateLayout();
+            view.setOnTouchListener(createCanceledOnTouchListener());
+            setContentView(view);
+            showTracer.endPhase(Phase.INFLATION, startTime);
+            window.setLayout(ViewGroup.LayoutParams.MATCH_PARENT,
+                    ViewGroup.LayoutParams.MATCH_PARENT);
+            rootView = view.findViewById(R.id.dialog_root_view);
+            assert rootView != null;
+            rootView.setShowTracer(showTracer);
+            startTime = showTracer.beginPhase(Phase.DECORATOR_ATTACHMENT);
+            Map<ViewType, View> areas = attachDecorators(window, rootView, view);
+            showTracer.endPhase(Phase.DECORATOR_ATTACHMENT, startTime);
+            startTime = showTracer.beginPhase(Phase.AREA_ADDITION);
+            rootView.addAreas(areas);
+            showTracer.endPhase(Phase.AREA_ADDITION, startTime);
+            traceFirstLayout(view);
+        }
     }
 
     @Override
     public final void onStop() {
         super.onStop();
-        detachDecorators(rootView);
-        rootView = null;
+
+        if (!isViewHierarchyRetained()) {
+            releaseViewHierarchy();
+        }
     }
 
     @CallSuper
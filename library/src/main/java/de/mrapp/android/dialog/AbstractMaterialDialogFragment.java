@@ -37,30 +37,44 @@ import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.Window;
 import android.widget.ScrollView;
 
+import java.io.Reader;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 
 import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.ShowTracer.Phase;
 import de.mrapp.android.dialog.animation.BackgroundAnimation;
 import de.mrapp.android.dialog.decorator.AbstractDecorator;
 import de.mrapp.android.dialog.decorator.AbstractDialogDecorator;
 import de.mrapp.android.dialog.decorator.AbstractDialogFragmentDecorator;
 import de.mrapp.android.dialog.decorator.MaterialDialogDecorator;
+import de.mrapp.android.dialog.listener.DecoratorAttachListener;
+import de.mrapp.android.dialog.listener.ShowTraceListener;
 import de.mrapp.android.dialog.model.MaterialDialog;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 
 import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
 
 /**
  * An abstract base class for all dialogs, which are designed according to Android 5's Material
  * design guidelines even on pre-Lollipop devices and are able to show fragments.
  *
+ * In contrast to {@link AbstractMaterialDialog}, the view hierarchy of such a dialog cannot be
+ * retained between being dismissed and shown again. Each time a dialog fragment is shown, a new
+ * dialog with its own window is created and the fragment's views are created from scratch. As the
+ * decorators are bound to the window they have been attached to, neither the views nor the
+ * decorators can be reused for the new window.
+ *
  * @author Michael Rapp
  * @since 3.2.0
  */
@@ -107,6 +121,16 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
      */
     private OnCancelListener cancelListener;
 
+    /**
+     * The inflater, which is used to inflate the dialog's layouts in advance.
+     */
+    private AsyncViewInflater viewInflater;
+
+    /**
+     * The tracer, which is used to measure the time, which is needed to show the dialog.
+     */
+    private final ShowTracer showTracer;
+
     /**
      * Inflates the dialog's root view.
      *
@@ -114,6 +138,10 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
      * may not be null
      */
     private View inflateLayout() {
+        if (viewInflater != null) {
+            return viewInflater.obtain(R.layout.material_dialog, null);
+        }
+
         return View.inflate(getContext(), R.layout.material_dialog, null);
     }
 
@@ -136,6 +164,54 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         };
     }
 
+    /**
+     * Creates and returns a listener, which allows to trace the time, which is needed until the
+     * dialog is about to be drawn for the first time.
+     *
+     * @param observedView
+     *         The view, which is observed by the listener, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param startTime
+     *         The start time of the traced phase in nanoseconds as a {@link Long} value
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ViewTreeObserver.OnPreDrawListener}. The listener may not be null
+     */
+    @NonNull
+    private ViewTreeObserver.OnPreDrawListener createFirstLayoutTraceListener(
+            @NonNull final View observedView, final long startTime) {
+        return new ViewTreeObserver.OnPreDrawListener() {
+
+            @Override
+            public boolean onPreDraw() {
+                ViewTreeObserver observer = observedView.getViewTreeObserver();
+
+                if (observer.isAlive()) {
+                    observer.removeOnPreDrawListener(this);
+                }
+
+                showTracer.endPhase(Phase.FIRST_LAYOUT, startTime);
+                return true;
+            }
+
+        };
+    }
+
+    /**
+     * Traces the time, which is needed until the dialog is about to be drawn for the first time,
+     * if tracing is enabled.
+     *
+     * @param observedView
+     *         The view, which should be observed, as an instance of the class {@link View}. The
+     *         view may not be null
+     */
+    private void traceFirstLayout(@NonNull final View observedView) {
+        if (showTracer.isEnabled()) {
+            long startTime = showTracer.beginPhase(Phase.FIRST_LAYOUT);
+            observedView.getViewTreeObserver()
+                    .addOnPreDrawListener(createFirstLayoutTraceListener(observedView, startTime));
+        }
+    }
+
     /**
      * Applies all registered decorators to the dialog.
      *
@@ -178,6 +254,16 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         return result;
     }
 
+    /**
+     * Attaches all registered decorators, whose attachment has been deferred, because they were
+     * inactive, if they have become active in the meantime.
+     */
+    private void attachDeferredDecorators() {
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.attachDeferred();
+        }
+    }
+
     /**
      * Detaches all registered decorators from the dialog.
      *
@@ -199,6 +285,7 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
     public AbstractMaterialDialogFragment() {
         this.decorator = new MaterialDialogDecorator(this);
         this.decorators = new LinkedList<>();
+        this.showTracer = new ShowTracer(getClass().getSimpleName());
         addDecorator(decorator);
         setCanceledOnTouchOutside(true);
     }
@@ -235,6 +322,7 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
      */
     protected void addDecorator(@NonNull final AbstractDecorator decorator) {
         this.decorators.add(decorator);
+        decorator.setShowTracer(showTracer);
     }
 
     /**
@@ -248,6 +336,102 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         return true;
     }
 
+    /**
+     * Adds a new listener, which should be notified, when the decorators of the dialog are
+     * attached to its view hierarchy. This allows to measure the time, which is needed to attach
+     * the individual decorators, as well as to observe, which decorators are inactive and
+     * therefore attached on demand.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void addDecoratorAttachListener(@NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.addAttachListener(listener);
+        }
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified, when the decorators of the dialog
+     * are attached to its view hierarchy, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void removeDecoratorAttachListener(
+            @NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.removeAttachListener(listener);
+        }
+    }
+
+    /**
+     * Returns the tracer, which is used to measure the time, which is needed to show the dialog.
+     *
+     * @return The tracer, which is used to measure the time, which is needed to show the dialog,
+     * as an instance of the class {@link ShowTracer}. The tracer may not be null
+     */
+    @NonNull
+    protected final ShowTracer getShowTracer() {
+        return showTracer;
+    }
+
+    /**
+     * Returns, whether the time, which is needed by the individual phases of showing the dialog,
+     * is traced, or not.
+     *
+     * @return True, if the time, which is needed by the individual phases of showing the dialog,
+     * is traced, false otherwise
+     */
+    public final boolean isShowTracingEnabled() {
+        return showTracer.isEnabled();
+    }
+
+    /**
+     * Sets, whether the time, which is needed by the individual phases of showing the dialog,
+     * should be traced, or not. If tracing is enabled, synchronous phases are emitted as trace
+     * sections and the durations of all phases are passed to the listeners, which have been
+     * registered by using the method {@link #addShowTraceListener(ShowTraceListener)}. By
+     * default, tracing is disabled.
+     *
+     * @param enabled
+     *         True, if the time, which is needed by the individual phases of showing the dialog,
+     *         should be traced, false otherwise
+     */
+    public final void setShowTracingEnabled(final boolean enabled) {
+        showTracer.setEnabled(enabled);
+    }
+
+    /**
+     * Adds a new listener, which should be notified about the time, which is needed by the
+     * individual phases of showing the dialog, if tracing is enabled.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public final void addShowTraceListener(@NonNull final ShowTraceListener listener) {
+        showTracer.addListener(listener);
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified about the time, which is needed
+     * by the individual phases of showing the dialog, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public final void removeShowTraceListener(@NonNull final ShowTraceListener listener) {
+        showTracer.removeListener(listener);
+    }
+
     /**
      * The method, which is invoked when the dialog is re-created in order to restore its state.
      * This method may be overridden by subclasses in order to restore the properties, which are
@@ -277,6 +461,39 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         dismissListener = listener;
     }
 
+    @Override
+    public final void prewarm() {
+        if (viewInflater == null) {
+            viewInflater = new AsyncViewInflater(getContext());
+        }
+
+        viewInflater.inflate(R.layout.material_dialog, null);
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.prewarm(viewInflater);
+        }
+    }
+
+    @NonNull
+    @Override
+    public final DialogTransaction edit() {
+        return new DialogTransaction(decorators, rootView);
+    }
+
+    @Override
+    public final void copyProperties(@NonNull final MaterialDialog source) {
+        ensureNotNull(source, "The dialog may not be null");
+        ensureTrue(source.getClass() == getClass(), "The dialog must be of the same type");
+        Iterator<AbstractDecorator> sourceDecorators =
+                ((AbstractMaterialDialogFragment) source).decorators.iterator();
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.copyProperties(sourceDecorators.next());
+        }
+
+        super.setCancelable(decorator.isCancelable());
+    }
+
     @Override
     public final ScrollView getScrollView() {
         return rootView != null ? rootView.getScrollView() : null;
@@ -669,11 +886,23 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
     @Override
     public final void setView(@Nullable final View view) {
         decorator.setView(view);
+        attachDeferredDecorators();
     }
 
     @Override
     public final void setView(@LayoutRes final int resourceId) {
         decorator.setView(resourceId);
+        attachDeferredDecorators();
+    }
+
+    @Override
+    public final void registerScrollableView(@NonNull final View view) {
+        decorator.registerScrollableView(view);
+    }
+
+    @Override
+    public final void unregisterScrollableView(@NonNull final View view) {
+        decorator.unregisterScrollableView(view);
     }
 
     @Override
@@ -691,6 +920,21 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         decorator.setMessage(resourceId);
     }
 
+    @Override
+    public final boolean isMessageStreamed() {
+        return decorator.isMessageStreamed();
+    }
+
+    @Override
+    public final void setMessageStream(@NonNull final Reader reader) {
+        decorator.setMessageStream(reader);
+    }
+
+    @Override
+    public final void appendMessage(@NonNull final CharSequence text) {
+        decorator.appendMessage(text);
+    }
+
     @Override
     public final CharSequence getTitle() {
         return decorator.getTitle();
@@ -736,8 +980,10 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
     @Override
     public final View onCreateView(@NonNull final LayoutInflater inflater,
                                    final ViewGroup container, final Bundle savedInstanceState) {
+        long startTime = showTracer.beginPhase(Phase.INFLATION);
         View view = inflateLayout();
         view.setOnTouchListener(createCanceledOnTouchListener());
+        showTracer.endPhase(Phase.INFLATION, startTime);
 
         if (savedInstanceState != null) {
             onRestoreInstanceState(savedInstanceState);
@@ -747,9 +993,15 @@ public abstract class AbstractMaterialDialogFragment extends DialogFragment
         assert window != null;
         rootView = view.findViewById(R.id.dialog_root_view);
         assert rootView != null;
+        rootView.setShowTracer(showTracer);
+        startTime = showTracer.beginPhase(Phase.DECORATOR_ATTACHMENT);
         Map<ViewType, View> areas =
                 applyDecorators(window, rootView, view, getChildFragmentManager());
+        showTracer.endPhase(Phase.DECORATOR_ATTACHMENT, startTime);
+        startTime = showTracer.beginPhase(Phase.AREA_ADDITION);
         rootView.addAreas(areas);
+        showTracer.endPhase(Phase.AREA_ADDITION, startTime);
+        traceFirstLayout(view);
         return view;
     }
 
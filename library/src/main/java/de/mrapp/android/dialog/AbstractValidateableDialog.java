@@ -17,13 +17,16 @@ import android.content.Context;
 import android.os.Bundle;
 import android.support.annotation.CallSuper;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
 import android.view.View;
 import android.view.Window;
+import android.widget.TextView;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.decorator.ValidateableDialogDecorator;
@@ -87,6 +90,81 @@ public abstract class AbstractValidateableDialog extends AbstractAnimateableDial
         decorator.removeAllValidators(validators);
     }
 
+    @Override
+    public final Set<AsyncDialogValidator<?>> getAsyncValidators() {
+        return decorator.getAsyncValidators();
+    }
+
+    @Override
+    public final void addAsyncValidator(@NonNull final AsyncDialogValidator<?> validator) {
+        decorator.addAsyncValidator(validator);
+    }
+
+    @Override
+    public final void removeAsyncValidator(@NonNull final AsyncDialogValidator<?> validator) {
+        decorator.removeAsyncValidator(validator);
+    }
+
+    @Override
+    public final Executor getValidationExecutor() {
+        return decorator.getValidationExecutor();
+    }
+
+    @Override
+    public final void setValidationExecutor(@Nullable final Executor executor) {
+        decorator.setValidationExecutor(executor);
+    }
+
+    @Override
+    public final void validateAsync(@NonNull final AsyncDialogValidator.Callback callback) {
+        decorator.validateAsync(callback);
+    }
+
+    @Override
+    public final boolean isValidatingAsync() {
+        return decorator.isValidatingAsync();
+    }
+
+    @Override
+    public final void cancelAsyncValidation() {
+        decorator.cancelAsyncValidation();
+    }
+
+    @Override
+    public final boolean isLiveValidationEnabled() {
+        return decorator.isLiveValidationEnabled();
+    }
+
+    @Override
+    public final void setLiveValidationEnabled(final boolean enabled) {
+        decorator.setLiveValidationEnabled(enabled);
+    }
+
+    @Override
+    public final void performLiveValidation() {
+        decorator.performLiveValidation();
+    }
+
+    @Override
+    public final long getLiveValidationDelay() {
+        return decorator.getLiveValidationDelay();
+    }
+
+    @Override
+    public final void setLiveValidationDelay(final long delay) {
+        decorator.setLiveValidationDelay(delay);
+    }
+
+    @Override
+    public final void addLiveValidationView(@NonNull final TextView view) {
+        decorator.addLiveValidationView(view);
+    }
+
+    @Override
+    public final void removeLiveValidationView(@NonNull final TextView view) {
+        decorator.removeLiveValidationView(view);
+    }
+
     @NonNull
     @CallSuper
     @Override
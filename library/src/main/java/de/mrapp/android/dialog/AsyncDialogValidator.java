@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import de.mrapp.android.dialog.model.ValidateableDialog;
+
+/**
+ * Defines the interface, a class, which should be able to validate the content of a dialog in the
+ * background, must implement. In contrast to a {@link DialogValidator}, such a validator is not
+ * executed on the UI thread. It is therefore suited for expensive validations, e.g. if a database
+ * must be queried.
+ *
+ * The validation is split into two steps: First, a snapshot of the input, which should be
+ * validated, is taken from the dialog's views on the UI thread. Afterwards, the snapshot is
+ * validated on a background thread, which must not access the views of the dialog.
+ *
+ * @param <SnapshotType>
+ *         The type of the snapshots of the input, which are validated
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public interface AsyncDialogValidator<SnapshotType> {
+
+    /**
+     * Defines the interface, a class, which should be notified about the result of validating the
+     * content of a dialog in the background, must implement.
+     */
+    interface Callback {
+
+        /**
+         * The method, which is invoked on the UI thread, when the content of a dialog has been
+         * validated.
+         *
+         * @param valid
+         *         True, if the content of the dialog is valid, false otherwise
+         */
+        void onValidated(boolean valid);
+
+        /**
+         * The method, which is invoked on the UI thread, when a validator has thrown an exception
+         * while validating the content of a dialog. The remaining validators are canceled in
+         * such case.
+         *
+         * @param exception
+         *         The exception, which has been thrown by the validator, as an instance of the
+         *         class {@link Exception}. The exception may not be null
+         */
+        void onValidationFailed(@NonNull Exception exception);
+
+        /**
+         * The method, which is invoked on the UI thread, when validating the content of a dialog
+         * has been canceled, e.g. because the dialog has been dismissed.
+         */
+        void onValidationCanceled();
+
+    }
+
+    /**
+     * Takes a snapshot of the input of a dialog, which should be validated. This method is invoked
+     * on the UI thread and may therefore access the views of the dialog.
+     *
+     * @param dialog
+     *         The dialog, whose input should be taken, as an instance of the type {@link
+     *         ValidateableDialog}. The dialog may not be null
+     * @return The snapshot, which has been taken, as an instance of the generic type
+     * SnapshotType or null, if the input is empty
+     */
+    @Nullable
+    SnapshotType takeSnapshot(@NonNull ValidateableDialog dialog);
+
+    /**
+     * Validates a snapshot of the input of a dialog. This method is invoked on a background thread
+     * and must therefore not access the views of the dialog.
+     *
+     * @param snapshot
+     *         The snapshot, which should be validated, as an instance of the generic type
+     *         SnapshotType or null, if the input is empty
+     * @return True, if the snapshot is valid, false otherwise
+     * @throws Exception
+     *         Any exception, which occurs while validating. In such case, the exception is passed
+     *         to the callback by using its {@link Callback#onValidationFailed(Exception)} method
+     */
+    boolean validate(@Nullable SnapshotType snapshot) throws Exception;
+
+}
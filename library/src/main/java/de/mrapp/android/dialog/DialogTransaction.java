@@ -0,0 +1,197 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.ViewCompat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import de.mrapp.android.dialog.decorator.AbstractDecorator;
+import de.mrapp.android.dialog.view.DialogRootView;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
+
+/**
+ * A transaction, which allows to change multiple properties of a dialog at once. While a
+ * transaction is open, the changes, which are made by using the dialog's setters, are not applied
+ * to the dialog's views immediately. Instead, they are applied in a single pass, when the
+ * transaction is applied, which avoids redundant layout passes. A transaction is opened by using
+ * the method {@link de.mrapp.android.dialog.model.MaterialDialog#edit()} and should be applied in a
+ * finally block:
+ *
+ * <pre>
+ * DialogTransaction transaction = dialog.edit();
+ *
+ * try {
+ *     dialog.setTitle(title);
+ *     dialog.setPadding(left, top, right, bottom);
+ * } finally {
+ *     transaction.apply();
+ * }
+ * </pre>
+ *
+ * A transaction, which has not been applied, once the UI thread has finished processing the
+ * current message, is applied automatically. Otherwise, the dialog would stop adapting its views.
+ * A transaction can therefore not be kept open across multiple messages.
+ *
+ * Only the changes of properties, which are provided by the interfaces {@link
+ * de.mrapp.android.dialog.model.MaterialDialogDecorator} and {@link
+ * de.mrapp.android.dialog.model.HeaderDialogDecorator}, as well as the padding of the dialog's
+ * areas, are deferred. The changes of all other properties, e.g. the dialog's buttons or list
+ * items, are still applied immediately.
+ *
+ * The methods of this class must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class DialogTransaction {
+
+    /**
+     * The handler, which is used to apply transactions, which have not been applied explicitly.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The decorators, whose changes are deferred by the transaction.
+     */
+    private final Collection<AbstractDecorator<?, ?>> decorators;
+
+    /**
+     * The root view of the dialog or null, if the dialog is not shown.
+     */
+    private final DialogRootView rootView;
+
+    /**
+     * True, if the transaction has already been applied, false otherwise.
+     */
+    private boolean applied;
+
+    /**
+     * Creates and returns a runnable, which allows to apply the changes, which have been made
+     * during the transaction.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createApplyRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                endBatch();
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to apply the transaction, if it has not been
+     * applied explicitly.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createTimeoutRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                if (!applied) {
+                    applyNow();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Applies the changes, which have been made during the transaction, to the dialog's views.
+     */
+    private void endBatch() {
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.endBatch();
+        }
+
+        if (rootView != null) {
+            rootView.endBatch();
+        }
+    }
+
+    /**
+     * Creates a new transaction, which allows to change multiple properties of a dialog at once.
+     *
+     * @param decorators
+     *         A collection, which contains the decorators of the dialog, as an instance of the
+     *         type {@link Collection}. The collection may not be null
+     * @param rootView
+     *         The root view of the dialog as an instance of the class {@link DialogRootView} or
+     *         null, if the dialog is not shown
+     */
+    DialogTransaction(@NonNull final Collection<? extends AbstractDecorator> decorators,
+                      @Nullable final DialogRootView rootView) {
+        ensureNotNull(decorators, "The collection may not be null");
+        this.decorators = new ArrayList<>(decorators.size());
+        this.rootView = rootView;
+        this.applied = false;
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.beginBatch();
+            this.decorators.add(decorator);
+        }
+
+        if (rootView != null) {
+            rootView.beginBatch();
+        }
+
+        HANDLER.post(createTimeoutRunnable());
+    }
+
+    /**
+     * Applies the changes, which have been made during the transaction, to the dialog's views in
+     * a single pass at the next animation frame. If the dialog is not shown, the changes are
+     * applied immediately.
+     */
+    public void apply() {
+        ensureTrue(!applied, "The transaction has already been applied",
+                IllegalStateException.class);
+        applied = true;
+
+        if (rootView != null && ViewCompat.isAttachedToWindow(rootView)) {
+            ViewCompat.postOnAnimation(rootView, createApplyRunnable());
+        } else {
+            endBatch();
+        }
+    }
+
+    /**
+     * Applies the changes, which have been made during the transaction, to the dialog's views
+     * immediately in a single pass.
+     */
+    public void applyNow() {
+        ensureTrue(!applied, "The transaction has already been applied",
+                IllegalStateException.class);
+        applied = true;
+        endBatch();
+    }
+
+}
@@ -18,6 +18,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.StyleRes;
 
 import de.mrapp.android.dialog.builder.AbstractListDialogBuilder;
+import de.mrapp.android.dialog.builder.DialogSpec;
 
 /**
  * A dialog, which is designed according to Android 5's Material Design guidelines even on
@@ -70,6 +71,22 @@ public class MaterialDialog extends AbstractListDialog {
             super(context, themeResourceId);
         }
 
+        /**
+         * Creates a new builder, which allows to create dialogs, which are designed according to
+         * Android 5's Material Design guidelines even on pre-Lollipop devices.
+         *
+         * @param context
+         *         The context, which should be used by the builder, as an instance of the class
+         *         {@link Context}. The context may not be null
+         * @param spec
+         *         The specification, which should be applied to the dialog, as an instance of the
+         *         class {@link DialogSpec}. The specification may not be null and must have been
+         *         created by a builder of the same type
+         */
+        public Builder(@NonNull final Context context, @NonNull final DialogSpec spec) {
+            super(context, spec);
+        }
+
         /**
          * Creates a dialog with the arguments, which have been supplied to the builder and
          * immediately displays it.
@@ -14,7 +14,6 @@
 package de.mrapp.android.dialog;
 
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.os.Bundle;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
@@ -26,8 +25,8 @@ import java.util.Map;
 
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.builder.AbstractButtonBarDialogBuilder;
+import de.mrapp.android.dialog.builder.DialogSpec;
 import de.mrapp.android.dialog.model.ProgressDialogDecorator;
-import de.mrapp.android.util.ThemeUtil;
 
 /**
  * A dialog, which is designed according to Android 5's Material Design guidelines even on
@@ -127,11 +126,10 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarColor});
             int defaultColor =
-                    ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setProgressBarColor(typedArray.getColor(0, defaultColor));
+                    getThemeSnapshot().getColor(getContext(), R.attr.colorAccent, 0);
+            setProgressBarColor(getThemeSnapshot()
+                    .getColor(getContext(), R.attr.materialDialogProgressBarColor, defaultColor));
         }
 
         /**
@@ -142,11 +140,11 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarSize(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarSize});
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.circular_progress_bar_size_normal);
-            setProgressBarSize(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setProgressBarSize(getThemeSnapshot()
+                    .getDimensionPixelSize(getContext(), R.attr.materialDialogProgressBarSize,
+                            defaultHeight));
         }
 
         /**
@@ -157,11 +155,11 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarThickness(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarThickness});
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.circular_progress_bar_thickness_normal);
-            setProgressBarThickness(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setProgressBarThickness(getThemeSnapshot()
+                    .getDimensionPixelSize(getContext(), R.attr.materialDialogProgressBarThickness,
+                            defaultHeight));
         }
 
         /**
@@ -172,11 +170,10 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarPosition(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarPosition});
             ProgressBarPosition defaultPosition = ProgressBarPosition.LEFT;
             setProgressBarPosition(ProgressBarPosition
-                    .fromValue(typedArray.getInt(0, defaultPosition.getValue())));
+                    .fromValue(getThemeSnapshot().getInt(R.attr.materialDialogProgressBarPosition,
+                            defaultPosition.getValue())));
         }
 
         /**
@@ -208,6 +205,23 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
             super(context, themeResourceId);
         }
 
+        /**
+         * Creates a new builder, which allows to create dialogs, which are designed according to
+         * Android 5's Material Design guidelines even on pre-Lollipop devices and allow to indicate
+         * a running progress.
+         *
+         * @param context
+         *         The context, which should be used by the builder, as an instance of the class
+         *         {@link Context}. The context may not be null
+         * @param spec
+         *         The specification, which should be applied to the dialog, as an instance of the
+         *         class {@link DialogSpec}. The specification may not be null and must have been
+         *         created by a builder of the same type
+         */
+        public Builder(@NonNull final Context context, @NonNull final DialogSpec spec) {
+            super(context, spec);
+        }
+
         /**
          * Sets the color of the progress bar of the dialog, which is created by the builder.
          *
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.support.annotation.NonNull;
+import android.support.v4.os.TraceCompat;
+
+import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.listener.DecoratorAttachListener;
+import de.mrapp.android.dialog.listener.ShowTraceListener;
+import de.mrapp.android.dialog.model.DialogDecorator;
+import de.mrapp.android.util.datastructure.ListenerList;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A tracer, which allows to measure the time, which is needed by the individual phases of showing
+ * a dialog. Synchronous phases are emitted as sections by using the class {@link TraceCompat} in
+ * order to be visible in systrace. Additionally, the durations of all phases are passed to the
+ * registered listeners. Tracing is disabled by default.
+ *
+ * The attachment of the individual decorators is traced by the decorators themselves. The tracer
+ * must therefore be set at the decorators, which emit a trace section per decorator and notify the
+ * tracer about their durations as a {@link DecoratorAttachListener}.
+ *
+ * The methods of this class must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class ShowTracer implements DecoratorAttachListener {
+
+    /**
+     * Contains all phases of showing a dialog, which are traced.
+     */
+    public enum Phase {
+
+        /**
+         * The phase, when the dialog's layout is inflated.
+         */
+        INFLATION("inflate"),
+
+        /**
+         * The phase, when the dialog's decorators are attached.
+         */
+        DECORATOR_ATTACHMENT("attachDecorators"),
+
+        /**
+         * The phase, when the dialog's areas are added to its root view.
+         */
+        AREA_ADDITION("addAreas"),
+
+        /**
+         * The phase, when the padding of the dialog's areas is adapted.
+         */
+        AREA_PADDING("adaptAreaPadding"),
+
+        /**
+         * The phase, which lasts from adding the dialog's areas until the dialog is about to be
+         * drawn for the first time, i.e. until it has been measured and layouted. This phase spans
+         * multiple frames and is therefore not emitted as a trace section.
+         */
+        FIRST_LAYOUT("firstLayout"),
+
+        /**
+         * The phase, when the animation, which is used to show the dialog, is running. This
+         * phase spans multiple frames and is therefore not emitted as a trace section.
+         */
+        SHOW_ANIMATION("showAnimation");
+
+        /**
+         * The name of the phase, which is used for trace sections.
+         */
+        private final String sectionName;
+
+        /**
+         * Creates a new phase.
+         *
+         * @param sectionName
+         *         The name of the phase, which should be used for trace sections, as a {@link
+         *         String}. The name may not be null
+         */
+        Phase(@NonNull final String sectionName) {
+            this.sectionName = sectionName;
+        }
+
+    }
+
+    /**
+     * The value, which is returned instead of a start time, if tracing is disabled.
+     */
+    private static final long DISABLED = -1;
+
+    /**
+     * The maximum length of the names of trace sections.
+     */
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    /**
+     * The name of the traced dialog, which is used as the prefix of trace sections.
+     */
+    private final String name;
+
+    /**
+     * The listeners, which are notified about the durations of the traced phases.
+     */
+    private final ListenerList<ShowTraceListener> listeners;
+
+    /**
+     * True, if tracing is enabled, false otherwise.
+     */
+    private boolean enabled;
+
+    /**
+     * Begins a new trace section.
+     *
+     * @param sectionName
+     *         The name of the trace section, which should be begun, as a {@link String}. The name
+     *         may not be null
+     */
+    private void beginSection(@NonNull final String sectionName) {
+        String fullName = name + "#" + sectionName;
+        TraceCompat.beginSection(fullName.length() > MAX_SECTION_NAME_LENGTH ?
+                fullName.substring(0, MAX_SECTION_NAME_LENGTH) : fullName);
+    }
+
+    /**
+     * Creates a new tracer, which allows to measure the time, which is needed by the individual
+     * phases of showing a dialog.
+     *
+     * @param name
+     *         The name of the traced dialog, which should be used as the prefix of trace sections,
+     *         as a {@link String}. The name may not be null
+     */
+    public ShowTracer(@NonNull final String name) {
+        ensureNotNull(name, "The name may not be null");
+        this.name = name;
+        this.listeners = new ListenerList<>();
+        this.enabled = false;
+    }
+
+    /**
+     * Returns, whether tracing is enabled, or not.
+     *
+     * @return True, if tracing is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets, whether tracing should be enabled, or not.
+     *
+     * @param enabled
+     *         True, if tracing should be enabled, false otherwise
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Adds a new listener, which should be notified about the durations of the traced phases.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public void addListener(@NonNull final ShowTraceListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified about the durations of the traced
+     * phases, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         ShowTraceListener}. The listener may not be null
+     */
+    public void removeListener(@NonNull final ShowTraceListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+        listeners.remove(listener);
+    }
+
+    /**
+     * Begins to trace a specific phase. Unless the phase spans multiple frames, a trace section is
+     * begun, which must be ended by calling the method {@link #endPhase(Phase, long)} on the same
+     * thread.
+     *
+     * @param phase
+     *         The phase, which should be traced, as a value of the enum {@link Phase}. The phase
+     *         may not be null
+     * @return The start time of the phase in nanoseconds as a {@link Long} value or -1, if tracing
+     * is disabled
+     */
+    public long beginPhase(@NonNull final Phase phase) {
+        if (enabled) {
+            if (phase != Phase.FIRST_LAYOUT && phase != Phase.SHOW_ANIMATION) {
+                beginSection(phase.sectionName);
+            }
+
+            return System.nanoTime();
+        }
+
+        return DISABLED;
+    }
+
+    /**
+     * Ends to trace a specific phase.
+     *
+     * @param phase
+     *         The phase, which should be ended, as a value of the enum {@link Phase}. The phase may
+     *         not be null
+     * @param startTime
+     *         The start time of the phase in nanoseconds, which has been returned by the method
+     *         {@link #beginPhase(Phase)}, as a {@link Long} value
+     */
+    public void endPhase(@NonNull final Phase phase, final long startTime) {
+        if (startTime != DISABLED) {
+            long duration = System.nanoTime() - startTime;
+
+            if (phase != Phase.FIRST_LAYOUT && phase != Phase.SHOW_ANIMATION) {
+                TraceCompat.endSection();
+            }
+
+            for (ShowTraceListener listener : listeners) {
+                listener.onPhaseTraced(phase, duration);
+            }
+        }
+    }
+
+    /**
+     * Begins to trace the addition of a specific area. A trace section is begun, which must be
+     * ended by calling the method {@link #endArea(Area, long)} on the same thread.
+     *
+     * @param area
+     *         The area, whose addition should be traced, as a value of the enum {@link Area}. The
+     *         area may not be null
+     * @return The start time in nanoseconds as a {@link Long} value or -1, if tracing is disabled
+     */
+    public long beginArea(@NonNull final Area area) {
+        if (enabled) {
+            beginSection(area.name());
+            return System.nanoTime();
+        }
+
+        return DISABLED;
+    }
+
+    /**
+     * Ends to trace the addition of a specific area.
+     *
+     * @param area
+     *         The area, whose addition has been traced, as a value of the enum {@link Area}. The
+     *         area may not be null
+     * @param startTime
+     *         The start time in nanoseconds, which has been returned by the method {@link
+     *         #beginArea(Area)}, as a {@link Long} value
+     */
+    public void endArea(@NonNull final Area area, final long startTime) {
+        if (startTime != DISABLED) {
+            long duration = System.nanoTime() - startTime;
+            TraceCompat.endSection();
+
+            for (ShowTraceListener listener : listeners) {
+                listener.onAreaTraced(area, duration);
+            }
+        }
+    }
+
+    @Override
+    public void onDecoratorAttached(@NonNull final DialogDecorator decorator, final long duration,
+                                    final boolean deferred) {
+        if (enabled) {
+            for (ShowTraceListener listener : listeners) {
+                listener.onDecoratorTraced(decorator, duration);
+            }
+        }
+    }
+
+    @Override
+    public void onDecoratorAttachDeferred(@NonNull final DialogDecorator decorator) {
+
+    }
+
+}
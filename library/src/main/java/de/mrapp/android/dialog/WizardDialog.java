@@ -14,7 +14,6 @@
 package de.mrapp.android.dialog;
 
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.os.Bundle;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
@@ -33,8 +32,8 @@ import android.widget.Button;
 
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.builder.AbstractHeaderDialogBuilder;
+import de.mrapp.android.dialog.builder.DialogSpec;
 import de.mrapp.android.dialog.model.WizardDialogDecorator;
-import de.mrapp.android.util.ThemeUtil;
 
 import static de.mrapp.android.util.Condition.ensureNotNull;
 
@@ -178,10 +177,9 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabPosition(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabPosition});
             TabPosition defaultPosition = TabPosition.PREFER_HEADER;
-            setTabPosition(TabPosition.fromValue(typedArray.getInt(0, defaultPosition.getValue())));
+            setTabPosition(TabPosition.fromValue(getThemeSnapshot()
+                    .getInt(R.attr.materialDialogTabPosition, defaultPosition.getValue())));
         }
 
         /**
@@ -193,9 +191,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainEnableTabLayout(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogEnableTabLayout});
-            enableTabLayout(typedArray.getBoolean(0, true));
+            enableTabLayout(
+                    getThemeSnapshot().getBoolean(R.attr.materialDialogEnableTabLayout, true));
         }
 
         /**
@@ -206,9 +203,7 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowTabLayout(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowTabLayout});
-            showTabLayout(typedArray.getBoolean(0, true));
+            showTabLayout(getThemeSnapshot().getBoolean(R.attr.materialDialogShowTabLayout, true));
         }
 
         /**
@@ -219,11 +214,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         Integer} value
          */
         private void obtainTabIndicatorHeight(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabIndicatorHeight});
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.dialog_tab_indicator_height);
-            setTabIndicatorHeight(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setTabIndicatorHeight(getThemeSnapshot()
+                    .getDimensionPixelSize(getContext(), R.attr.materialDialogTabIndicatorHeight,
+                            defaultHeight));
         }
 
         /**
@@ -234,11 +229,10 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         Integer} value
          */
         private void obtainTabIndicatorColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabIndicatorColor});
             int defaultColor =
-                    ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setTabIndicatorColor(typedArray.getColor(0, defaultColor));
+                    getThemeSnapshot().getColor(getContext(), R.attr.colorAccent, 0);
+            setTabIndicatorColor(getThemeSnapshot()
+                    .getColor(getContext(), R.attr.materialDialogTabIndicatorColor, defaultColor));
         }
 
         /**
@@ -249,11 +243,10 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabTextColor});
-            int defaultColor = ThemeUtil
-                    .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-            setTabTextColor(typedArray.getColor(0, defaultColor));
+            int defaultColor = getThemeSnapshot()
+                    .getColor(getContext(), android.R.attr.textColorSecondary, 0);
+            setTabTextColor(getThemeSnapshot()
+                    .getColor(getContext(), R.attr.materialDialogTabTextColor, defaultColor));
         }
 
         /**
@@ -264,11 +257,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabSelectedTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabSelectedTextColor});
-            int defaultColor = ThemeUtil
-                    .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-            setTabSelectedTextColor(typedArray.getColor(0, defaultColor));
+            int defaultColor = getThemeSnapshot()
+                    .getColor(getContext(), android.R.attr.textColorSecondary, 0);
+            setTabSelectedTextColor(getThemeSnapshot()
+                    .getColor(getContext(), R.attr.materialDialogTabSelectedTextColor,
+                            defaultColor));
         }
 
         /**
@@ -280,9 +273,7 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainEnableSwipe(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogEnableSwipe});
-            enableSwipe(typedArray.getBoolean(0, true));
+            enableSwipe(getThemeSnapshot().getBoolean(R.attr.materialDialogEnableSwipe, true));
         }
 
         /**
@@ -293,9 +284,7 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowButtonBar(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowButtonBar});
-            showButtonBar(typedArray.getBoolean(0, true));
+            showButtonBar(getThemeSnapshot().getBoolean(R.attr.materialDialogShowButtonBar, true));
         }
 
         /**
@@ -306,11 +295,10 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainButtonTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogButtonTextColor});
             int defaultColor =
-                    ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setButtonTextColor(typedArray.getColor(0, defaultColor));
+                    getThemeSnapshot().getColor(getContext(), R.attr.colorAccent, 0);
+            setButtonTextColor(getThemeSnapshot()
+                    .getColor(getContext(), R.attr.materialDialogButtonTextColor, defaultColor));
         }
 
         /**
@@ -321,10 +309,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainBackButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogBackButtonText});
             CharSequence defaultText = getContext().getText(R.string.back_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = getThemeSnapshot().getText(R.attr.materialDialogBackButtonText);
             setBackButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -336,10 +322,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainNextButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogNextButtonText});
             CharSequence defaultText = getContext().getText(R.string.next_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = getThemeSnapshot().getText(R.attr.materialDialogNextButtonText);
             setNextButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -351,10 +335,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainFinishButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogFinishButtonText});
             CharSequence defaultText = getContext().getText(R.string.finish_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = getThemeSnapshot().getText(R.attr.materialDialogFinishButtonText);
             setFinishButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -367,9 +349,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowButtonBarDivider(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowButtonBarDivider});
-            showButtonBarDivider(typedArray.getBoolean(0, false));
+            showButtonBarDivider(getThemeSnapshot()
+                    .getBoolean(R.attr.materialDialogShowButtonBarDivider, false));
         }
 
         /**
@@ -401,6 +382,23 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
             super(context, themeResourceId);
         }
 
+        /**
+         * Creates a new builder, which allows to create dialogs, which are designed according to
+         * Android 5's Material Design guidelines even on pre-Lollipop devices and provide a
+         * navigation for switching between multiple fragments.
+         *
+         * @param context
+         *         The context, which should be used by the builder, as an instance of the class
+         *         {@link Context}. The context may not be null
+         * @param spec
+         *         The specification, which should be applied to the dialog, as an instance of the
+         *         class {@link DialogSpec}. The specification may not be null and must have been
+         *         created by a builder of the same type
+         */
+        public Builder(@NonNull final Context context, @NonNull final DialogSpec spec) {
+            super(context, spec);
+        }
+
         /**
          * Adds a new fragment to the dialog, which is created by the builder.
          *
@@ -16,6 +16,7 @@ package de.mrapp.android.dialog.adapter;
 import android.content.Context;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
@@ -35,6 +36,42 @@ import de.mrapp.android.dialog.R;
  */
 public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
 
+    /**
+     * A view holder, which stores references to the views of an item, as well as the properties,
+     * which have already been applied to them.
+     */
+    private static class ViewHolder {
+
+        /**
+         * The text view, which is used to show the item's text.
+         */
+        private final TextView textView;
+
+        /**
+         * The text color, which has been applied to the text view, or -1, if no text color has
+         * been applied yet.
+         */
+        private int itemColor;
+
+        /**
+         * Creates a new view holder.
+         *
+         * @param textView
+         *         The text view, which is used to show the item's text, as an instance of the class
+         *         {@link TextView}. The text view may not be null
+         */
+        ViewHolder(@NonNull final TextView textView) {
+            this.textView = textView;
+            this.itemColor = -1;
+        }
+
+    }
+
+    /**
+     * The resource id of the layout, which is used by the adapter.
+     */
+    private final int resourceId;
+
     /**
      * The id of the text view within the adapter's layout resource to be populated.
      */
@@ -45,6 +82,67 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
      */
     private int itemColor;
 
+    /**
+     * The left padding of the adapter's items in pixels.
+     */
+    private int leftPadding;
+
+    /**
+     * The right padding of the adapter's items in pixels.
+     */
+    private int rightPadding;
+
+    /**
+     * Obtains the left and right padding of the adapter's items from the context's resources.
+     */
+    private void obtainPadding() {
+        leftPadding =
+                getContext().getResources().getDimensionPixelSize(R.dimen.dialog_left_padding);
+        rightPadding =
+                getContext().getResources().getDimensionPixelSize(R.dimen.dialog_right_padding);
+    }
+
+    /**
+     * Inflates the view, which is used to visualize an item, and creates the corresponding view
+     * holder.
+     *
+     * @param parent
+     *         The parent, the view will be attached to, as an instance of the class {@link
+     *         ViewGroup}. The parent may not be null
+     * @return The view, which has been inflated, as an instance of the class {@link View}. The
+     * view may not be null
+     */
+    @NonNull
+    private View inflateView(@NonNull final ViewGroup parent) {
+        View view = LayoutInflater.from(getContext()).inflate(resourceId, parent, false);
+        createViewHolder(view);
+        return view;
+    }
+
+    /**
+     * Creates the view holder of a specific view and adapts the view's padding.
+     *
+     * @param view
+     *         The view, the view holder should be created for, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @return The view holder, which has been created, as an instance of the class {@link
+     * ViewHolder}. The view holder may not be null
+     */
+    @NonNull
+    private ViewHolder createViewHolder(@NonNull final View view) {
+        View textView = textViewResourceId != -1 ? view.findViewById(textViewResourceId) : view;
+
+        if (!(textView instanceof TextView)) {
+            throw new IllegalStateException(
+                    "ArrayAdapter requires the resource ID to be a TextView");
+        }
+
+        ViewHolder viewHolder = new ViewHolder((TextView) textView);
+        view.setTag(R.id.array_adapter_view_holder, viewHolder);
+        view.setPadding(leftPadding, view.getPaddingTop(), rightPadding, view.getPaddingBottom());
+        return viewHolder;
+    }
+
     /**
      * Creates a new array adapter.
      *
@@ -57,8 +155,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
      */
     public ArrayAdapter(@NonNull final Context context, final int resourceId) {
         super(context, resourceId);
+        this.resourceId = resourceId;
         this.textViewResourceId = -1;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -77,8 +177,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     public ArrayAdapter(@NonNull final Context context, final int resourceId,
                         final int textViewResourceId) {
         super(context, resourceId, textViewResourceId);
+        this.resourceId = resourceId;
         this.textViewResourceId = textViewResourceId;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -97,8 +199,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     public ArrayAdapter(@NonNull final Context context, final int resourceId,
                         @NonNull final Type[] items) {
         super(context, resourceId, items);
+        this.resourceId = resourceId;
         this.textViewResourceId = -1;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -120,8 +224,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     public ArrayAdapter(@NonNull final Context context, final int resourceId,
                         final int textViewResourceId, @NonNull final Type[] items) {
         super(context, resourceId, textViewResourceId, items);
+        this.resourceId = resourceId;
         this.textViewResourceId = textViewResourceId;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -140,8 +246,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     public ArrayAdapter(@NonNull final Context context, final int resourceId,
                         @NonNull final List<Type> items) {
         super(context, resourceId, items);
+        this.resourceId = resourceId;
         this.textViewResourceId = -1;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -163,8 +271,10 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     public ArrayAdapter(@NonNull final Context context, final int resourceId,
                         final int textViewResourceId, @NonNull final List<Type> items) {
         super(context, resourceId, textViewResourceId, items);
+        this.resourceId = resourceId;
         this.textViewResourceId = textViewResourceId;
         this.itemColor = -1;
+        obtainPadding();
     }
 
     /**
@@ -193,34 +303,31 @@ public class ArrayAdapter<Type> extends android.widget.ArrayAdapter<Type> {
     @Override
     public final View getView(final int position, final View convertView,
                               @NonNull final ViewGroup parent) {
-        View view = super.getView(position, convertView, parent);
-        int leftPadding =
-                getContext().getResources().getDimensionPixelSize(R.dimen.dialog_left_padding);
-        int rightPadding =
-                getContext().getResources().getDimensionPixelSize(R.dimen.dialog_right_padding);
-        view.setPadding(leftPadding, view.getPaddingTop(), rightPadding, view.getPaddingBottom());
-
-        if (getItemColor() != -1) {
-            TextView textView = null;
+        View view = convertView;
+        ViewHolder viewHolder;
 
-            if (textViewResourceId != -1) {
-                View childView = view.findViewById(textViewResourceId);
+        if (view == null) {
+            view = inflateView(parent);
+            viewHolder = (ViewHolder) view.getTag(R.id.array_adapter_view_holder);
+        } else {
+            viewHolder = (ViewHolder) view.getTag(R.id.array_adapter_view_holder);
 
-                if (childView instanceof TextView) {
-                    textView = (TextView) childView;
-                }
+            if (viewHolder == null) {
+                viewHolder = createViewHolder(view);
             }
+        }
 
-            if (textView == null && view instanceof TextView) {
-                textView = (TextView) view;
-            }
+        Type item = getItem(position);
+        viewHolder.textView
+                .setText(item instanceof CharSequence ? (CharSequence) item : String.valueOf(item));
+        int itemColor = getItemColor();
 
-            if (textView != null) {
-                textView.setTextColor(getItemColor());
-            }
+        if (itemColor != -1 && viewHolder.itemColor != itemColor) {
+            viewHolder.textView.setTextColor(itemColor);
+            viewHolder.itemColor = itemColor;
         }
 
         return view;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,907 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import android.database.DataSetObserver;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.util.DiffUtil;
+import android.support.v7.util.ListUpdateCallback;
+import android.support.v7.widget.RecyclerView;
+import android.util.TypedValue;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Checkable;
+import android.widget.FrameLayout;
+import android.widget.ListAdapter;
+import android.widget.ListView;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureAtMaximum;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An adapter, which allows to show the items of a {@link ListAdapter} in a {@link RecyclerView}.
+ * The views of the items are created by the wrapped adapter, which allows to reuse existing list
+ * adapters. When the wrapped adapter is replaced or notifies about changes, the differences are
+ * calculated by using {@link DiffUtil} in order to only update the affected items. Differences,
+ * which are caused by changes of the wrapped adapter, are calculated on a background thread. The
+ * previous items are shown until the calculation has been finished. Items are identified by stable
+ * ids, which are either provided by the wrapped adapter, or are assigned by this adapter. Items,
+ * which are equal to their previous version, are not bound again. Items, whose contents change,
+ * must therefore implement the method {@link Object#equals(Object)} accordingly.
+ *
+ * Like a {@link ListView}, the adapter supports the choice modes
+ * <code>ListView.CHOICE_MODE_NONE</code>, <code>ListView.CHOICE_MODE_SINGLE</code> and
+ * <code>ListView.CHOICE_MODE_MULTIPLE</code>.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapter.ViewHolder> {
+
+    /**
+     * Defines the interface, a class, which should be notified, when an item of a {@link
+     * RecyclerViewAdapter} has been clicked, must implement.
+     */
+    public interface OnItemClickListener {
+
+        /**
+         * The method, which is invoked, when an item has been clicked.
+         *
+         * @param adapter
+         *         The adapter, the item belongs to, as an instance of the class {@link
+         *         RecyclerViewAdapter}. The adapter may not be null
+         * @param view
+         *         The view, which has been clicked, as an instance of the class {@link View}. The
+         *         view may not be null
+         * @param position
+         *         The position of the item, which has been clicked, as an {@link Integer} value
+         * @param id
+         *         The id of the item, which has been clicked, as a {@link Long} value
+         */
+        void onItemClick(@NonNull RecyclerViewAdapter adapter, @NonNull View view, int position,
+                         long id);
+
+    }
+
+    /**
+     * A view holder, which contains the view of an item, which has been created by the wrapped
+     * adapter.
+     */
+    public static class ViewHolder extends RecyclerView.ViewHolder {
+
+        /**
+         * The container, which contains the view of the item.
+         */
+        private final FrameLayout container;
+
+        /**
+         * Creates a new view holder.
+         *
+         * @param container
+         *         The container, which contains the view of the item, as an instance of the class
+         *         {@link FrameLayout}. The container may not be null
+         */
+        ViewHolder(@NonNull final FrameLayout container) {
+            super(container);
+            this.container = container;
+        }
+
+    }
+
+    /**
+     * The payload, which is used to indicate that only the checked state of an item must be
+     * updated.
+     */
+    private static final Object CHECKED_STATE_PAYLOAD = new Object();
+
+    /**
+     * The handler, which is used to pass the results of calculating differences to the UI thread.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The executor, which is used to calculate differences in the background.
+     */
+    private static ExecutorService diffExecutor;
+
+    /**
+     * The observer, which is registered at the wrapped adapter.
+     */
+    private final DataSetObserver dataSetObserver;
+
+    /**
+     * The callback, which is used to apply the differences between the previous and the new
+     * items.
+     */
+    private final ListUpdateCallback listUpdateCallback;
+
+    /**
+     * A bit set, which contains the positions of the items, which are currently checked.
+     */
+    private final BitSet checkedItems;
+
+    /**
+     * The wrapped adapter.
+     */
+    private ListAdapter listAdapter;
+
+    /**
+     * The choice mode of the adapter.
+     */
+    private int choiceMode;
+
+    /**
+     * The listener, which is notified, when an item has been clicked.
+     */
+    private OnItemClickListener itemClickListener;
+
+    /**
+     * The resource id of the background, which is applied to the views of items.
+     */
+    private int itemBackgroundId = -1;
+
+    /**
+     * The number of recycler views, the adapter is attached to.
+     */
+    private int attachedRecyclerViews;
+
+    /**
+     * An array, which contains the items of the wrapped adapter, as they have been shown most
+     * recently.
+     */
+    private Object[] items;
+
+    /**
+     * An array, which contains the ids of the items, as they have been shown most recently.
+     */
+    private long[] itemIds;
+
+    /**
+     * The id, which is assigned to the next item, if the wrapped adapter does not provide stable
+     * ids.
+     */
+    private long nextItemId;
+
+    /**
+     * The token, which identifies the differences, which are currently calculated in the
+     * background, or null, if no differences are calculated.
+     */
+    private Object updateToken;
+
+    /**
+     * Returns the executor, which is used to calculate differences in the background. If the
+     * executor has not been created yet, it is created.
+     *
+     * @return The executor, which is used to calculate differences in the background, as an
+     * instance of the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized Executor getDiffExecutor() {
+        if (diffExecutor == null) {
+            diffExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            RecyclerViewAdapter.class.getSimpleName() + "::diffThread");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return diffExecutor;
+    }
+
+    /**
+     * Inserts a specific number of unset bits into a bit set. The bits at or after the given
+     * position are shifted accordingly.
+     *
+     * @param bitSet
+     *         The bit set as an instance of the class {@link BitSet}. The bit set may not be null
+     * @param position
+     *         The position, the bits should be inserted at, as an {@link Integer} value
+     * @param count
+     *         The number of bits, which should be inserted, as an {@link Integer} value
+     */
+    private static void insertBits(@NonNull final BitSet bitSet, final int position,
+                                   final int count) {
+        int length = bitSet.length();
+
+        if (position < length) {
+            BitSet tail = bitSet.get(position, length);
+            bitSet.clear(position, length);
+
+            for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+                bitSet.set(position + count + i);
+            }
+        }
+    }
+
+    /**
+     * Removes a specific number of bits from a bit set. The bits after the removed ones are
+     * shifted accordingly.
+     *
+     * @param bitSet
+     *         The bit set as an instance of the class {@link BitSet}. The bit set may not be null
+     * @param position
+     *         The position of the first bit, which should be removed, as an {@link Integer} value
+     * @param count
+     *         The number of bits, which should be removed, as an {@link Integer} value
+     */
+    private static void removeBits(@NonNull final BitSet bitSet, final int position,
+                                   final int count) {
+        int length = bitSet.length();
+
+        if (position < length) {
+            BitSet tail = bitSet.get(Math.min(position + count, length), length);
+            bitSet.clear(position, length);
+
+            for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+                bitSet.set(position + i);
+            }
+        }
+    }
+
+    /**
+     * Returns, whether two objects are equal, or not.
+     *
+     * @param a
+     *         The first object as an instance of the class {@link Object} or null
+     * @param b
+     *         The second object as an instance of the class {@link Object} or null
+     * @return True, if both objects are equal, false otherwise
+     */
+    private static boolean equal(@Nullable final Object a, @Nullable final Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Creates and returns an observer, which allows to update the adapter, when the wrapped adapter
+     * has been changed.
+     *
+     * @return The observer, which has been created, as an instance of the class {@link
+     * DataSetObserver}. The observer may not be null
+     */
+    @NonNull
+    private DataSetObserver createDataSetObserver() {
+        return new DataSetObserver() {
+
+            @Override
+            public void onChanged() {
+                update(listAdapter, true);
+            }
+
+            @Override
+            public void onInvalidated() {
+                update(listAdapter, true);
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a callback, which allows to shift the checked items and to notify the
+     * recycler view, when the differences between the previous and the new items are applied.
+     *
+     * @return The callback, which has been created, as an instance of the type {@link
+     * ListUpdateCallback}. The callback may not be null
+     */
+    @NonNull
+    private ListUpdateCallback createListUpdateCallback() {
+        return new ListUpdateCallback() {
+
+            @Override
+            public void onInserted(final int position, final int count) {
+                insertBits(checkedItems, position, count);
+                notifyItemRangeInserted(position, count);
+            }
+
+            @Override
+            public void onRemoved(final int position, final int count) {
+                removeBits(checkedItems, position, count);
+                notifyItemRangeRemoved(position, count);
+            }
+
+            @Override
+            public void onMoved(final int fromPosition, final int toPosition) {
+                boolean checked = checkedItems.get(fromPosition);
+                removeBits(checkedItems, fromPosition, 1);
+                insertBits(checkedItems, toPosition, 1);
+                checkedItems.set(toPosition, checked);
+                notifyItemMoved(fromPosition, toPosition);
+            }
+
+            @Override
+            public void onChanged(final int position, final int count, final Object payload) {
+                notifyItemRangeChanged(position, count, payload);
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a callback, which allows to calculate the differences between the items,
+     * which have been shown most recently, and the items of an adapter. The callback does not
+     * access the adapter and can therefore be used on a background thread.
+     *
+     * @param newItems
+     *         An array, which contains the items of the adapter, as an {@link Object} array. The
+     *         array may not be null
+     * @param newAdapterItemIds
+     *         An array, which contains the stable ids of the items of the adapter, as a {@link
+     *         Long} array or null, if the adapter does not provide stable ids
+     * @return The callback, which has been created, as an instance of the class {@link
+     * DiffUtil.Callback}. The callback may not be null
+     */
+    @NonNull
+    private DiffUtil.Callback createDiffCallback(@NonNull final Object[] newItems,
+                                                 @Nullable final long[] newAdapterItemIds) {
+        final Object[] oldItems = items;
+        final long[] oldItemIds = itemIds;
+
+        return new DiffUtil.Callback() {
+
+            @Override
+            public int getOldListSize() {
+                return oldItems.length;
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newItems.length;
+            }
+
+            @Override
+            public boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+                if (newAdapterItemIds != null) {
+                    return oldItemIds[oldItemPosition] == newAdapterItemIds[newItemPosition];
+                }
+
+                return equal(oldItems[oldItemPosition], newItems[newItemPosition]);
+            }
+
+            @Override
+            public boolean areContentsTheSame(final int oldItemPosition,
+                                              final int newItemPosition) {
+                return equal(oldItems[oldItemPosition], newItems[newItemPosition]);
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to calculate differences in the background and
+     * to apply them on the UI thread afterwards.
+     *
+     * @param token
+     *         The token, which identifies the calculation, as an instance of the class {@link
+     *         Object}. The token may not be null
+     * @param callback
+     *         The callback, which should be used to calculate the differences, as an instance of
+     *         the class {@link DiffUtil.Callback}. The callback may not be null
+     * @param newItems
+     *         An array, which contains the new items, as an {@link Object} array. The array may
+     *         not be null
+     * @param newAdapterItemIds
+     *         An array, which contains the stable ids of the new items, as a {@link Long} array or
+     *         null, if the wrapped adapter does not provide stable ids
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createDiffRunnable(@NonNull final Object token,
+                                        @NonNull final DiffUtil.Callback callback,
+                                        @NonNull final Object[] newItems,
+                                        @Nullable final long[] newAdapterItemIds) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                final DiffUtil.DiffResult result = DiffUtil.calculateDiff(callback);
+                HANDLER.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (updateToken == token) {
+                            updateToken = null;
+                            applyDiff(result, newItems, newAdapterItemIds);
+                        }
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    /**
+     * Updates the items, which are shown by the adapter, to match the items of a specific adapter.
+     *
+     * @param newAdapter
+     *         The adapter as an instance of the type {@link ListAdapter}. The adapter may not be
+     *         null
+     * @param async
+     *         True, if the differences between the previous and the new items should be
+     *         calculated in the background, false otherwise
+     */
+    private void update(@NonNull final ListAdapter newAdapter, final boolean async) {
+        int count = newAdapter.getCount();
+        Object[] newItems = new Object[count];
+        long[] newAdapterItemIds = newAdapter.hasStableIds() ? new long[count] : null;
+        updateToken = null;
+
+        for (int i = 0; i < count; i++) {
+            newItems[i] = newAdapter.getItem(i);
+
+            if (newAdapterItemIds != null) {
+                newAdapterItemIds[i] = newAdapter.getItemId(i);
+            }
+        }
+
+        if (items == null || items.length == 0 || count == 0) {
+            items = newItems;
+            itemIds = newAdapterItemIds != null ? newAdapterItemIds : assignItemIds(count, null);
+            checkedItems.clear(count, Math.max(count, checkedItems.length()));
+            notifyDataSetChanged();
+        } else {
+            DiffUtil.Callback callback = createDiffCallback(newItems, newAdapterItemIds);
+
+            if (async) {
+                Object token = new Object();
+                updateToken = token;
+                getDiffExecutor()
+                        .execute(createDiffRunnable(token, callback, newItems, newAdapterItemIds));
+            } else {
+                applyDiff(DiffUtil.calculateDiff(callback), newItems, newAdapterItemIds);
+            }
+        }
+    }
+
+    /**
+     * Applies the differences between the items, which have been shown most recently, and new
+     * items.
+     *
+     * @param result
+     *         The differences as an instance of the class {@link DiffUtil.DiffResult}. The
+     *         differences may not be null
+     * @param newItems
+     *         An array, which contains the new items, as an {@link Object} array. The array may
+     *         not be null
+     * @param newAdapterItemIds
+     *         An array, which contains the stable ids of the new items, as a {@link Long} array or
+     *         null, if the wrapped adapter does not provide stable ids
+     */
+    private void applyDiff(@NonNull final DiffUtil.DiffResult result,
+                           @NonNull final Object[] newItems,
+                           @Nullable final long[] newAdapterItemIds) {
+        itemIds = newAdapterItemIds != null ? newAdapterItemIds :
+                assignItemIds(newItems.length, result);
+        items = newItems;
+        result.dispatchUpdatesTo(listUpdateCallback);
+    }
+
+    /**
+     * Assigns ids to new items, if the wrapped adapter does not provide stable ids. Items, which
+     * have been shown before, retain their previous ids.
+     *
+     * @param count
+     *         The number of new items as an {@link Integer} value
+     * @param result
+     *         The differences between the previous and the new items as an instance of the class
+     *         {@link DiffUtil.DiffResult} or null, if no items have been shown before
+     * @return An array, which contains the ids of the new items, as a {@link Long} array. The array
+     * may not be null
+     */
+    @NonNull
+    private long[] assignItemIds(final int count, @Nullable final DiffUtil.DiffResult result) {
+        long[] newItemIds = new long[count];
+        boolean[] assigned = new boolean[count];
+
+        if (itemIds != null && result != null) {
+            for (int i = 0; i < itemIds.length; i++) {
+                int newPosition = result.convertOldPositionToNew(i);
+
+                if (newPosition != DiffUtil.DiffResult.NO_POSITION) {
+                    newItemIds[newPosition] = itemIds[i];
+                    assigned[newPosition] = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (!assigned[i]) {
+                newItemIds[i] = nextItemId++;
+            }
+        }
+
+        return newItemIds;
+    }
+
+    /**
+     * Returns the resource id of the background, which should be applied to the views of items.
+     *
+     * @param parent
+     *         The parent of the views as an instance of the class {@link ViewGroup}. The parent may
+     *         not be null
+     * @return The resource id of the background, which should be applied to the views of items, as
+     * an {@link Integer} value or 0, if no background should be applied
+     */
+    private int getItemBackgroundId(@NonNull final ViewGroup parent) {
+        if (itemBackgroundId == -1) {
+            TypedValue typedValue = new TypedValue();
+            itemBackgroundId = parent.getContext().getTheme()
+                    .resolveAttribute(android.R.attr.selectableItemBackground, typedValue, true) ?
+                    typedValue.resourceId : 0;
+        }
+
+        return itemBackgroundId;
+    }
+
+    /**
+     * Creates and returns a listener, which allows to handle clicks on the view of a specific view
+     * holder.
+     *
+     * @param viewHolder
+     *         The view holder as an instance of the class {@link ViewHolder}. The view holder may
+     *         not be null
+     * @return The listener, which has been created, as an instance of the type {@link
+     * View.OnClickListener}. The listener may not be null
+     */
+    @NonNull
+    private View.OnClickListener createItemClickListener(@NonNull final ViewHolder viewHolder) {
+        return new View.OnClickListener() {
+
+            @Override
+            public void onClick(final View view) {
+                int position = viewHolder.getAdapterPosition();
+
+                if (position != RecyclerView.NO_POSITION) {
+                    performItemClick(view, position);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Handles a click on a specific item by adapting the checked items, depending on the choice
+     * mode, and notifying the listener.
+     *
+     * @param view
+     *         The view, which has been clicked, as an instance of the class {@link View}. The view
+     *         may not be null
+     * @param position
+     *         The position of the item, which has been clicked, as an {@link Integer} value
+     */
+    private void performItemClick(@NonNull final View view, final int position) {
+        if (choiceMode == ListView.CHOICE_MODE_SINGLE) {
+            setItemChecked(position, true);
+        } else if (choiceMode == ListView.CHOICE_MODE_MULTIPLE) {
+            setItemChecked(position, !isItemChecked(position));
+        }
+
+        if (itemClickListener != null) {
+            itemClickListener.onItemClick(this, view, position, getItemId(position));
+        }
+    }
+
+    /**
+     * Applies the checked state of a specific item to the view of a view holder.
+     *
+     * @param viewHolder
+     *         The view holder as an instance of the class {@link ViewHolder}. The view holder may
+     *         not be null
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     */
+    private void bindCheckedState(@NonNull final ViewHolder viewHolder, final int position) {
+        boolean checked = isItemChecked(position);
+        View view = viewHolder.container.getChildAt(0);
+        viewHolder.container.setActivated(checked);
+
+        if (view instanceof Checkable) {
+            ((Checkable) view).setChecked(checked);
+        }
+    }
+
+    /**
+     * Creates a new adapter, which allows to show the items of a {@link ListAdapter} in a {@link
+     * RecyclerView}.
+     *
+     * @param listAdapter
+     *         The adapter, which should be wrapped, as an instance of the type {@link
+     *         ListAdapter}. The adapter may not be null
+     */
+    public RecyclerViewAdapter(@NonNull final ListAdapter listAdapter) {
+        ensureNotNull(listAdapter, "The adapter may not be null");
+        this.dataSetObserver = createDataSetObserver();
+        this.listUpdateCallback = createListUpdateCallback();
+        this.checkedItems = new BitSet();
+        this.listAdapter = listAdapter;
+        this.choiceMode = ListView.CHOICE_MODE_NONE;
+        this.items = null;
+        this.itemIds = null;
+        this.nextItemId = 0;
+        this.updateToken = null;
+        setHasStableIds(true);
+        update(listAdapter, false);
+    }
+
+    /**
+     * Returns the wrapped adapter.
+     *
+     * @return The wrapped adapter as an instance of the type {@link ListAdapter}. The adapter may
+     * not be null
+     */
+    @NonNull
+    public final ListAdapter getListAdapter() {
+        return listAdapter;
+    }
+
+    /**
+     * Replaces the wrapped adapter. Only the items, which differ from the items of the previous
+     * adapter, are updated. All items are unchecked. Unlike changes of the wrapped adapter, the
+     * differences are calculated synchronously, which allows to check items of the new adapter
+     * immediately afterwards.
+     *
+     * @param listAdapter
+     *         The adapter, which should be wrapped, as an instance of the type {@link
+     *         ListAdapter}. The adapter may not be null
+     */
+    public final void setListAdapter(@NonNull final ListAdapter listAdapter) {
+        ensureNotNull(listAdapter, "The adapter may not be null");
+
+        if (this.listAdapter != listAdapter) {
+            if (attachedRecyclerViews > 0) {
+                this.listAdapter.unregisterDataSetObserver(dataSetObserver);
+                listAdapter.registerDataSetObserver(dataSetObserver);
+            }
+
+            this.listAdapter = listAdapter;
+            clearChoices();
+            update(listAdapter, false);
+        }
+    }
+
+    /**
+     * Returns the choice mode of the adapter.
+     *
+     * @return The choice mode of the adapter as an {@link Integer} value. The choice mode must
+     * either be <code>ListView.CHOICE_MODE_NONE</code>, <code>ListView.CHOICE_MODE_SINGLE</code>
+     * or <code>ListView.CHOICE_MODE_MULTIPLE</code>
+     */
+    public final int getChoiceMode() {
+        return choiceMode;
+    }
+
+    /**
+     * Sets the choice mode of the adapter. All items are unchecked.
+     *
+     * @param choiceMode
+     *         The choice mode, which should be set, as an {@link Integer} value. The choice mode
+     *         must either be <code>ListView.CHOICE_MODE_NONE</code>,
+     *         <code>ListView.CHOICE_MODE_SINGLE</code> or
+     *         <code>ListView.CHOICE_MODE_MULTIPLE</code>
+     */
+    public final void setChoiceMode(final int choiceMode) {
+        this.choiceMode = choiceMode;
+        clearChoices();
+    }
+
+    /**
+     * Returns, whether a specific item is currently checked, or not.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return True, if the item is currently checked, false otherwise
+     */
+    public final boolean isItemChecked(final int position) {
+        return checkedItems.get(position);
+    }
+
+    /**
+     * Returns the positions of the items, which are currently checked.
+     *
+     * @return A bit set, which contains the positions of the items, which are currently checked,
+     * as an instance of the class {@link BitSet}. The bit set may not be null. Modifying the
+     * returned bit set does not affect the adapter
+     */
+    @NonNull
+    public final BitSet getCheckedItems() {
+        return (BitSet) checkedItems.clone();
+    }
+
+    /**
+     * Sets, whether a specific item should be checked, or not. If the choice mode is
+     * <code>ListView.CHOICE_MODE_NONE</code>, this method has no effect. If the choice mode is
+     * <code>ListView.CHOICE_MODE_SINGLE</code>, the previously checked item is unchecked.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value. The position must be at least
+     *         0 and less than the number of items
+     * @param checked
+     *         True, if the item should be checked, false otherwise
+     */
+    public final void setItemChecked(final int position, final boolean checked) {
+        ensureAtLeast(position, 0, "The position must be at least 0");
+        ensureAtMaximum(position, getItemCount() - 1,
+                "The position must be less than " + getItemCount());
+
+        if (choiceMode != ListView.CHOICE_MODE_NONE && isItemChecked(position) != checked) {
+            if (checked && choiceMode == ListView.CHOICE_MODE_SINGLE) {
+                clearChoices();
+            }
+
+            checkedItems.set(position, checked);
+            notifyItemChanged(position, CHECKED_STATE_PAYLOAD);
+        }
+    }
+
+    /**
+     * Sets, whether the items within a specific range should be checked, or not. If the choice
+     * mode is <code>ListView.CHOICE_MODE_MULTIPLE</code>, all items within the range are changed
+     * at once. If the choice mode is <code>ListView.CHOICE_MODE_SINGLE</code>, only the last item
+     * within the range is changed. Otherwise, this method has no effect.
+     *
+     * @param fromPosition
+     *         The position of the first item, which should be changed (inclusive), as an {@link
+     *         Integer} value. The position must be at least 0
+     * @param toPosition
+     *         The position of the last item, which should be changed (exclusive), as an {@link
+     *         Integer} value. The position must be at maximum the number of items
+     * @param checked
+     *         True, if the items should be checked, false otherwise
+     */
+    public final void setItemsChecked(final int fromPosition, final int toPosition,
+                                      final boolean checked) {
+        ensureAtLeast(fromPosition, 0, "The start position must be at least 0");
+        ensureAtMaximum(toPosition, getItemCount(),
+                "The end position must be at maximum " + getItemCount());
+
+        if (fromPosition < toPosition) {
+            if (choiceMode == ListView.CHOICE_MODE_MULTIPLE) {
+                checkedItems.set(fromPosition, toPosition, checked);
+                notifyItemRangeChanged(fromPosition, toPosition - fromPosition,
+                        CHECKED_STATE_PAYLOAD);
+            } else {
+                setItemChecked(toPosition - 1, checked);
+            }
+        }
+    }
+
+    /**
+     * Unchecks all items.
+     */
+    public final void clearChoices() {
+        int count = getItemCount();
+        int start = checkedItems.nextSetBit(0);
+
+        while (start >= 0 && start < count) {
+            int end = Math.min(checkedItems.nextClearBit(start), count);
+            notifyItemRangeChanged(start, end - start, CHECKED_STATE_PAYLOAD);
+            start = checkedItems.nextSetBit(end);
+        }
+
+        checkedItems.clear();
+    }
+
+    /**
+     * Sets the listener, which should be notified, when an item has been clicked.
+     *
+     * @param listener
+     *         The listener, which should be set, as an instance of the type {@link
+     *         OnItemClickListener} or null, if no listener should be notified
+     */
+    public final void setOnItemClickListener(@Nullable final OnItemClickListener listener) {
+        this.itemClickListener = listener;
+    }
+
+    @Override
+    public final int getItemCount() {
+        return items != null ? items.length : 0;
+    }
+
+    @Override
+    public final long getItemId(final int position) {
+        return itemIds[position];
+    }
+
+    @Override
+    public final int getItemViewType(final int position) {
+        return listAdapter.getItemViewType(position);
+    }
+
+    @Override
+    public final ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent,
+                                               final int viewType) {
+        FrameLayout container = new FrameLayout(parent.getContext());
+        container.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT));
+        int backgroundId = getItemBackgroundId(parent);
+
+        if (backgroundId != 0) {
+            container.setBackgroundResource(backgroundId);
+        }
+
+        ViewHolder viewHolder = new ViewHolder(container);
+        container.setOnClickListener(createItemClickListener(viewHolder));
+        return viewHolder;
+    }
+
+    @Override
+    public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int position) {
+        FrameLayout container = viewHolder.container;
+        View convertView = container.getChildCount() > 0 ? container.getChildAt(0) : null;
+        View view = listAdapter.getView(position, convertView, container);
+
+        if (view != convertView) {
+            container.removeAllViews();
+            container.addView(view);
+        }
+
+        boolean enabled = listAdapter.isEnabled(position);
+        container.setEnabled(enabled);
+        container.setClickable(enabled);
+        bindCheckedState(viewHolder, position);
+    }
+
+    @Override
+    public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int position,
+                                       @NonNull final List<Object> payloads) {
+        boolean checkedStateOnly = !payloads.isEmpty();
+
+        for (Object payload : payloads) {
+            checkedStateOnly &= payload == CHECKED_STATE_PAYLOAD;
+        }
+
+        if (checkedStateOnly) {
+            bindCheckedState(viewHolder, position);
+        } else {
+            onBindViewHolder(viewHolder, position);
+        }
+    }
+
+    @Override
+    public final void onAttachedToRecyclerView(@NonNull final RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+
+        if (attachedRecyclerViews++ == 0) {
+            listAdapter.registerDataSetObserver(dataSetObserver);
+            update(listAdapter, true);
+        }
+    }
+
+    @Override
+    public final void onDetachedFromRecyclerView(@NonNull final RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+
+        if (--attachedRecyclerViews == 0) {
+            listAdapter.unregisterDataSetObserver(dataSetObserver);
+        }
+    }
+
+}
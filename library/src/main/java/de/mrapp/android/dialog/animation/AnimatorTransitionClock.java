@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.animation;
+
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import java.lang.reflect.Method;
+
+/**
+ * A clock, which is driven by an infinitely repeating {@link ValueAnimator}. On devices, which
+ * support it, value animators are driven by the system's choreographer, which causes frames to be
+ * paced by the display's refresh rate.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+final class AnimatorTransitionClock extends TransitionClock {
+
+    /**
+     * The duration of a single repetition of the animator, which drives the clock, in
+     * milliseconds.
+     */
+    private static final long TICKER_DURATION = 1000L;
+
+    /**
+     * The animator, which drives the clock.
+     */
+    private final ValueAnimator ticker;
+
+    /**
+     * The time of the most recent frame in milliseconds or -1, if the clock is not running.
+     */
+    private long frameTime;
+
+    /**
+     * The method, which allows to retrieve the animator duration scale on devices, where it is not
+     * part of the public API, or null, if the method is not available.
+     */
+    private Method durationScaleMethod;
+
+    /**
+     * True, if the method, which allows to retrieve the animator duration scale, has already been
+     * looked up, false otherwise.
+     */
+    private boolean durationScaleMethodResolved;
+
+    /**
+     * Creates and returns a listener, which allows to dispatch a frame, whenever the animator,
+     * which drives the clock, is updated.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ValueAnimator.AnimatorUpdateListener}. The listener may not be null
+     */
+    @NonNull
+    private ValueAnimator.AnimatorUpdateListener createUpdateListener() {
+        return new ValueAnimator.AnimatorUpdateListener() {
+
+            @Override
+            public void onAnimationUpdate(final ValueAnimator animation) {
+                frameTime = SystemClock.uptimeMillis();
+                dispatchFrame(frameTime);
+            }
+
+        };
+    }
+
+    /**
+     * Returns the animator duration scale by invoking the hidden method of the class {@link
+     * ValueAnimator}, which is available on devices prior to Android O.
+     *
+     * @return The animator duration scale as a {@link Float} value or 1, if the scale could not be
+     * retrieved
+     */
+    private float getLegacyDurationScale() {
+        if (!durationScaleMethodResolved) {
+            durationScaleMethodResolved = true;
+
+            try {
+                durationScaleMethod = ValueAnimator.class.getMethod("getDurationScale");
+            } catch (NoSuchMethodException e) {
+                durationScaleMethod = null;
+            }
+        }
+
+        if (durationScaleMethod != null) {
+            try {
+                return (Float) durationScaleMethod.invoke(null);
+            } catch (Exception e) {
+                durationScaleMethod = null;
+            }
+        }
+
+        return 1f;
+    }
+
+    /**
+     * Creates a new clock, which is driven by a {@link ValueAnimator}.
+     */
+    AnimatorTransitionClock() {
+        this.ticker = ValueAnimator.ofFloat(0f, 1f);
+        this.ticker.setDuration(TICKER_DURATION);
+        this.ticker.setRepeatCount(ValueAnimator.INFINITE);
+        this.ticker.addUpdateListener(createUpdateListener());
+        this.frameTime = -1;
+    }
+
+    @Override
+    protected final void onStart() {
+        ticker.start();
+    }
+
+    @Override
+    protected final void onStop() {
+        ticker.cancel();
+        frameTime = -1;
+    }
+
+    @Override
+    public final long getFrameTime() {
+        return frameTime != -1 ? frameTime : SystemClock.uptimeMillis();
+    }
+
+    @Override
+    public final float getDurationScale() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            return ValueAnimator.getDurationScale();
+        }
+
+        return getLegacyDurationScale();
+    }
+
+}
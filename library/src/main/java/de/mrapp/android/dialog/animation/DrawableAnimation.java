@@ -16,6 +16,8 @@ package de.mrapp.android.dialog.animation;
 import android.content.Context;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
 
 import de.mrapp.android.dialog.builder.AbstractBuilder;
 
@@ -72,6 +74,21 @@ public abstract class DrawableAnimation {
             super(context);
         }
 
+        /**
+         * Sets the interpolator, which should be used by the animation, which is created by the
+         * builder.
+         *
+         * @param interpolator
+         *         The interpolator, which should be set, as an instance of the type {@link
+         *         Interpolator}. The interpolator may not be null
+         * @return The builder, this method has been called upon, as an instance of the generic type
+         * BuilderType
+         */
+        public BuilderType setInterpolator(@NonNull final Interpolator interpolator) {
+            getProduct().setInterpolator(interpolator);
+            return self();
+        }
+
         /**
          * Sets the duration of the animation, which is created by the builder.
          *
@@ -113,6 +130,11 @@ public abstract class DrawableAnimation {
      */
     private AnimationListener listener;
 
+    /**
+     * The interpolator, which is used by the animation.
+     */
+    private Interpolator interpolator;
+
     /**
      * Sets the duration of the animation.
      *
@@ -125,6 +147,18 @@ public abstract class DrawableAnimation {
         this.duration = duration;
     }
 
+    /**
+     * Sets the interpolator, which should be used by the animation.
+     *
+     * @param interpolator
+     *         The interpolator, which should be set, as an instance of the type {@link
+     *         Interpolator}. The interpolator may not be null
+     */
+    protected final void setInterpolator(@NonNull final Interpolator interpolator) {
+        ensureNotNull(interpolator, "The interpolator may not be null");
+        this.interpolator = interpolator;
+    }
+
     /**
      * Sets the listener, which should be notified about the animation's progress.
      *
@@ -147,6 +181,7 @@ public abstract class DrawableAnimation {
         ensureNotNull(context, "The context may not be null");
         this.duration = context.getResources().getInteger(android.R.integer.config_longAnimTime);
         this.listener = null;
+        this.interpolator = new LinearInterpolator();
     }
 
     /**
@@ -158,6 +193,17 @@ public abstract class DrawableAnimation {
         return duration;
     }
 
+    /**
+     * Returns the interpolator, which is used by the animation.
+     *
+     * @return The interpolator, which is used by the animation, as an instance of the type {@link
+     * Interpolator}. The interpolator may not be null
+     */
+    @NonNull
+    public final Interpolator getInterpolator() {
+        return interpolator;
+    }
+
     /**
      * Returns the listener, which is notified about the animation's progress.
      *
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.animation;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+
+/**
+ * A clock, which is advanced manually rather than by the system. It is intended to be used in unit
+ * tests in order to step transitions deterministically. It can be installed by using the method
+ * {@link TransitionClock#setInstance(TransitionClock)}.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class ManualTransitionClock extends TransitionClock {
+
+    /**
+     * The time of the current frame in milliseconds.
+     */
+    private long frameTime;
+
+    /**
+     * The scale, which is applied to the durations of transitions.
+     */
+    private float durationScale;
+
+    /**
+     * Creates a new clock, which is advanced manually, and starts at the time 0.
+     */
+    public ManualTransitionClock() {
+        this(0);
+    }
+
+    /**
+     * Creates a new clock, which is advanced manually.
+     *
+     * @param startTime
+     *         The time, the clock should start at, in milliseconds as a {@link Long} value. The
+     *         time must be at least 0
+     */
+    public ManualTransitionClock(final long startTime) {
+        ensureAtLeast(startTime, 0, "The start time must be at least 0");
+        this.frameTime = startTime;
+        this.durationScale = 1f;
+    }
+
+    /**
+     * Sets the scale, which should be applied to the durations of transitions.
+     *
+     * @param durationScale
+     *         The scale, which should be set, as a {@link Float} value. The scale must be at least
+     *         0
+     */
+    public final void setDurationScale(final float durationScale) {
+        ensureAtLeast(durationScale, 0, "The duration scale must be at least 0");
+        this.durationScale = durationScale;
+    }
+
+    /**
+     * Advances the clock by a specific amount of time and dispatches a single frame.
+     *
+     * @param millis
+     *         The amount of time, the clock should be advanced by, in milliseconds as a {@link
+     *         Long} value. The amount must be at least 0
+     */
+    public final void advance(final long millis) {
+        ensureAtLeast(millis, 0, "The amount of time must be at least 0");
+        frameTime += millis;
+
+        if (isRunning()) {
+            dispatchFrame(frameTime);
+        }
+    }
+
+    /**
+     * Advances the clock by a specific amount of time by dispatching frames at a fixed interval.
+     *
+     * @param millis
+     *         The amount of time, the clock should be advanced by, in milliseconds as a {@link
+     *         Long} value. The amount must be at least 0
+     * @param frameInterval
+     *         The interval between two frames in milliseconds as a {@link Long} value. The interval
+     *         must be at least 1
+     */
+    public final void advance(final long millis, final long frameInterval) {
+        ensureAtLeast(millis, 0, "The amount of time must be at least 0");
+        ensureAtLeast(frameInterval, 1, "The frame interval must be at least 1");
+        long remaining = millis;
+
+        while (remaining > 0) {
+            long step = Math.min(remaining, frameInterval);
+            advance(step);
+            remaining -= step;
+        }
+    }
+
+    @Override
+    protected final void onStart() {
+
+    }
+
+    @Override
+    protected final void onStop() {
+
+    }
+
+    @Override
+    public final long getFrameTime() {
+        return frameTime;
+    }
+
+    @Override
+    public final float getDurationScale() {
+        return durationScale;
+    }
+
+}
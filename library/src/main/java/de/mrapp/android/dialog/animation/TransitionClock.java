@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.animation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An abstract base class for all clocks, which provide the frames, transition drawables are
+ * animated by. All running transitions subscribe to a single, shared clock, which only runs while
+ * there are subscribers. By default, a clock, which is driven by a {@link
+ * android.animation.ValueAnimator}, and therefore by the system's choreographer, is used. In unit
+ * tests, the default clock can be replaced by a {@link ManualTransitionClock} in order to be able to
+ * step transitions deterministically.
+ *
+ * The methods of this class must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public abstract class TransitionClock {
+
+    /**
+     * Defines the interface, a class, which should be notified about the frames of a {@link
+     * TransitionClock}, must implement.
+     */
+    public interface FrameCallback {
+
+        /**
+         * The method, which is invoked, when a new frame is rendered.
+         *
+         * @param frameTime
+         *         The time of the frame in milliseconds as a {@link Long} value
+         */
+        void onFrame(long frameTime);
+
+    }
+
+    /**
+     * The clock, which is currently used by all transition drawables.
+     */
+    private static TransitionClock instance;
+
+    /**
+     * A list, which contains the callbacks, which are notified about frames.
+     */
+    private final List<FrameCallback> callbacks;
+
+    /**
+     * An array, which is reused to notify the callbacks about frames without allocating memory.
+     */
+    private FrameCallback[] dispatchBuffer;
+
+    /**
+     * Returns the clock, which is currently used by all transition drawables. If no clock has been
+     * set, a clock, which is driven by the system's choreographer, is created.
+     *
+     * @return The clock, which is currently used by all transition drawables, as an instance of the
+     * class {@link TransitionClock}. The clock may not be null
+     */
+    @NonNull
+    public static synchronized TransitionClock getInstance() {
+        if (instance == null) {
+            instance = new AnimatorTransitionClock();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Sets the clock, which should be used by all transition drawables, which are started
+     * afterwards. This is mainly intended to be used by unit tests.
+     *
+     * @param clock
+     *         The clock, which should be set, as an instance of the class {@link TransitionClock}
+     *         or null, if the default clock should be used
+     */
+    public static synchronized void setInstance(@Nullable final TransitionClock clock) {
+        instance = clock;
+    }
+
+    /**
+     * The method, which is invoked, when the first callback has been added to the clock. It must
+     * be overridden by subclasses in order to start dispatching frames.
+     */
+    protected abstract void onStart();
+
+    /**
+     * The method, which is invoked, when the last callback has been removed from the clock. It
+     * must be overridden by subclasses in order to stop dispatching frames.
+     */
+    protected abstract void onStop();
+
+    /**
+     * Notifies all callbacks about a new frame.
+     *
+     * @param frameTime
+     *         The time of the frame in milliseconds as a {@link Long} value
+     */
+    protected final void dispatchFrame(final long frameTime) {
+        int count = callbacks.size();
+
+        if (dispatchBuffer == null || dispatchBuffer.length < count) {
+            dispatchBuffer = new FrameCallback[count];
+        }
+
+        FrameCallback[] buffer = callbacks.toArray(dispatchBuffer);
+
+        for (int i = 0; i < count; i++) {
+            FrameCallback callback = buffer[i];
+            buffer[i] = null;
+
+            if (callbacks.contains(callback)) {
+                callback.onFrame(frameTime);
+            }
+        }
+    }
+
+    /**
+     * Creates a new clock, which provides the frames, transition drawables are animated by.
+     */
+    protected TransitionClock() {
+        this.callbacks = new ArrayList<>();
+        this.dispatchBuffer = null;
+    }
+
+    /**
+     * Returns the time of the current frame.
+     *
+     * @return The time of the current frame in milliseconds as a {@link Long} value
+     */
+    public abstract long getFrameTime();
+
+    /**
+     * Returns the scale, which should be applied to the durations of transitions. The scale
+     * corresponds to the animator duration scale, which can be set in the system's developer
+     * options.
+     *
+     * @return The scale, which should be applied to the durations of transitions, as a {@link
+     * Float} value. If the scale is 0, transitions should be finished immediately
+     */
+    public abstract float getDurationScale();
+
+    /**
+     * Adds a new callback, which should be notified about frames. The clock is started, if
+     * necessary.
+     *
+     * @param callback
+     *         The callback, which should be added, as an instance of the type {@link
+     *         FrameCallback}. The callback may not be null
+     */
+    public final void addFrameCallback(@NonNull final FrameCallback callback) {
+        ensureNotNull(callback, "The callback may not be null");
+
+        if (!callbacks.contains(callback)) {
+            callbacks.add(callback);
+
+            if (callbacks.size() == 1) {
+                onStart();
+            }
+        }
+    }
+
+    /**
+     * Removes a specific callback, which should not be notified about frames anymore. The clock is
+     * stopped, if no callbacks remain.
+     *
+     * @param callback
+     *         The callback, which should be removed, as an instance of the type {@link
+     *         FrameCallback}. The callback may not be null
+     */
+    public final void removeFrameCallback(@NonNull final FrameCallback callback) {
+        ensureNotNull(callback, "The callback may not be null");
+
+        if (callbacks.remove(callback) && callbacks.isEmpty()) {
+            onStop();
+        }
+    }
+
+    /**
+     * Returns, whether the clock is currently running, i.e. whether any callbacks are notified
+     * about frames, or not.
+     *
+     * @return True, if the clock is currently running, false otherwise
+     */
+    public final boolean isRunning() {
+        return !callbacks.isEmpty();
+    }
+
+}
@@ -64,6 +64,23 @@ public abstract class AbstractAnimateableDialogBuilder<DialogType extends Animat
         super(context, themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create animateable dialogs, which are designed
+     * according to Android 5's Material Design guidelines even on pre-Lollipop devices.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractAnimateableDialogBuilder(@NonNull final Context context,
+                                            @NonNull final DialogSpec spec) {
+        super(context, spec);
+    }
+
     /**
      * Sets the animation, which should be used to show the dialog, which is created by the
      * builder.
@@ -15,7 +15,6 @@ package de.mrapp.android.dialog.builder;
 
 import android.content.Context;
 import android.content.DialogInterface;
-import android.content.res.TypedArray;
 import android.support.annotation.CallSuper;
 import android.support.annotation.ColorInt;
 import android.support.annotation.LayoutRes;
@@ -28,7 +27,6 @@ import android.view.View;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.model.ButtonBarDialog;
-import de.mrapp.android.util.ThemeUtil;
 
 /**
  * An abstract base class for all builders, which allow to create and show dialogs, which are
@@ -53,10 +51,10 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
      *         Integer} value
      */
     private void obtainButtonTextColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogButtonTextColor});
-        int defaultColor = ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-        setButtonTextColor(typedArray.getColor(0, defaultColor));
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int defaultColor = snapshot.getColor(getContext(), R.attr.colorAccent, 0);
+        setButtonTextColor(snapshot.getColor(getContext(), R.attr.materialDialogButtonTextColor,
+                defaultColor));
     }
 
     /**
@@ -67,11 +65,11 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
      *         Integer} value
      */
     private void obtainDisabledButtonTextColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogDisabledButtonTextColor});
         int defaultColor = ContextCompat
                 .getColor(getContext(), R.color.dialog_button_disabled_text_color_light);
-        setDisabledButtonTextColor(typedArray.getColor(0, defaultColor));
+        setDisabledButtonTextColor(getThemeSnapshot()
+                .getColor(getContext(), R.attr.materialDialogDisabledButtonTextColor,
+                        defaultColor));
     }
 
     /**
@@ -83,9 +81,8 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
      *         Integer} value
      */
     private void obtainShowButtonBarDivider(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowButtonBarDivider});
-        showButtonBarDivider(typedArray.getBoolean(0, false));
+        showButtonBarDivider(
+                getThemeSnapshot().getBoolean(R.attr.materialDialogShowButtonBarDivider, false));
     }
 
     /**
@@ -118,6 +115,24 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
         super(context, themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create dialogs, which allow to create and show
+     * dialogs, which are designed according to Android 5's Material Design guidelines even on
+     * pre-Lollipop devices and may contain up to three buttons.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractButtonBarDialogBuilder(@NonNull final Context context,
+                                          @NonNull final DialogSpec spec) {
+        super(context, spec);
+    }
+
     /**
      * Sets the text color of the buttons of the dialog, which is created by the builder.
      *
@@ -15,7 +15,6 @@ package de.mrapp.android.dialog.builder;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
 import android.support.annotation.CallSuper;
@@ -30,7 +29,6 @@ import android.view.View;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.model.HeaderDialog;
-import de.mrapp.android.util.ThemeUtil;
 
 /**
  * An abstract base class for all builders, which allow to create and show dialogs, which are
@@ -55,9 +53,7 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainShowHeader(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowHeader});
-        showHeader(typedArray.getBoolean(0, false));
+        showHeader(getThemeSnapshot().getBoolean(R.attr.materialDialogShowHeader, false));
     }
 
     /**
@@ -68,11 +64,11 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderHeight});
         int defaultHeight =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_header_height);
-        setHeaderHeight(typedArray.getDimensionPixelSize(0, defaultHeight));
+        setHeaderHeight(getThemeSnapshot()
+                .getDimensionPixelSize(getContext(), R.attr.materialDialogHeaderHeight,
+                        defaultHeight));
     }
 
     /**
@@ -83,15 +79,13 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int resourceId = snapshot.getResourceId(R.attr.materialDialogHeaderBackground, 0);
 
         if (resourceId != 0) {
             setHeaderBackground(resourceId);
         } else {
-            setHeaderBackgroundColor(
-                    ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorPrimary));
+            setHeaderBackgroundColor(snapshot.getColor(getContext(), R.attr.colorPrimary, 0));
         }
     }
 
@@ -103,9 +97,7 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         value
      */
     private void obtainHeaderIcon(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderIcon});
-        int resourceId = typedArray.getResourceId(0, 0);
+        int resourceId = getThemeSnapshot().getResourceId(R.attr.materialDialogHeaderIcon, 0);
 
         if (resourceId != 0) {
             setHeaderIcon(resourceId);
@@ -121,9 +113,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         {@link Integer} value
      */
     private void obtainHeaderIconTintList(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderIconTint});
-        setHeaderIconTintList(typedArray.getColorStateList(0));
+        setHeaderIconTintList(getThemeSnapshot()
+                .getColorStateList(getContext(), R.attr.materialDialogHeaderIconTint));
     }
 
     /**
@@ -134,10 +125,9 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderDividerColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderDividerColor});
         int defaultColor = ContextCompat.getColor(getContext(), R.color.header_divider_color);
-        setHeaderDividerColor(typedArray.getColor(0, defaultColor));
+        setHeaderDividerColor(getThemeSnapshot()
+                .getColor(getContext(), R.attr.materialDialogHeaderDividerColor, defaultColor));
     }
 
     /**
@@ -149,9 +139,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainShowHeaderDivider(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowHeaderDivider});
-        showHeaderDivider(typedArray.getBoolean(0, true));
+        showHeaderDivider(
+                getThemeSnapshot().getBoolean(R.attr.materialDialogShowHeaderDivider, true));
     }
 
     /**
@@ -184,6 +173,24 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
         super(context, themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create dialogs, which are designed according to
+     * Android 5's Material Design guidelines even on pre-Lollipop devices and may contain a
+     * header.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractHeaderDialogBuilder(@NonNull final Context context,
+                                       @NonNull final DialogSpec spec) {
+        super(context, spec);
+    }
+
     /**
      * Sets, whether the header of the dialog, which is created by the builder, should be shown, or
      * not.
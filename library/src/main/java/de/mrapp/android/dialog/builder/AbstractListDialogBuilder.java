@@ -15,7 +15,6 @@ package de.mrapp.android.dialog.builder;
 
 import android.content.Context;
 import android.content.DialogInterface;
-import android.content.res.TypedArray;
 import android.support.annotation.ArrayRes;
 import android.support.annotation.CallSuper;
 import android.support.annotation.ColorInt;
@@ -27,7 +26,6 @@ import android.widget.ListAdapter;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.model.ListDialog;
-import de.mrapp.android.util.ThemeUtil;
 
 /**
  * An abstract base class for all builders, which allow to create and show dialogs, which are
@@ -52,11 +50,9 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
      *         Integer} value
      */
     private void obtainItemColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogItemColor});
-        int defaultColor = ThemeUtil
-                .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-        setItemColor(typedArray.getColor(0, defaultColor));
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int defaultColor = snapshot.getColor(getContext(), android.R.attr.textColorSecondary, 0);
+        setItemColor(snapshot.getColor(getContext(), R.attr.materialDialogItemColor, defaultColor));
     }
 
     /**
@@ -89,6 +85,24 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
         super(context, themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create dialogs, which allow to create and show
+     * dialogs, which are designed according to Android 5's Material Design guidelines even on
+     * pre-Lollipop devices and may contain list items.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractListDialogBuilder(@NonNull final Context context,
+                                     @NonNull final DialogSpec spec) {
+        super(context, spec);
+    }
+
     /**
      * Sets the color of the list items of the dialog, which is created by the builder.
      *
@@ -369,6 +383,21 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
         return self();
     }
 
+    /**
+     * Sets, whether the items of the dialog, which is created by the builder, should be shown by
+     * using a recycler view instead of a list view, or not. Using a recycler view is recommended
+     * for dialogs, which show a large number of items.
+     *
+     * @param useRecyclerView
+     *         True, if the items should be shown by using a recycler view, false otherwise
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType useRecyclerView(final boolean useRecyclerView) {
+        getProduct().useRecyclerView(useRecyclerView);
+        return self();
+    }
+
     @CallSuper
     @Override
     protected void obtainStyledAttributes(@StyleRes final int themeResourceId) {
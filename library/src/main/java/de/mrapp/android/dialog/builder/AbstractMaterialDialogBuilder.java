@@ -17,7 +17,6 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.ColorStateList;
 import android.content.res.Resources;
-import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
 import android.support.annotation.AttrRes;
@@ -34,11 +33,14 @@ import android.util.TypedValue;
 import android.view.ContextThemeWrapper;
 import android.view.View;
 
+import java.io.Reader;
+
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.model.Dialog;
 import de.mrapp.android.dialog.model.MaterialDialog;
-import de.mrapp.android.util.ThemeUtil;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
 
 /**
  * An abstract base class for all builders, which allow to create and show dialogs, which are
@@ -59,6 +61,11 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      */
     private int themeResourceId;
 
+    /**
+     * The snapshot, which contains the attributes of the theme, which is used by the dialog.
+     */
+    private ThemeSnapshot themeSnapshot;
+
     /**
      * Initializes the builder.
      *
@@ -67,20 +74,41 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value or 0, if the default theme should be used
      */
     private void initialize(@StyleRes final int themeResourceId) {
+        Context context = getContext();
         int themeId = themeResourceId;
 
         if (themeId == 0) {
             TypedValue typedValue = new TypedValue();
-            getContext().getTheme().resolveAttribute(R.attr.materialDialogTheme, typedValue, true);
+            context.getTheme().resolveAttribute(R.attr.materialDialogTheme, typedValue, true);
             themeId = typedValue.resourceId;
             themeId = themeId != 0 ? themeId : R.style.MaterialDialog_Light;
         }
 
-        setContext(new ContextThemeWrapper(getContext(), themeId));
+        setContext(new ContextThemeWrapper(context, themeId));
         this.themeResourceId = themeId;
+        this.themeSnapshot = ThemeSnapshot.obtain(context, themeId);
         obtainStyledAttributes(themeId);
     }
 
+    /**
+     * Initializes the builder by using a specific specification. The attributes of the
+     * specification's theme are not obtained, as the specification already contains the resolved
+     * properties.
+     *
+     * @param spec
+     *         The specification, which should be used, as an instance of the class {@link
+     *         DialogSpec}. The specification may not be null
+     */
+    private void initialize(@NonNull final DialogSpec spec) {
+        ensureNotNull(spec, "The specification may not be null");
+        Context context = getContext();
+        int themeId = spec.getThemeResourceId();
+        setContext(new ContextThemeWrapper(context, themeId));
+        this.themeResourceId = themeId;
+        this.themeSnapshot = ThemeSnapshot.obtain(context, themeId);
+        spec.applyTo(getProduct());
+    }
+
     /**
      * Obtains the boolean value, which specified whether the dialog should be shown fullscreen, or
      * not, from a specific theme.
@@ -90,9 +118,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainFullscreen(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogFullscreen});
-        setFullscreen(typedArray.getBoolean(0, false));
+        setFullscreen(getThemeSnapshot().getBoolean(R.attr.materialDialogFullscreen, false));
     }
 
     /**
@@ -103,9 +129,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainGravity(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogGravity});
-        setGravity(typedArray.getInteger(0, Dialog.Gravity.CENTER));
+        setGravity(getThemeSnapshot().getInt(R.attr.materialDialogGravity, Dialog.Gravity.CENTER));
     }
 
     /**
@@ -116,14 +140,14 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainWidth(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogWidth});
+        ThemeSnapshot snapshot = getThemeSnapshot();
         int defaultValue = getContext().getResources().getDimensionPixelSize(R.dimen.dialog_width);
 
         try {
-            setWidth(typedArray.getDimensionPixelSize(0, defaultValue));
+            setWidth(snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogWidth,
+                    defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
-            setWidth(typedArray.getInteger(0, defaultValue));
+            setWidth(snapshot.getInt(R.attr.materialDialogWidth, defaultValue));
         }
     }
 
@@ -135,14 +159,14 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogHeight});
+        ThemeSnapshot snapshot = getThemeSnapshot();
         int defaultValue = Dialog.WRAP_CONTENT;
 
         try {
-            setHeight(typedArray.getDimensionPixelSize(0, defaultValue));
+            setHeight(snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogHeight,
+                    defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
-            setHeight(typedArray.getInteger(0, defaultValue));
+            setHeight(snapshot.getInt(R.attr.materialDialogHeight, defaultValue));
         }
     }
 
@@ -154,8 +178,6 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMaxWidth(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogMaxWidth});
         int defaultValue;
 
         try {
@@ -166,7 +188,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         }
 
         try {
-            setMaxWidth(typedArray.getDimensionPixelSize(0, defaultValue));
+            setMaxWidth(getThemeSnapshot()
+                    .getDimensionPixelSize(getContext(), R.attr.materialDialogMaxWidth,
+                            defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
             setMaxWidth(-1);
         }
@@ -180,8 +204,6 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainMaxHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogMaxHeight});
         int defaultValue;
 
         try {
@@ -192,7 +214,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         }
 
         try {
-            setMaxHeight(typedArray.getDimensionPixelSize(0, defaultValue));
+            setMaxHeight(getThemeSnapshot()
+                    .getDimensionPixelSize(getContext(), R.attr.materialDialogMaxHeight,
+                            defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
             setMaxHeight(-1);
         }
@@ -206,17 +230,19 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMargin(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogMarginLeft, R.attr.materialDialogMarginTop,
-                        R.attr.materialDialogMarginRight, R.attr.materialDialogMarginBottom});
+        ThemeSnapshot snapshot = getThemeSnapshot();
         int defaultHorizontalMargin =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_horizontal_margin);
         int defaultVerticalMargin =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_vertical_margin);
-        int left = typedArray.getDimensionPixelSize(0, defaultHorizontalMargin);
-        int top = typedArray.getDimensionPixelSize(1, defaultVerticalMargin);
-        int right = typedArray.getDimensionPixelSize(2, defaultHorizontalMargin);
-        int bottom = typedArray.getDimensionPixelSize(3, defaultVerticalMargin);
+        int left = snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogMarginLeft,
+                defaultHorizontalMargin);
+        int top = snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogMarginTop,
+                defaultVerticalMargin);
+        int right = snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogMarginRight,
+                defaultHorizontalMargin);
+        int bottom = snapshot.getDimensionPixelSize(getContext(),
+                R.attr.materialDialogMarginBottom, defaultVerticalMargin);
         setMargin(left, top, right, bottom);
     }
 
@@ -228,9 +254,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainPadding(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogPaddingLeft, R.attr.materialDialogPaddingTop,
-                        R.attr.materialDialogPaddingRight, R.attr.materialDialogPaddingBottom});
+        ThemeSnapshot snapshot = getThemeSnapshot();
         int defaultLeftPadding =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_left_padding);
         int defaultTopPadding =
@@ -239,10 +263,14 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_right_padding);
         int defaultBottomPadding =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_bottom_padding);
-        int left = typedArray.getDimensionPixelSize(0, defaultLeftPadding);
-        int top = typedArray.getDimensionPixelSize(1, defaultTopPadding);
-        int right = typedArray.getDimensionPixelSize(2, defaultRightPadding);
-        int bottom = typedArray.getDimensionPixelSize(3, defaultBottomPadding);
+        int left = snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogPaddingLeft,
+                defaultLeftPadding);
+        int top = snapshot.getDimensionPixelSize(getContext(), R.attr.materialDialogPaddingTop,
+                defaultTopPadding);
+        int right = snapshot.getDimensionPixelSize(getContext(),
+                R.attr.materialDialogPaddingRight, defaultRightPadding);
+        int bottom = snapshot.getDimensionPixelSize(getContext(),
+                R.attr.materialDialogPaddingBottom, defaultBottomPadding);
         setPadding(left, top, right, bottom);
     }
 
@@ -254,15 +282,11 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         content should be inset, should be obtained from, as a {@link Integer} value
      */
     private void obtainFitsSystemWindows(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogFitsSystemWindowsLeft,
-                        R.attr.materialDialogFitsSystemWindowsTop,
-                        R.attr.materialDialogFitsSystemWindowsRight,
-                        R.attr.materialDialogFitsSystemWindowsBottom});
-        boolean left = typedArray.getBoolean(0, true);
-        boolean top = typedArray.getBoolean(1, true);
-        boolean right = typedArray.getBoolean(2, true);
-        boolean bottom = typedArray.getBoolean(3, true);
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        boolean left = snapshot.getBoolean(R.attr.materialDialogFitsSystemWindowsLeft, true);
+        boolean top = snapshot.getBoolean(R.attr.materialDialogFitsSystemWindowsTop, true);
+        boolean right = snapshot.getBoolean(R.attr.materialDialogFitsSystemWindowsRight, true);
+        boolean bottom = snapshot.getBoolean(R.attr.materialDialogFitsSystemWindowsBottom, true);
         setFitsSystemWindows(left, top, right, bottom);
     }
 
@@ -274,9 +298,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainWindowBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogWindowBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        int resourceId = getThemeSnapshot().getResourceId(R.attr.materialDialogWindowBackground, 0);
 
         if (resourceId != 0) {
             setWindowBackground(resourceId);
@@ -293,9 +315,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        int resourceId = getThemeSnapshot().getResourceId(R.attr.materialDialogBackground, 0);
 
         if (resourceId != 0) {
             setBackground(resourceId);
@@ -313,11 +333,10 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMessageColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogMessageColor});
-        int defaultColor = ThemeUtil
-                .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-        setMessageColor(typedArray.getColor(0, defaultColor));
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int defaultColor = snapshot.getColor(getContext(), android.R.attr.textColorSecondary, 0);
+        setMessageColor(
+                snapshot.getColor(getContext(), R.attr.materialDialogMessageColor, defaultColor));
     }
 
     /**
@@ -328,11 +347,10 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainTitleColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogTitleColor});
-        int defaultColor =
-                ThemeUtil.getColor(getContext(), themeResourceId, android.R.attr.textColorPrimary);
-        setTitleColor(typedArray.getColor(0, defaultColor));
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int defaultColor = snapshot.getColor(getContext(), android.R.attr.textColorPrimary, 0);
+        setTitleColor(
+                snapshot.getColor(getContext(), R.attr.materialDialogTitleColor, defaultColor));
     }
 
     /**
@@ -344,9 +362,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainIconTintList(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogIconTint});
-        setIconTintList(typedArray.getColorStateList(0));
+        setIconTintList(
+                getThemeSnapshot().getColorStateList(getContext(), R.attr.materialDialogIconTint));
     }
 
     /**
@@ -357,11 +374,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainScrollableArea(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogScrollableAreaTop,
-                        R.attr.materialDialogScrollableAreaBottom});
-        int topIndex = typedArray.getInt(0, -1);
-        int bottomIndex = typedArray.getInt(1, -1);
+        ThemeSnapshot snapshot = getThemeSnapshot();
+        int topIndex = snapshot.getInt(R.attr.materialDialogScrollableAreaTop, -1);
+        int bottomIndex = snapshot.getInt(R.attr.materialDialogScrollableAreaBottom, -1);
 
         if (topIndex != -1) {
             Area top = Area.fromIndex(topIndex);
@@ -386,9 +401,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainShowDividersOnScroll(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowDividersOnScroll});
-        showDividersOnScroll(typedArray.getBoolean(0, true));
+        showDividersOnScroll(
+                getThemeSnapshot().getBoolean(R.attr.materialDialogShowDividersOnScroll, true));
     }
 
     /**
@@ -399,10 +413,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainDividerColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogDividerColor});
         int defaultColor = ContextCompat.getColor(getContext(), R.color.divider_color_light);
-        setDividerColor(typedArray.getColor(0, defaultColor));
+        setDividerColor(getThemeSnapshot()
+                .getColor(getContext(), R.attr.materialDialogDividerColor, defaultColor));
     }
 
     /**
@@ -413,9 +426,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainDividerMargin(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogDividerMargin});
-        setDividerMargin(typedArray.getDimensionPixelSize(0, 0));
+        setDividerMargin(getThemeSnapshot()
+                .getDimensionPixelSize(getContext(), R.attr.materialDialogDividerMargin, 0));
     }
 
     /**
@@ -458,6 +470,19 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         return themeResourceId;
     }
 
+    /**
+     * Returns the snapshot, which contains the attributes of the theme, which is used by the
+     * dialog. Subclasses should use the snapshot instead of obtaining attributes from the theme
+     * themselves.
+     *
+     * @return The snapshot, which contains the attributes of the theme, which is used by the
+     * dialog, as an instance of the class {@link ThemeSnapshot}. The snapshot may not be null
+     */
+    @NonNull
+    protected final ThemeSnapshot getThemeSnapshot() {
+        return themeSnapshot;
+    }
+
     /**
      * Creates a new builder, which allows to create and show dialogs, which are designed according
      * to Android 5's Material Design guidelines even on pre-Lollipop devices.
@@ -488,6 +513,25 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         initialize(themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create and show dialogs, which are designed according
+     * to Android 5's Material Design guidelines even on pre-Lollipop devices. The properties of
+     * the dialog are copied from a specification instead of being obtained from the theme.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractMaterialDialogBuilder(@NonNull final Context context,
+                                         @NonNull final DialogSpec spec) {
+        super(context);
+        initialize(spec);
+    }
+
     /**
      * Sets the background of the window of the dialog, which is created by the builder. Preferably,
      * it should be a 9-patch drawable using the color white for visible areas and transparency for
@@ -902,6 +946,21 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         return self();
     }
 
+    /**
+     * Sets the message of the dialog, which is created by the builder, which should be read from a
+     * specific reader. The message is read in the background and streamed.
+     *
+     * @param reader
+     *         The reader, the message should be read from, as an instance of the class {@link
+     *         Reader}. The reader may not be null
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setMessageStream(@NonNull final Reader reader) {
+        getProduct().setMessageStream(reader);
+        return self();
+    }
+
     /**
      * Sets the icon of the dialog, which is created by the builder.
      *
@@ -1016,6 +1075,24 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         return self();
     }
 
+    /**
+     * Registers a scrollable view, which is contained by the custom view of the dialog, which is
+     * created by the builder. While the view is registered, the visibility of the dividers, which
+     * are located above and below the dialog's scrollable areas, is adapted, when it is scrolled.
+     *
+     * @param view
+     *         The view, which should be registered, as an instance of the class {@link View}. The
+     *         view must either be an {@link android.widget.AbsListView}, a {@link
+     *         android.support.v7.widget.RecyclerView}, or implement the interface {@link
+     *         android.support.v4.view.NestedScrollingChild}. The view may not be null
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType registerScrollableView(@NonNull final View view) {
+        getProduct().registerScrollableView(view);
+        return self();
+    }
+
     /**
      * Sets the custom view, which should be used to show the title of the dialog, which is created
      * by the builder.
@@ -1153,4 +1230,35 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         return self();
     }
 
-}
\ No newline at end of file
+    /**
+     * Inflates the layouts, which are used to show the dialog, which is created by the builder, in
+     * advance on a background thread. This reduces the time it takes to show the dialog. The
+     * method should be called after all properties of the dialog have been set.
+     *
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType prewarm() {
+        getProduct().prewarm();
+        return self();
+    }
+
+    /**
+     * Creates an immutable specification, which contains the properties of the dialog, which is
+     * created by the builder, as they have been resolved by the builder. The specification can be
+     * passed to the constructor of other builders of the same type in order to create multiple
+     * dialogs with the same properties without obtaining theme attributes or resolving resources
+     * again. Listeners, custom views and list items, which are provided by an adapter, are not
+     * part of the specification.
+     *
+     * @return The specification, which has been created, as an instance of the class {@link
+     * DialogSpec}. The specification may not be null
+     */
+    @NonNull
+    public final DialogSpec createSpec() {
+        DialogType template = onCreateProduct();
+        template.copyProperties(getProduct());
+        return new DialogSpec(getThemeResourceId(), template);
+    }
+
+}
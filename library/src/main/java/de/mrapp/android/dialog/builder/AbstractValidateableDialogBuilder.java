@@ -15,10 +15,13 @@ package de.mrapp.android.dialog.builder;
 
 import android.content.Context;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
+import de.mrapp.android.dialog.AsyncDialogValidator;
 import de.mrapp.android.dialog.DialogValidator;
 import de.mrapp.android.dialog.model.ValidateableDialog;
 
@@ -69,6 +72,24 @@ public abstract class AbstractValidateableDialogBuilder<DialogType extends Valid
         super(context, themeResourceId);
     }
 
+    /**
+     * Creates a new builder, which allows to create dialogs, which allow to create and show
+     * dialogs, which are designed according to Android 5's Material Design guidelines even on
+     * pre-Lollipop devices and can be validated.
+     *
+     * @param context
+     *         The context, which should be used by the builder, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param spec
+     *         The specification, which should be applied to the dialog, as an instance of the class
+     *         {@link DialogSpec}. The specification may not be null and must have been created by
+     *         a builder of the same type
+     */
+    public AbstractValidateableDialogBuilder(@NonNull final Context context,
+                                             @NonNull final DialogSpec spec) {
+        super(context, spec);
+    }
+
     /**
      * Adds a new validator, which should be executed when the positive button of the dialog, which
      * is created by the builder, is clicked.
@@ -102,4 +123,64 @@ public abstract class AbstractValidateableDialogBuilder<DialogType extends Valid
         return self();
     }
 
+    /**
+     * Adds a new asynchronous validator, which should be executed in the background when the
+     * positive button of the dialog, which is created by the builder, is clicked.
+     *
+     * @param validator
+     *         The validator, which should be added, as an instance of the type {@link
+     *         AsyncDialogValidator}. The validator may not be null
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType addAsyncValidator(@NonNull final AsyncDialogValidator<?> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        getProduct().addAsyncValidator(validator);
+        return self();
+    }
+
+    /**
+     * Sets the executor, which should be used to execute the asynchronous validators of the
+     * dialog, which is created by the builder.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor} or
+     *         null, if the default executor should be used
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setValidationExecutor(@Nullable final Executor executor) {
+        getProduct().setValidationExecutor(executor);
+        return self();
+    }
+
+    /**
+     * Sets, whether live validation should be enabled for the dialog, which is created by the
+     * builder, or not.
+     *
+     * @param enabled
+     *         True, if live validation should be enabled, false otherwise
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setLiveValidationEnabled(final boolean enabled) {
+        getProduct().setLiveValidationEnabled(enabled);
+        return self();
+    }
+
+    /**
+     * Sets the delay, which must elapse after the text of an input view of the dialog, which is
+     * created by the builder, has been changed, until live validation is performed.
+     *
+     * @param delay
+     *         The delay, which should be set, in milliseconds as a {@link Long} value. The delay
+     *         must be at least 0
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setLiveValidationDelay(final long delay) {
+        getProduct().setLiveValidationDelay(delay);
+        return self();
+    }
+
 }
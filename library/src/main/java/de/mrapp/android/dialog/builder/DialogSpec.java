@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.builder;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.StyleRes;
+
+import de.mrapp.android.dialog.model.MaterialDialog;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An immutable specification of a dialog, which contains the properties of all of the dialog's
+ * decorators, as well as the resource id of the dialog's theme. A specification can be created
+ * once by using the method {@link AbstractMaterialDialogBuilder#createSpec()} and can be passed to
+ * the constructor of an arbitrary number of builders of the same type afterwards. Such builders
+ * neither obtain the attributes of their theme, nor do they resolve any resources. Instead, the
+ * values, which have already been resolved, when the specification has been created, are copied
+ * to their dialogs. Specifications are thread-safe and can therefore be shared between threads.
+ *
+ * Listeners, custom views and list items, which are provided by an adapter, are not part of a
+ * specification and must be set after a specification has been applied. Only list items, which have
+ * been set as arrays, are copied. Bitmaps and the arguments of fragments are shared by all dialogs,
+ * a specification is applied to. They must therefore not be modified. As a specification retains
+ * the context of the builder it has been created by, specifications, which are kept longer than a
+ * single activity, should be created by a builder, which uses the application context.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class DialogSpec {
+
+    /**
+     * The resource id of the theme, which is used by the dialog.
+     */
+    private final int themeResourceId;
+
+    /**
+     * The dialog, which contains the resolved properties of the specification. It is never shown
+     * and never modified after the specification has been created.
+     */
+    private final MaterialDialog template;
+
+    /**
+     * Creates a new specification of a dialog.
+     *
+     * @param themeResourceId
+     *         The resource id of the theme, which is used by the dialog, as an {@link Integer}
+     *         value
+     * @param template
+     *         The dialog, which contains the resolved properties of the specification, as an
+     *         instance of the type {@link MaterialDialog}. The dialog may not be null and must not
+     *         be shown or modified afterwards
+     */
+    DialogSpec(@StyleRes final int themeResourceId, @NonNull final MaterialDialog template) {
+        ensureNotNull(template, "The dialog may not be null");
+        this.themeResourceId = themeResourceId;
+        this.template = template;
+    }
+
+    /**
+     * Returns the resource id of the theme, which is used by the dialog.
+     *
+     * @return The resource id of the theme, which is used by the dialog, as an {@link Integer}
+     * value
+     */
+    @StyleRes
+    public final int getThemeResourceId() {
+        return themeResourceId;
+    }
+
+    /**
+     * Applies the specification to a specific dialog by copying the resolved properties. The
+     * dialog must be of the same type as the dialog, the specification has been created from, and
+     * must not have been shown yet.
+     *
+     * @param dialog
+     *         The dialog, the specification should be applied to, as an instance of the type {@link
+     *         MaterialDialog}. The dialog may not be null
+     */
+    public final void applyTo(@NonNull final MaterialDialog dialog) {
+        ensureNotNull(dialog, "The dialog may not be null");
+        dialog.copyProperties(template);
+    }
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.builder;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.support.annotation.AttrRes;
+import android.support.annotation.ColorInt;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StyleRes;
+import android.support.v7.content.res.AppCompatResources;
+import android.util.SparseArray;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import de.mrapp.android.dialog.R;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An immutable snapshot of the attributes, which are used by the builders of this library, as
+ * they are resolved by a specific theme. All attributes are obtained by a single call of the method
+ * {@link Resources.Theme#obtainStyledAttributes(int, int[])}. Snapshots are cached per theme and
+ * are computed again, if the configuration of the context, they have been obtained from, changes.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class ThemeSnapshot {
+
+    /**
+     * The attributes, which are contained by a snapshot, sorted in ascending order.
+     */
+    private static final int[] ATTRIBUTES;
+
+    static {
+        ATTRIBUTES = new int[]{R.attr.colorAccent, R.attr.colorPrimary,
+                android.R.attr.textColorPrimary, android.R.attr.textColorSecondary,
+                R.attr.materialDialogFullscreen, R.attr.materialDialogGravity,
+                R.attr.materialDialogWidth, R.attr.materialDialogHeight,
+                R.attr.materialDialogMaxWidth, R.attr.materialDialogMaxHeight,
+                R.attr.materialDialogMarginLeft, R.attr.materialDialogMarginTop,
+                R.attr.materialDialogMarginRight, R.attr.materialDialogMarginBottom,
+                R.attr.materialDialogPaddingLeft, R.attr.materialDialogPaddingTop,
+                R.attr.materialDialogPaddingRight, R.attr.materialDialogPaddingBottom,
+                R.attr.materialDialogFitsSystemWindowsLeft,
+                R.attr.materialDialogFitsSystemWindowsTop,
+                R.attr.materialDialogFitsSystemWindowsRight,
+                R.attr.materialDialogFitsSystemWindowsBottom,
+                R.attr.materialDialogWindowBackground, R.attr.materialDialogBackground,
+                R.attr.materialDialogMessageColor, R.attr.materialDialogTitleColor,
+                R.attr.materialDialogIconTint, R.attr.materialDialogScrollableAreaTop,
+                R.attr.materialDialogScrollableAreaBottom,
+                R.attr.materialDialogShowDividersOnScroll, R.attr.materialDialogDividerColor,
+                R.attr.materialDialogDividerMargin, R.attr.materialDialogShowHeader,
+                R.attr.materialDialogHeaderHeight, R.attr.materialDialogHeaderBackground,
+                R.attr.materialDialogHeaderIcon, R.attr.materialDialogHeaderIconTint,
+                R.attr.materialDialogHeaderDividerColor, R.attr.materialDialogShowHeaderDivider,
+                R.attr.materialDialogButtonTextColor,
+                R.attr.materialDialogDisabledButtonTextColor,
+                R.attr.materialDialogShowButtonBarDivider, R.attr.materialDialogItemColor,
+                R.attr.materialDialogProgressBarColor, R.attr.materialDialogProgressBarSize,
+                R.attr.materialDialogProgressBarThickness,
+                R.attr.materialDialogProgressBarPosition, R.attr.materialDialogTabPosition,
+                R.attr.materialDialogEnableTabLayout, R.attr.materialDialogShowTabLayout,
+                R.attr.materialDialogTabIndicatorHeight, R.attr.materialDialogTabIndicatorColor,
+                R.attr.materialDialogTabTextColor, R.attr.materialDialogTabSelectedTextColor,
+                R.attr.materialDialogEnableSwipe, R.attr.materialDialogShowButtonBar,
+                R.attr.materialDialogBackButtonText, R.attr.materialDialogNextButtonText,
+                R.attr.materialDialogFinishButtonText};
+        Arrays.sort(ATTRIBUTES);
+    }
+
+    /**
+     * A map, which contains the snapshots, which have already been computed. The snapshots are
+     * mapped to the themes of the contexts, they have been obtained from, as well as to the
+     * resource ids of the themes, they have been resolved by.
+     */
+    private static final Map<Resources.Theme, SparseArray<ThemeSnapshot>> CACHE =
+            new WeakHashMap<>();
+
+    /**
+     * The configuration, the snapshot has been computed for.
+     */
+    private final Configuration configuration;
+
+    /**
+     * A sparse array, which contains the values of the attributes, which are defined by the
+     * theme, mapped to their resource ids.
+     */
+    private final SparseArray<TypedValue> values;
+
+    /**
+     * Creates a new snapshot by resolving the attributes, which are used by the builders of this
+     * library, using a specific theme.
+     *
+     * @param context
+     *         The context, the theme should be applied to, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme, which should be used to resolve the attributes, as an
+     *         {@link Integer} value
+     */
+    private ThemeSnapshot(@NonNull final Context context, @StyleRes final int themeResourceId) {
+        this.configuration = new Configuration(context.getResources().getConfiguration());
+        this.values = new SparseArray<>(ATTRIBUTES.length);
+        TypedArray typedArray = new ContextThemeWrapper(context, themeResourceId).getTheme()
+                .obtainStyledAttributes(themeResourceId, ATTRIBUTES);
+
+        try {
+            for (int i = 0; i < ATTRIBUTES.length; i++) {
+                TypedValue value = new TypedValue();
+
+                if (typedArray.getValue(i, value) && value.type != TypedValue.TYPE_NULL &&
+                        value.type != TypedValue.TYPE_ATTRIBUTE) {
+                    values.put(ATTRIBUTES[i], value);
+                }
+            }
+        } finally {
+            typedArray.recycle();
+        }
+    }
+
+    /**
+     * Returns, whether a value of a specific type is an integer, a boolean or a color.
+     *
+     * @param value
+     *         The value as an instance of the class {@link TypedValue}. The value may not be null
+     * @return True, if the given value is an integer, a boolean or a color, false otherwise
+     */
+    private static boolean isInteger(@NonNull final TypedValue value) {
+        return value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT;
+    }
+
+    /**
+     * Returns the snapshot, which corresponds to a specific context and theme. If the snapshot has
+     * not been computed yet, or if the configuration of the context has changed since it has been
+     * computed, it is computed and added to the cache.
+     *
+     * @param context
+     *         The context, the theme should be applied to, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme, which should be used to resolve the attributes, as an
+     *         {@link Integer} value. The resource id must correspond to a valid theme
+     * @return The snapshot, which corresponds to the given context and theme, as an instance of
+     * the class {@link ThemeSnapshot}. The snapshot may not be null
+     */
+    @NonNull
+    public static synchronized ThemeSnapshot obtain(@NonNull final Context context,
+                                                    @StyleRes final int themeResourceId) {
+        ensureNotNull(context, "The context may not be null");
+        Resources.Theme theme = context.getTheme();
+        SparseArray<ThemeSnapshot> snapshots = CACHE.get(theme);
+
+        if (snapshots == null) {
+            snapshots = new SparseArray<>();
+            CACHE.put(theme, snapshots);
+        }
+
+        ThemeSnapshot snapshot = snapshots.get(themeResourceId);
+        Configuration configuration = context.getResources().getConfiguration();
+
+        if (snapshot == null || snapshot.configuration.diff(configuration) != 0) {
+            snapshot = new ThemeSnapshot(context, themeResourceId);
+            snapshots.put(themeResourceId, snapshot);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Removes all snapshots from the cache.
+     */
+    public static synchronized void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Returns, whether a specific attribute is defined by the theme, or not.
+     *
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @return True, if the given attribute is defined by the theme, false otherwise
+     */
+    public final boolean hasValue(@AttrRes final int attribute) {
+        return values.get(attribute) != null;
+    }
+
+    /**
+     * Returns the boolean value of a specific attribute.
+     *
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as a {@link
+     *         Boolean} value
+     * @return The boolean value of the given attribute as a {@link Boolean} value
+     */
+    public final boolean getBoolean(@AttrRes final int attribute, final boolean defaultValue) {
+        TypedValue value = values.get(attribute);
+        return value != null && isInteger(value) ? value.data != 0 : defaultValue;
+    }
+
+    /**
+     * Returns the integer value of a specific attribute.
+     *
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The integer value of the given attribute as an {@link Integer} value
+     */
+    public final int getInt(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = values.get(attribute);
+        return value != null && isInteger(value) ? value.data : defaultValue;
+    }
+
+    /**
+     * Returns the dimension of a specific attribute in pixels.
+     *
+     * @param context
+     *         The context, which should be used to convert the dimension, as an instance of the
+     *         class {@link Context}. The context may not be null
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The dimension of the given attribute in pixels as an {@link Integer} value
+     * @throws UnsupportedOperationException
+     *         If the value of the attribute is not a dimension
+     */
+    public final int getDimensionPixelSize(@NonNull final Context context,
+                                           @AttrRes final int attribute, final int defaultValue) {
+        ensureNotNull(context, "The context may not be null");
+        TypedValue value = values.get(attribute);
+
+        if (value == null) {
+            return defaultValue;
+        } else if (value.type == TypedValue.TYPE_DIMENSION) {
+            return TypedValue.complexToDimensionPixelSize(value.data,
+                    context.getResources().getDisplayMetrics());
+        }
+
+        throw new UnsupportedOperationException(
+                "Can't convert value to dimension: type=0x" + Integer.toHexString(value.type));
+    }
+
+    /**
+     * Returns the resource id of a specific attribute.
+     *
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined or does not
+     *         reference a resource, as an {@link Integer} value
+     * @return The resource id of the given attribute as an {@link Integer} value
+     */
+    public final int getResourceId(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = values.get(attribute);
+        return value != null && value.resourceId != 0 ? value.resourceId : defaultValue;
+    }
+
+    /**
+     * Returns the color of a specific attribute. If the attribute references a color state list,
+     * its default color is returned.
+     *
+     * @param context
+     *         The context, which should be used to load color state lists, as an instance of the
+     *         class {@link Context}. The context may not be null
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @param defaultValue
+     *         The color, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The color of the given attribute as an {@link Integer} value
+     * @throws UnsupportedOperationException
+     *         If the value of the attribute is not a color
+     */
+    @ColorInt
+    public final int getColor(@NonNull final Context context, @AttrRes final int attribute,
+                              @ColorInt final int defaultValue) {
+        ensureNotNull(context, "The context may not be null");
+        TypedValue value = values.get(attribute);
+
+        if (value == null) {
+            return defaultValue;
+        } else if (isInteger(value)) {
+            return value.data;
+        } else if (value.type == TypedValue.TYPE_STRING && value.resourceId != 0) {
+            return AppCompatResources.getColorStateList(context, value.resourceId)
+                    .getDefaultColor();
+        }
+
+        throw new UnsupportedOperationException(
+                "Can't convert value to color: type=0x" + Integer.toHexString(value.type));
+    }
+
+    /**
+     * Returns the color state list of a specific attribute.
+     *
+     * @param context
+     *         The context, which should be used to load the color state list, as an instance of
+     *         the class {@link Context}. The context may not be null
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @return The color state list of the given attribute as an instance of the class {@link
+     * ColorStateList} or null, if the attribute is not defined
+     */
+    @Nullable
+    public final ColorStateList getColorStateList(@NonNull final Context context,
+                                                  @AttrRes final int attribute) {
+        ensureNotNull(context, "The context may not be null");
+        TypedValue value = values.get(attribute);
+
+        if (value == null) {
+            return null;
+        } else if (isInteger(value)) {
+            return ColorStateList.valueOf(value.data);
+        } else if (value.type == TypedValue.TYPE_STRING && value.resourceId != 0) {
+            return AppCompatResources.getColorStateList(context, value.resourceId);
+        }
+
+        throw new UnsupportedOperationException(
+                "Can't convert value to color state list: type=0x" +
+                        Integer.toHexString(value.type));
+    }
+
+    /**
+     * Returns the text of a specific attribute.
+     *
+     * @param attribute
+     *         The attribute as an {@link Integer} value
+     * @return The text of the given attribute as an instance of the type {@link CharSequence} or
+     * null, if the attribute is not defined
+     */
+    @Nullable
+    public final CharSequence getText(@AttrRes final int attribute) {
+        TypedValue value = values.get(attribute);
+        return value != null ? value.coerceToString() : null;
+    }
+
+}
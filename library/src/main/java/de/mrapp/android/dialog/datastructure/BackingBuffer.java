@@ -0,0 +1,318 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.datastructure;
+
+import android.annotation.TargetApi;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An offscreen buffer, which consists of a bitmap and a canvas, which allows to draw into the
+ * bitmap. The size of the bitmap is rounded up to a multiple of a fixed bucket size. This allows
+ * to resize the buffer without allocating a new bitmap, as long as the new size fits into the
+ * current bitmap. Bitmaps, which are not needed anymore, are put into a process-wide pool in order
+ * to be reused by other buffers.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class BackingBuffer {
+
+    /**
+     * The size of the buckets, the width and height of bitmaps are rounded up to, in pixels.
+     */
+    private static final int BUCKET_SIZE = 64;
+
+    /**
+     * The maximum number of bytes, which may be occupied by the bitmaps, which are kept in the
+     * pool.
+     */
+    private static final long MAX_POOL_SIZE = Runtime.getRuntime().maxMemory() / 32;
+
+    /**
+     * A list, which contains the bitmaps, which are currently kept in the pool, ordered by the time
+     * they have been released.
+     */
+    private static final LinkedList<Bitmap> POOL = new LinkedList<>();
+
+    /**
+     * The number of bytes, which are currently occupied by the bitmaps, which are kept in the
+     * pool.
+     */
+    private static long poolSize = 0;
+
+    /**
+     * The canvas, which allows to draw into the buffer's bitmap.
+     */
+    private final Canvas canvas;
+
+    /**
+     * The rectangle, which specifies the area of the bitmap, which is used by the buffer.
+     */
+    private final Rect bounds;
+
+    /**
+     * The bitmap, which is used by the buffer.
+     */
+    private Bitmap bitmap;
+
+    /**
+     * Rounds a specific size up to a multiple of the bucket size.
+     *
+     * @param size
+     *         The size, which should be rounded, in pixels as an {@link Integer} value
+     * @return The rounded size in pixels as an {@link Integer} value
+     */
+    private static int roundToBucket(final int size) {
+        return ((size + BUCKET_SIZE - 1) / BUCKET_SIZE) * BUCKET_SIZE;
+    }
+
+    /**
+     * Returns the number of bytes, which are occupied by a specific bitmap.
+     *
+     * @param bitmap
+     *         The bitmap as an instance of the class {@link Bitmap}. The bitmap may not be null
+     * @return The number of bytes, which are occupied by the given bitmap, as a {@link Long} value
+     */
+    private static long getByteCount(@NonNull final Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            return bitmap.getAllocationByteCount();
+        }
+
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    /**
+     * Returns a bitmap of a specific bucket size. If the pool contains a suitable bitmap, it is
+     * reused. Otherwise a new bitmap is created.
+     *
+     * @param width
+     *         The width of the bitmap, which should be returned, in pixels as an {@link Integer}
+     *         value. The width must be a multiple of the bucket size
+     * @param height
+     *         The height of the bitmap, which should be returned, in pixels as an {@link Integer}
+     *         value. The height must be a multiple of the bucket size
+     * @return The bitmap as an instance of the class {@link Bitmap}. The bitmap may not be null
+     */
+    @NonNull
+    private static synchronized Bitmap obtainBitmap(final int width, final int height) {
+        Iterator<Bitmap> iterator = POOL.iterator();
+
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+                iterator.remove();
+                poolSize -= getByteCount(bitmap);
+                return bitmap;
+            }
+        }
+
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * Puts a bitmap, which is not needed anymore, into the pool. If the pool's maximum size is
+     * exceeded, the bitmaps, which have been released first, are recycled.
+     *
+     * @param bitmap
+     *         The bitmap, which should be put into the pool, as an instance of the class {@link
+     *         Bitmap}. The bitmap may not be null
+     */
+    private static synchronized void releaseBitmap(@NonNull final Bitmap bitmap) {
+        long byteCount = getByteCount(bitmap);
+
+        if (byteCount > MAX_POOL_SIZE) {
+            bitmap.recycle();
+        } else {
+            while (poolSize + byteCount > MAX_POOL_SIZE && !POOL.isEmpty()) {
+                Bitmap evictedBitmap = POOL.removeFirst();
+                poolSize -= getByteCount(evictedBitmap);
+                evictedBitmap.recycle();
+            }
+
+            POOL.addLast(bitmap);
+            poolSize += byteCount;
+        }
+    }
+
+    /**
+     * Attempts to reconfigure the buffer's current bitmap in order to match a specific size
+     * without allocating new memory.
+     *
+     * @param width
+     *         The width, the bitmap should be reconfigured to, in pixels as an {@link Integer}
+     *         value
+     * @param height
+     *         The height, the bitmap should be reconfigured to, in pixels as an {@link Integer}
+     *         value
+     * @return True, if the bitmap has been reconfigured, false otherwise
+     */
+    @TargetApi(Build.VERSION_CODES.KITKAT)
+    private boolean reconfigureBitmap(final int width, final int height) {
+        if (bitmap.isMutable() &&
+                bitmap.getAllocationByteCount() >= (long) width * height * 4) {
+            bitmap.reconfigure(width, height, Bitmap.Config.ARGB_8888);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates a new offscreen buffer.
+     */
+    public BackingBuffer() {
+        this.canvas = new Canvas();
+        this.bounds = new Rect();
+        this.bitmap = null;
+    }
+
+    /**
+     * Sets the size of the buffer. If the buffer's current bitmap is large enough, it is reused.
+     * Otherwise it is grown in place, if supported by the device, or replaced by a bitmap from the
+     * pool.
+     *
+     * @param width
+     *         The width, which should be set, in pixels as an {@link Integer} value. The width must
+     *         be at least 0
+     * @param height
+     *         The height, which should be set, in pixels as an {@link Integer} value. The height
+     *         must be at least 0
+     * @return True, if the size of the buffer has been changed, false otherwise
+     */
+    public final boolean setSize(final int width, final int height) {
+        ensureAtLeast(width, 0, "The width must be at least 0");
+        ensureAtLeast(height, 0, "The height must be at least 0");
+
+        if (bitmap != null && bounds.width() == width && bounds.height() == height) {
+            return false;
+        }
+
+        bounds.set(0, 0, width, height);
+
+        if (width == 0 || height == 0) {
+            release();
+        } else if (bitmap == null || bitmap.getWidth() < width || bitmap.getHeight() < height) {
+            int bucketWidth = roundToBucket(width);
+            int bucketHeight = roundToBucket(height);
+
+            if (bitmap != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT &&
+                    reconfigureBitmap(bucketWidth, bucketHeight)) {
+                canvas.setBitmap(bitmap);
+            } else {
+                if (bitmap != null) {
+                    releaseBitmap(bitmap);
+                }
+
+                bitmap = obtainBitmap(bucketWidth, bucketHeight);
+                canvas.setBitmap(bitmap);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the width of the buffer.
+     *
+     * @return The width of the buffer in pixels as an {@link Integer} value
+     */
+    public final int getWidth() {
+        return bounds.width();
+    }
+
+    /**
+     * Returns the height of the buffer.
+     *
+     * @return The height of the buffer in pixels as an {@link Integer} value
+     */
+    public final int getHeight() {
+        return bounds.height();
+    }
+
+    /**
+     * Returns, whether the buffer currently holds a bitmap, or not.
+     *
+     * @return True, if the buffer currently holds a bitmap, false otherwise
+     */
+    public final boolean isAllocated() {
+        return bitmap != null;
+    }
+
+    /**
+     * Returns the canvas, which allows to draw into the buffer.
+     *
+     * @return The canvas, which allows to draw into the buffer, as an instance of the class {@link
+     * Canvas} or null, if the buffer does not hold a bitmap
+     */
+    @Nullable
+    public final Canvas getCanvas() {
+        return bitmap != null ? canvas : null;
+    }
+
+    /**
+     * Erases the content of the buffer.
+     */
+    public final void clear() {
+        if (bitmap != null) {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+    }
+
+    /**
+     * Draws the content of the buffer to a specific canvas.
+     *
+     * @param target
+     *         The canvas, the content should be drawn to, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param paint
+     *         The paint, which should be used for drawing, as an instance of the class {@link
+     *         Paint} or null, if no paint should be used
+     */
+    public final void draw(@NonNull final Canvas target, @Nullable final Paint paint) {
+        ensureNotNull(target, "The canvas may not be null");
+
+        if (bitmap != null) {
+            target.drawBitmap(bitmap, bounds, bounds, paint);
+        }
+    }
+
+    /**
+     * Releases the buffer's bitmap by putting it into the pool. The buffer can be used again
+     * afterwards by calling the method {@link #setSize(int, int)}.
+     */
+    public final void release() {
+        if (bitmap != null) {
+            canvas.setBitmap(null);
+            releaseBitmap(bitmap);
+            bitmap = null;
+        }
+
+        bounds.setEmpty();
+    }
+
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.datastructure;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A store, which allows to externalize bitmaps, which are part of a dialog's state, in order to
+ * avoid parcelling them into the bundle, which is used to save the dialog's state. Instead of the
+ * bitmap itself, only a small token, which identifies the bitmap, must be stored in the bundle.
+ *
+ * Bitmaps are written to a private file on a background thread, which allows to restore them
+ * after the process has been killed. In memory, they are only referenced weakly, i.e. the store
+ * does not keep bitmaps alive, which are not used by any dialog anymore. Tokens are resolved
+ * lazily, i.e. a bitmap is only read from its file, if it has been garbage collected.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class BitmapStateStore {
+
+    /**
+     * Defines the interface, a class, which should be notified, when the bitmap, which corresponds
+     * to a token, has been resolved, must implement.
+     */
+    public interface Callback {
+
+        /**
+         * The method, which is invoked on the UI thread, when the bitmap, which corresponds to a
+         * token, has been resolved.
+         *
+         * @param bitmap
+         *         The bitmap, which has been resolved, as an instance of the class {@link Bitmap}.
+         *         The bitmap may not be null
+         */
+        void onResolved(@NonNull Bitmap bitmap);
+
+        /**
+         * The method, which is invoked on the UI thread, when the bitmap, which corresponds to a
+         * token, could not be resolved, e.g. because its file has been deleted. In such case,
+         * the value, which has been set before restoring, should be retained.
+         */
+        void onFailed();
+
+    }
+
+    /**
+     * The name of the directory, which contains the files, bitmaps are written to.
+     */
+    private static final String DIRECTORY_NAME = "material_dialog_state";
+
+    /**
+     * The suffix of the files, bitmaps are written to.
+     */
+    private static final String FILE_SUFFIX = ".png";
+
+    /**
+     * The maximum age of files in milliseconds. Older files, which are not referred to by a live
+     * token, are deleted, when a bitmap is stored for the first time.
+     */
+    private static final long MAX_FILE_AGE = 24 * 60 * 60 * 1000;
+
+    /**
+     * A map, which contains weak references to the bitmaps, mapped to their tokens.
+     */
+    private static final Map<String, WeakReference<Bitmap>> BITMAPS = new HashMap<>();
+
+    /**
+     * A map, which contains the tokens of bitmaps, which have already been stored, in order to
+     * avoid storing the same bitmap multiple times.
+     */
+    private static final Map<Bitmap, String> TOKENS = new WeakHashMap<>();
+
+    /**
+     * A set, which contains the tokens, which have been created or resolved by the current
+     * process. The files, these tokens refer to, are never deleted when pruning outdated files.
+     */
+    private static final Set<String> LIVE_TOKENS = new HashSet<>();
+
+    /**
+     * The handler, which is used to pass resolved bitmaps to the UI thread.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The executor, which is used to read and write files in the background.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * True, if outdated files have already been deleted, false otherwise.
+     */
+    private static boolean pruned;
+
+    /**
+     * Creates a new store. This constructor is private, because the class only provides static
+     * methods.
+     */
+    private BitmapStateStore() {
+
+    }
+
+    /**
+     * Returns the executor, which is used to read and write files in the background. If the
+     * executor has not been created yet, it is created.
+     *
+     * @return The executor, which is used to read and write files in the background, as an
+     * instance of the type {@link ExecutorService}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            BitmapStateStore.class.getSimpleName() + "::ioThread");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return executor;
+    }
+
+    /**
+     * Returns the bitmap, which corresponds to a specific token, if it has not been garbage
+     * collected yet.
+     *
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String}. The token may not be
+     *         null
+     * @return The bitmap, which corresponds to the given token, as an instance of the class {@link
+     * Bitmap} or null, if the bitmap is not available in memory
+     */
+    @Nullable
+    private static Bitmap getBitmap(@NonNull final String token) {
+        synchronized (BITMAPS) {
+            WeakReference<Bitmap> reference = BITMAPS.get(token);
+            Bitmap bitmap = reference != null ? reference.get() : null;
+
+            if (reference != null && bitmap == null) {
+                BITMAPS.remove(token);
+            }
+
+            return bitmap;
+        }
+    }
+
+    /**
+     * Adds a weak reference to a specific bitmap, which corresponds to a specific token. All
+     * references to bitmaps, which have already been garbage collected, are removed.
+     *
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String}. The token may not be
+     *         null
+     * @param bitmap
+     *         The bitmap as an instance of the class {@link Bitmap}. The bitmap may not be null
+     */
+    private static void putBitmap(@NonNull final String token, @NonNull final Bitmap bitmap) {
+        synchronized (BITMAPS) {
+            Iterator<WeakReference<Bitmap>> iterator = BITMAPS.values().iterator();
+
+            while (iterator.hasNext()) {
+                if (iterator.next().get() == null) {
+                    iterator.remove();
+                }
+            }
+
+            BITMAPS.put(token, new WeakReference<>(bitmap));
+        }
+    }
+
+    /**
+     * Returns the directory, which contains the files, bitmaps are written to.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @return The directory, which contains the files, bitmaps are written to, as an instance of
+     * the class {@link File}. The directory may not be null
+     */
+    @NonNull
+    private static File getDirectory(@NonNull final Context context) {
+        return new File(context.getCacheDir(), DIRECTORY_NAME);
+    }
+
+    /**
+     * Returns the file, a specific bitmap is written to.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String}. The token may not be
+     *         null
+     * @return The file, the bitmap is written to, as an instance of the class {@link File}. The
+     * file may not be null
+     */
+    @NonNull
+    private static File getFile(@NonNull final Context context, @NonNull final String token) {
+        return new File(getDirectory(context), token + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns, whether a specific string is a valid token, or not. Only tokens, which have been
+     * created by the store, are considered valid, in order to prevent tokens from referring to
+     * files outside of the store's directory.
+     *
+     * @param token
+     *         The string, which should be checked, as a {@link String}. The string may not be null
+     * @return True, if the given string is a valid token, false otherwise
+     */
+    private static boolean isValidToken(@NonNull final String token) {
+        try {
+            return UUID.fromString(token).toString().equals(token);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes all files, which are older than the maximum age and are not referred to by a live
+     * token.
+     *
+     * @param directory
+     *         The directory, which contains the files, as an instance of the class {@link File}.
+     *         The directory may not be null
+     */
+    private static void pruneFiles(@NonNull final File directory) {
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+            long minTimestamp = System.currentTimeMillis() - MAX_FILE_AGE;
+
+            for (File file : files) {
+                String name = file.getName();
+                String token = name.endsWith(FILE_SUFFIX) ?
+                        name.substring(0, name.length() - FILE_SUFFIX.length()) : name;
+                boolean live;
+
+                synchronized (LIVE_TOKENS) {
+                    live = LIVE_TOKENS.contains(token);
+                }
+
+                if (!live && file.lastModified() < minTimestamp) {
+                    // noinspection ResultOfMethodCallIgnored
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to write a specific bitmap to a file.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String}. The token may not be
+     *         null
+     * @param bitmap
+     *         The bitmap, which should be written, as an instance of the class {@link Bitmap}. The
+     *         bitmap may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private static Runnable createWriteRunnable(@NonNull final Context context,
+                                                @NonNull final String token,
+                                                @NonNull final Bitmap bitmap) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                File directory = getDirectory(context);
+
+                if (!pruned) {
+                    pruned = true;
+                    pruneFiles(directory);
+                }
+
+                if (directory.isDirectory() || directory.mkdirs()) {
+                    File file = getFile(context, token);
+
+                    try {
+                        OutputStream outputStream = new FileOutputStream(file);
+
+                        try {
+                            bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+                        } finally {
+                            outputStream.close();
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        // noinspection ResultOfMethodCallIgnored
+                        file.delete();
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to read the bitmap, which corresponds to a
+     * specific token, from its file. If the file cannot be read, the callback is notified about
+     * the failure.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String}. The token may not be
+     *         null
+     * @param callback
+     *         The callback, which should be notified, when the bitmap has been read, as an
+     *         instance of the type {@link Callback}. The callback may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private static Runnable createReadRunnable(@NonNull final Context context,
+                                               @NonNull final String token,
+                                               @NonNull final Callback callback) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                final Bitmap bitmap =
+                        BitmapFactory.decodeFile(getFile(context, token).getAbsolutePath());
+
+                HANDLER.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (bitmap != null) {
+                            putBitmap(token, bitmap);
+
+                            synchronized (TOKENS) {
+                                TOKENS.put(bitmap, token);
+                            }
+
+                            callback.onResolved(bitmap);
+                        } else {
+                            callback.onFailed();
+                        }
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    /**
+     * Stores a specific bitmap and returns the token, which identifies it. If the same bitmap has
+     * already been stored before, its existing token is returned.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param bitmap
+     *         The bitmap, which should be stored, as an instance of the class {@link Bitmap}. The
+     *         bitmap may not be null
+     * @return The token, which identifies the bitmap, as a {@link String}. The token may not be
+     * null
+     */
+    @NonNull
+    public static String put(@NonNull final Context context, @NonNull final Bitmap bitmap) {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(bitmap, "The bitmap may not be null");
+        String token;
+
+        synchronized (TOKENS) {
+            token = TOKENS.get(bitmap);
+
+            if (token == null) {
+                token = UUID.randomUUID().toString();
+                TOKENS.put(bitmap, token);
+
+                synchronized (LIVE_TOKENS) {
+                    LIVE_TOKENS.add(token);
+                }
+
+                getExecutor().execute(
+                        createWriteRunnable(context.getApplicationContext(), token, bitmap));
+            }
+        }
+
+        putBitmap(token, bitmap);
+        return token;
+    }
+
+    /**
+     * Resolves the bitmap, which corresponds to a specific token. If the bitmap is still
+     * available in memory, the given callback is notified immediately. Otherwise, the bitmap is
+     * read from its file in the background and the callback is notified afterwards. If the token
+     * is invalid or the bitmap is not available anymore, the callback is notified about the
+     * failure. The file, the token refers to, is not deleted by pruning outdated files
+     * afterwards.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param token
+     *         The token, which identifies the bitmap, as a {@link String} or null, if no bitmap
+     *         should be resolved
+     * @param callback
+     *         The callback, which should be notified, when the bitmap has been resolved, as an
+     *         instance of the type {@link Callback}. The callback may not be null
+     */
+    public static void resolve(@NonNull final Context context, @Nullable final String token,
+                               @NonNull final Callback callback) {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(callback, "The callback may not be null");
+
+        if (token != null && !isValidToken(token)) {
+            callback.onFailed();
+        } else if (token != null) {
+            synchronized (LIVE_TOKENS) {
+                LIVE_TOKENS.add(token);
+            }
+
+            Bitmap bitmap = getBitmap(token);
+
+            if (bitmap != null) {
+                callback.onResolved(bitmap);
+            } else {
+                getExecutor().execute(
+                        createReadRunnable(context.getApplicationContext(), token, callback));
+            }
+        }
+    }
+
+    /**
+     * Removes all bitmaps from the store, including the files they have been written to.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     */
+    public static void clear(@NonNull final Context context) {
+        ensureNotNull(context, "The context may not be null");
+        synchronized (BITMAPS) {
+            BITMAPS.clear();
+        }
+
+        synchronized (TOKENS) {
+            TOKENS.clear();
+        }
+
+        synchronized (LIVE_TOKENS) {
+            LIVE_TOKENS.clear();
+        }
+
+        final Context applicationContext = context.getApplicationContext();
+        getExecutor().execute(new Runnable() {
+
+            @Override
+            public void run() {
+                File[] files = getDirectory(applicationContext).listFiles();
+
+                if (files != null) {
+                    for (File file : files) {
+                        // noinspection ResultOfMethodCallIgnored
+                        file.delete();
+                    }
+                }
+            }
+
+        });
+    }
+
+}
@@ -14,23 +14,35 @@
 package de.mrapp.android.dialog.decorator;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.LayoutRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.v4.os.TraceCompat;
+import android.text.TextUtils;
+import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.Window;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.ShowTracer;
 import de.mrapp.android.dialog.listener.AreaListener;
+import de.mrapp.android.dialog.listener.DecoratorAttachListener;
 import de.mrapp.android.dialog.model.Dialog;
 import de.mrapp.android.dialog.model.DialogDecorator;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 import de.mrapp.android.util.datastructure.ListenerList;
 
 import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
 
 /**
  * An abstract base class for all decorators, which allow to modify the view hierarchy of a dialog.
@@ -51,6 +63,18 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
      */
     private final ListenerList<AreaListener> areaListeners;
 
+    /**
+     * The listeners, which are notified, when the decorator has been attached to the view
+     * hierarchy.
+     */
+    private final ListenerList<DecoratorAttachListener> attachListeners;
+
+    /**
+     * The tracer, which is used to trace the attachment of the decorator, or null, if the
+     * attachment is not traced.
+     */
+    private ShowTracer showTracer;
+
     /**
      * The window of the dialog, whose view hierarchy is modified by the decorator.
      */
@@ -66,6 +90,85 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
      */
     private DialogRootView dialogRootView;
 
+    /**
+     * The inflater, which is used to inflate the layouts of the decorator in advance.
+     */
+    private AsyncViewInflater viewInflater;
+
+    /**
+     * True, if the attachment of the decorator has been deferred, because it was inactive, when
+     * it should have been attached, false otherwise.
+     */
+    private boolean attachmentDeferred;
+
+    /**
+     * A map, which contains the areas, which have been added by previously attached decorators,
+     * when the attachment of the decorator has been deferred.
+     */
+    private Map<ViewType, View> deferredAreas;
+
+    /**
+     * The parameter, which has been passed to the decorator, when its attachment has been
+     * deferred.
+     */
+    private ParamType deferredParam;
+
+    /**
+     * The number of batches, which are currently open.
+     */
+    private int batchDepth;
+
+    /**
+     * A bit vector, which specifies the adaptations, which have been deferred, while a batch was
+     * open.
+     */
+    private int pendingAdaptations;
+
+    /**
+     * Attaches the decorator to the view hierarchy and notifies the listeners, which have been
+     * registered to be notified, when the decorator has been attached.
+     *
+     * @param areas
+     *         A map, which contains the areas, which have already been added by previously attached
+     *         decorators, as well as the corresponding views, as an instance of the type {@link
+     *         Map} or an empty map, if no areas have been added
+     * @param param
+     *         The parameter, which should be passed to the decorator, as an instance of the generic
+     *         type ParamType or null, if no parameter should be passed
+     * @param deferred
+     *         True, if the attachment of the decorator has been deferred, false otherwise
+     * @return A map, which contains the views, which have been inflated by the decorator, mapped to
+     * their view types, as an instance of the type {@link Map}. The map may not be null
+     */
+    @NonNull
+    private Map<ViewType, View> performAttach(@NonNull final Map<ViewType, View> areas,
+                                              final ParamType param, final boolean deferred) {
+        boolean traced = showTracer != null && showTracer.isEnabled();
+
+        if (traced) {
+            TraceCompat.beginSection(getClass().getSimpleName());
+        }
+
+        long startTime = System.nanoTime();
+        Map<ViewType, View> result;
+
+        try {
+            result = onAttach(window, view, areas, param);
+        } finally {
+            if (traced) {
+                TraceCompat.endSection();
+            }
+        }
+
+        long duration = System.nanoTime() - startTime;
+
+        for (DecoratorAttachListener listener : attachListeners) {
+            listener.onDecoratorAttached(this, duration, deferred);
+        }
+
+        return result;
+    }
+
     /**
      * The method, which is invoked, when the decorator is attached to the view hierarchy.
      *
@@ -97,6 +200,147 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
      */
     protected abstract void onDetach();
 
+    /**
+     * The method, which is invoked, when the layouts, which are used by the decorator, should be
+     * inflated in advance. This method may be overridden by subclasses in order to pass the
+     * resource ids of their layouts to the given inflater.
+     *
+     * @param inflater
+     *         The inflater, which should be used to inflate the layouts in advance, as an instance
+     *         of the class {@link AsyncViewInflater}. The inflater may not be null
+     */
+    protected void onPrewarm(@NonNull final AsyncViewInflater inflater) {
+
+    }
+
+    /**
+     * The method, which is invoked, when the properties of another decorator, which is of the same
+     * type, should be copied. This method may be overridden by subclasses in order to copy their
+     * properties. The properties should be copied as they have already been resolved by the other
+     * decorator, i.e. without obtaining resources or theme attributes again. Listeners and custom
+     * views should not be copied. As the decorator is not attached, when this method is invoked,
+     * the view hierarchy does not have to be adapted.
+     *
+     * @param source
+     *         The decorator, whose properties should be copied, as an instance of the class {@link
+     *         AbstractDecorator}. The decorator may not be null and is of the same type as this
+     *         decorator
+     */
+    protected void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+
+    }
+
+    /**
+     * Returns, whether the decorator is active for the current configuration of the dialog, or
+     * not. Inactive decorators are not attached, when the dialog is shown, but as soon as they
+     * become active. This method may be overridden by subclasses, which are only needed, if
+     * certain properties have been set. In such case, the setters of these properties must call
+     * the method {@link #attachDeferred()}. If a decorator depends on the properties of another
+     * decorator, the dialog must call the method, when these properties are changed.
+     *
+     * @return True, if the decorator is active, false otherwise
+     */
+    protected boolean isActive() {
+        return true;
+    }
+
+    /**
+     * The method, which is invoked, when the adaptations, which have been deferred while a batch
+     * was open, should be applied. This method may be overridden by subclasses, which defer
+     * adaptations by using the method {@link #deferAdaptation(int)}.
+     *
+     * @param adaptations
+     *         A bit vector, which specifies the adaptations, which should be applied, as an {@link
+     *         Integer} value
+     */
+    protected void onApplyAdaptations(final int adaptations) {
+
+    }
+
+    /**
+     * Defers a specific adaptation of the view hierarchy, if a batch is currently open. Adapt
+     * methods should call this method first and return immediately, if it returns true. Deferred
+     * adaptations are passed to the method {@link #onApplyAdaptations(int)} once, when the batch
+     * is ended, regardless of how often they have been requested.
+     *
+     * @param adaptation
+     *         A bit, which identifies the adaptation, as an {@link Integer} value
+     * @return True, if the adaptation has been deferred, false otherwise
+     */
+    protected final boolean deferAdaptation(final int adaptation) {
+        if (batchDepth > 0) {
+            pendingAdaptations |= adaptation;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates and returns a copy of a specific drawable, which shares the drawable's constant
+     * state, e.g. its bitmap, but can be used by another view. This allows to use a drawable,
+     * which has been resolved once, for multiple dialogs.
+     *
+     * @param drawable
+     *         The drawable, which should be copied, as an instance of the class {@link Drawable}
+     *         or null
+     * @return The copy, which has been created, as an instance of the class {@link Drawable} or
+     * null, if the given drawable is null
+     */
+    @Nullable
+    protected static Drawable copyDrawable(@Nullable final Drawable drawable) {
+        if (drawable != null) {
+            Drawable.ConstantState constantState = drawable.getConstantState();
+
+            if (constantState != null) {
+                return constantState.newDrawable().mutate();
+            }
+        }
+
+        return drawable;
+    }
+
+    /**
+     * Creates and returns an immutable copy of a specific text. Texts, which are already
+     * immutable, are not copied.
+     *
+     * @param text
+     *         The text, which should be copied, as an instance of the type {@link CharSequence}
+     *         or null
+     * @return The copy, which has been created, as an instance of the type {@link CharSequence}
+     * or null, if the given text is null
+     */
+    @Nullable
+    protected static CharSequence copyText(@Nullable final CharSequence text) {
+        return TextUtils.stringOrSpannedString(text);
+    }
+
+    /**
+     * Attaches the decorator to the view hierarchy, if its attachment has been deferred, because it
+     * was inactive, and it has become active in the meantime. The views, which are inflated by the
+     * decorator, are added to the dialog's root view afterwards.
+     *
+     * @return True, if the decorator has been attached, false otherwise
+     */
+    public final boolean attachDeferred() {
+        if (attachmentDeferred && isActive()) {
+            Map<ViewType, View> areas = deferredAreas;
+            ParamType param = deferredParam;
+            attachmentDeferred = false;
+            deferredAreas = null;
+            deferredParam = null;
+            Map<ViewType, View> result = performAttach(areas, param, true);
+
+            if (dialogRootView != null && !result.isEmpty()) {
+                dialogRootView.putAreas(result);
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
     /**
      * Creates a new decorator, which allows to modify the view hierarchy of a dialog.
      *
@@ -108,14 +352,22 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         ensureNotNull(dialog, "The dialog may not be null");
         this.dialog = dialog;
         this.areaListeners = new ListenerList<>();
+        this.attachListeners = new ListenerList<>();
         this.window = null;
         this.view = null;
         this.dialogRootView = null;
+        this.viewInflater = null;
+        this.attachmentDeferred = false;
+        this.deferredAreas = null;
+        this.deferredParam = null;
+        this.batchDepth = 0;
+        this.pendingAdaptations = 0;
     }
 
     /**
      * Attaches the decorator to the view hierarchy. This enables the decorator to modify the view
-     * hierarchy until it is detached.
+     * hierarchy until it is detached. If the decorator is inactive, its attachment is deferred
+     * until it becomes active.
      *
      * @param window
      *         The window of the dialog, whose view hierarchy should be modified by the decorator,
@@ -143,7 +395,20 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         this.window = window;
         this.view = view;
         this.dialogRootView = view.findViewById(R.id.dialog_root_view);
-        return onAttach(window, view, areas, param);
+
+        if (!isActive()) {
+            this.attachmentDeferred = true;
+            this.deferredAreas = new HashMap<>(areas);
+            this.deferredParam = param;
+
+            for (DecoratorAttachListener listener : attachListeners) {
+                listener.onDecoratorAttachDeferred(this);
+            }
+
+            return Collections.emptyMap();
+        }
+
+        return performAttach(areas, param, false);
     }
 
     /**
@@ -154,7 +419,49 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         this.window = null;
         this.view = null;
         this.dialogRootView = null;
-        onDetach();
+
+        if (attachmentDeferred) {
+            this.attachmentDeferred = false;
+            this.deferredAreas = null;
+            this.deferredParam = null;
+        } else {
+            onDetach();
+        }
+    }
+
+    /**
+     * Copies the properties of another decorator, which is of the same type. Listeners and custom
+     * views are not copied. The decorator must not be attached.
+     *
+     * @param source
+     *         The decorator, whose properties should be copied, as an instance of the class {@link
+     *         AbstractDecorator}. The decorator may not be null and must be of the same type as
+     *         this decorator
+     */
+    public final void copyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        ensureNotNull(source, "The decorator may not be null");
+        ensureTrue(source.getClass() == getClass(), "The decorator must be of the same type");
+        ensureTrue(view == null, "The decorator must not be attached",
+                IllegalStateException.class);
+        onCopyProperties(source);
+    }
+
+    /**
+     * Inflates the layouts, which are used by the decorator, in advance on a background thread.
+     * The inflated views are used, when the decorator is attached the next time. The layouts of
+     * inactive decorators are not inflated in advance.
+     *
+     * @param inflater
+     *         The inflater, which should be used to inflate the layouts, as an instance of the
+     *         class {@link AsyncViewInflater}. The inflater may not be null
+     */
+    public final void prewarm(@NonNull final AsyncViewInflater inflater) {
+        ensureNotNull(inflater, "The inflater may not be null");
+        this.viewInflater = inflater;
+
+        if (isActive()) {
+            onPrewarm(inflater);
+        }
     }
 
     /**
@@ -182,6 +489,74 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         this.areaListeners.remove(listener);
     }
 
+    /**
+     * Begins a batch. While a batch is open, adaptations of the view hierarchy, which are deferred
+     * by the decorator, are not applied until the batch is ended. Batches may be nested.
+     */
+    public final void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch, which has previously been begun by using the method {@link #beginBatch()}. If
+     * no other batch is open, the adaptations, which have been deferred meanwhile, are applied.
+     */
+    public final void endBatch() {
+        if (batchDepth > 0 && --batchDepth == 0 && pendingAdaptations != 0) {
+            int adaptations = pendingAdaptations;
+            pendingAdaptations = 0;
+            onApplyAdaptations(adaptations);
+        }
+    }
+
+    /**
+     * Adds a new listener, which should be notified, when the decorator has been attached to the
+     * view hierarchy.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void addAttachListener(@NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+        this.attachListeners.add(listener);
+    }
+
+    /**
+     * Sets the tracer, which should be used to trace the attachment of the decorator. If tracing is
+     * enabled, a trace section, which is named after the class of the decorator, is emitted while
+     * the decorator is attached. Additionally, the tracer is notified about the time, which has
+     * been needed to attach the decorator.
+     *
+     * @param showTracer
+     *         The tracer, which should be set, as an instance of the class {@link ShowTracer} or
+     *         null, if the attachment should not be traced
+     */
+    public final void setShowTracer(@Nullable final ShowTracer showTracer) {
+        if (this.showTracer != null) {
+            this.attachListeners.remove(this.showTracer);
+        }
+
+        this.showTracer = showTracer;
+
+        if (showTracer != null) {
+            this.attachListeners.add(showTracer);
+        }
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified, when the decorator has been
+     * attached to the view hierarchy, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         DecoratorAttachListener}. The listener may not be null
+     */
+    public final void removeAttachListener(@NonNull final DecoratorAttachListener listener) {
+        ensureNotNull(listener, "The listener may not be null");
+        this.attachListeners.remove(listener);
+    }
+
     /**
      * Notifies the listeners, which have been registered to be notified, when the visibility of the
      * dialog's areas has been changed, about an area being shown.
@@ -254,6 +629,30 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         return dialogRootView;
     }
 
+    /**
+     * Inflates a specific layout. If the layout has already been inflated in advance, the
+     * pre-inflated view is used instead.
+     *
+     * @param layoutId
+     *         The resource id of the layout, which should be inflated, as an {@link Integer} value.
+     *         The resource id must correspond to a valid layout resource
+     * @param parent
+     *         The view group, which should be used to create the layout params of the view, as an
+     *         instance of the class {@link ViewGroup} or null, if no layout params should be
+     *         created. The view is not added to the view group
+     * @return The view, which has been inflated, as an instance of the class {@link View}. The
+     * view may not be null
+     */
+    @NonNull
+    protected final View inflateLayout(@LayoutRes final int layoutId,
+                                       @Nullable final ViewGroup parent) {
+        if (viewInflater != null) {
+            return viewInflater.obtain(layoutId, parent);
+        }
+
+        return LayoutInflater.from(getContext()).inflate(layoutId, parent, false);
+    }
+
     @Override
     public final Context getContext() {
         return dialog.getContext();
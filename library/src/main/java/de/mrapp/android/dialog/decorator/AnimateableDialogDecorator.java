@@ -567,6 +567,14 @@ public class AnimateableDialogDecorator extends AbstractDialogDecorator<HeaderDi
 
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        AnimateableDialogDecorator decorator = (AnimateableDialogDecorator) source;
+        this.showAnimation = decorator.showAnimation;
+        this.dismissAnimation = decorator.dismissAnimation;
+        this.cancelAnimation = decorator.cancelAnimation;
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -22,11 +22,11 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.text.TextUtils;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.Window;
 import android.widget.Button;
+import android.widget.LinearLayout;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +37,7 @@ import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.listener.OnClickListenerWrapper;
 import de.mrapp.android.dialog.model.ValidateableDialog;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView.AreaViewType;
 import de.mrapp.android.dialog.view.DialogRootView.DividerLocation;
 import de.mrapp.android.dialog.view.DialogRootView.DividerViewType;
@@ -198,9 +199,8 @@ public class ButtonBarDialogDecorator extends AbstractDialogDecorator<Validateab
     private View inflateButtonBar() {
         if (getRootView() != null) {
             if (buttonBarContainer == null) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                buttonBarContainer = (ViewGroup) layoutInflater
-                        .inflate(R.layout.button_bar_container, getRootView(), false);
+                buttonBarContainer = (ViewGroup) inflateLayout(R.layout.button_bar_container,
+                        getRootView());
                 buttonBarDivider = buttonBarContainer.findViewById(R.id.button_bar_divider);
             }
 
@@ -211,15 +211,12 @@ public class ButtonBarDialogDecorator extends AbstractDialogDecorator<Validateab
             if (customButtonBarView != null) {
                 buttonBarContainer.addView(customButtonBarView);
             } else if (customButtonBarViewId != -1) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view =
-                        layoutInflater.inflate(customButtonBarViewId, buttonBarContainer, false);
+                View view = inflateLayout(customButtonBarViewId, buttonBarContainer);
                 buttonBarContainer.addView(view);
             } else {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater.inflate(
+                View view = inflateLayout(
                         stackButtons ? R.layout.stacked_button_bar : R.layout.horizontal_button_bar,
-                        buttonBarContainer, false);
+                        buttonBarContainer);
                 buttonBarContainer.addView(view);
             }
 
@@ -508,6 +505,30 @@ public class ButtonBarDialogDecorator extends AbstractDialogDecorator<Validateab
                 negativeButtonListener);
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        ButtonBarDialogDecorator decorator = (ButtonBarDialogDecorator) source;
+        this.stackButtons = decorator.stackButtons;
+        this.buttonTextColor = decorator.buttonTextColor;
+        this.disabledButtonTextColor = decorator.disabledButtonTextColor;
+        this.showButtonBarDivider = decorator.showButtonBarDivider;
+        this.positiveButtonText = copyText(decorator.positiveButtonText);
+        this.neutralButtonText = copyText(decorator.neutralButtonText);
+        this.negativeButtonText = copyText(decorator.negativeButtonText);
+    }
+
+    @Override
+    protected final void onPrewarm(@NonNull final AsyncViewInflater inflater) {
+        LinearLayout parent = new LinearLayout(getContext());
+        inflater.inflate(R.layout.button_bar_container, parent);
+
+        if (customButtonBarView == null) {
+            inflater.inflate(customButtonBarViewId != -1 ? customButtonBarViewId :
+                    (stackButtons ? R.layout.stacked_button_bar : R.layout.horizontal_button_bar),
+                    parent);
+        }
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -25,14 +25,14 @@ import android.support.annotation.DrawableRes;
 import android.support.annotation.LayoutRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
-import android.support.v4.content.ContextCompat;
 import android.support.v4.widget.ImageViewCompat;
 import android.support.v7.content.res.AppCompatResources;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.Window;
 import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.RelativeLayout;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,11 +45,15 @@ import de.mrapp.android.dialog.animation.CircleTransitionAnimation;
 import de.mrapp.android.dialog.animation.CrossFadeTransitionAnimation;
 import de.mrapp.android.dialog.animation.DrawableAnimation;
 import de.mrapp.android.dialog.animation.ScaleTransitionAnimation;
+import de.mrapp.android.dialog.datastructure.BitmapStateStore;
 import de.mrapp.android.dialog.drawable.AbstractTransitionDrawable;
+import de.mrapp.android.dialog.drawable.BitmapDecoder;
 import de.mrapp.android.dialog.drawable.CircleTransitionDrawable;
 import de.mrapp.android.dialog.drawable.CrossFadeTransitionDrawable;
 import de.mrapp.android.dialog.drawable.ScaleTransitionDrawable;
 import de.mrapp.android.dialog.model.MaterialDialog;
+import de.mrapp.android.dialog.model.WizardDialogDecorator;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView.AreaViewType;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 
@@ -94,11 +98,11 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
             HeaderDialogDecorator.class.getSimpleName() + "::headerDividerColor";
 
     /**
-     * The name of the extra, which is used to store the bitmap of the background of the dialog's
-     * header within a bundle.
+     * The name of the extra, which is used to store the token, which identifies the bitmap of the
+     * background of the dialog's header, within a bundle.
      */
-    private static final String HEADER_BACKGROUND_BITMAP_EXTRA =
-            HeaderDialogDecorator.class.getSimpleName() + "::headerBackgroundBitmap";
+    private static final String HEADER_BACKGROUND_BITMAP_TOKEN_EXTRA =
+            HeaderDialogDecorator.class.getSimpleName() + "::headerBackgroundBitmapToken";
 
     /**
      * The name of the extra, which is used to store the resource id of the background of the
@@ -115,11 +119,11 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
             HeaderDialogDecorator.class.getSimpleName() + "::headerBackgroundColor";
 
     /**
-     * The name of the extra, which is used to store the bitmap of the icon of the dialog's header
-     * within a bundle.
+     * The name of the extra, which is used to store the token, which identifies the bitmap of the
+     * icon of the dialog's header, within a bundle.
      */
-    private static final String HEADER_ICON_BITMAP_EXTRA =
-            HeaderDialogDecorator.class.getSimpleName() + "::headerIconBitmap";
+    private static final String HEADER_ICON_BITMAP_TOKEN_EXTRA =
+            HeaderDialogDecorator.class.getSimpleName() + "::headerIconBitmapToken";
 
     /**
      * The name of the extra, which is used to store the resource id of the icon of the dialog's
@@ -142,6 +146,27 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     private static final String HEADER_ICON_TINT_MODE_EXTRA =
             HeaderDialogDecorator.class.getSimpleName() + "::headerIconTintMode";
 
+    /**
+     * The bit, which identifies the adaptation of the height of the dialog's header.
+     */
+    private static final int HEADER_HEIGHT_ADAPTATION = 1;
+
+    /**
+     * The bit, which identifies the adaptation of the color of the divider of the dialog's header.
+     */
+    private static final int HEADER_DIVIDER_COLOR_ADAPTATION = 1 << 1;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of the divider of the dialog's
+     * header.
+     */
+    private static final int HEADER_DIVIDER_VISIBILITY_ADAPTATION = 1 << 2;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of the dialog's header.
+     */
+    private static final int HEADER_VISIBILITY_ADAPTATION = 1 << 3;
+
     /**
      * The view group, which contains all views of the dialog's header.
      */
@@ -193,10 +218,35 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     private Drawable headerBackground;
 
     /**
-     * The bitmap of the background of the dialog's header
+     * The bitmap of the background of the dialog's header at its original size.
      */
     private Bitmap headerBackgroundBitmap;
 
+    /**
+     * The callback, which is used to restore the background of the dialog's header from the saved
+     * state, or null, if it has been changed in the meantime.
+     */
+    private BitmapStateStore.Callback headerBackgroundCallback;
+
+    /**
+     * The listener, which is notified, when the dialog's header has been laid out in order to
+     * decode its background at the header's size, or null, if the background does not need to be
+     * decoded.
+     */
+    private View.OnLayoutChangeListener headerBackgroundLayoutListener;
+
+    /**
+     * The width, the background of the dialog's header has been decoded at, in pixels or -1, if
+     * it has not been decoded at the size of the header yet.
+     */
+    private int headerBackgroundWidth = -1;
+
+    /**
+     * The height, the background of the dialog's header has been decoded at, in pixels or -1, if
+     * it has not been decoded at the size of the header yet.
+     */
+    private int headerBackgroundHeight = -1;
+
     /**
      * The resource id of the background of the dialog's header.
      */
@@ -217,6 +267,12 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      */
     private Bitmap headerIconBitmap;
 
+    /**
+     * The callback, which is used to restore the icon of the dialog's header from the saved state,
+     * or null, if it has been changed in the meantime.
+     */
+    private BitmapStateStore.Callback headerIconCallback;
+
     /**
      * The resource id of the icon of the dialog's header.
      */
@@ -251,9 +307,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     private View inflateHeader() {
         if (getRootView() != null) {
             if (header == null) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                header = (ViewGroup) layoutInflater
-                        .inflate(R.layout.material_dialog_header, getRootView(), false);
+                header = (ViewGroup) inflateLayout(R.layout.material_dialog_header, getRootView());
                 headerBackgroundImageView = header.findViewById(R.id.header_background_image_view);
                 headerContentContainer = header.findViewById(R.id.header_content_container);
                 headerDivider = header.findViewById(R.id.header_divider);
@@ -264,14 +318,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
             if (customHeaderView != null) {
                 headerContentContainer.addView(customHeaderView);
             } else if (customHeaderViewId != -1) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view =
-                        layoutInflater.inflate(customHeaderViewId, headerContentContainer, false);
+                View view = inflateLayout(customHeaderViewId, headerContentContainer);
                 headerContentContainer.addView(view);
             } else {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater
-                        .inflate(R.layout.header_icon_image_view, headerContentContainer, false);
+                View view = inflateLayout(R.layout.header_icon_image_view, headerContentContainer);
                 headerContentContainer.addView(view);
             }
 
@@ -283,6 +333,86 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
         return null;
     }
 
+    /**
+     * Decodes the background of the dialog's header at the size of the header, if it has been set
+     * by using a bitmap or a resource and has not been decoded at least at this size yet. The
+     * bitmap or resource, the background has been set by, is retained in order to be able to
+     * decode it again, if the header grows.
+     *
+     * @return True, if the background has been decoded or does not need to be decoded, false, if
+     * the header has not been laid out yet
+     */
+    private boolean decodeHeaderBackground() {
+        if (headerBackgroundBitmap != null || headerBackgroundId != -1) {
+            int width = headerBackgroundImageView.getWidth();
+            int height = headerBackgroundImageView.getHeight();
+
+            if (width <= 0 || height <= 0) {
+                return false;
+            }
+
+            if (width > headerBackgroundWidth || height > headerBackgroundHeight) {
+                if (headerBackgroundBitmap != null) {
+                    headerBackground = new BitmapDrawable(getContext().getResources(),
+                            BitmapDecoder.downsample(headerBackgroundBitmap, width, height));
+                } else {
+                    headerBackground = BitmapDecoder
+                            .getDrawable(getContext(), headerBackgroundId, width, height);
+                }
+
+                headerBackgroundWidth = width;
+                headerBackgroundHeight = height;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates and returns a listener, which allows to adapt the background of the dialog's header,
+     * once the header has been laid out for the first time or has grown.
+     *
+     * @param animation
+     *         The animation, which should be used to change the background, as an instance of the
+     *         class {@link BackgroundAnimation} or null, if no animation should be used
+     * @return The listener, which has been created, as an instance of the type {@link
+     * View.OnLayoutChangeListener}. The listener may not be null
+     */
+    @NonNull
+    private View.OnLayoutChangeListener createHeaderBackgroundLayoutListener(
+            @Nullable final BackgroundAnimation animation) {
+        return new View.OnLayoutChangeListener() {
+
+            @Override
+            public void onLayoutChange(final View view, final int left, final int top,
+                                       final int right, final int bottom, final int oldLeft,
+                                       final int oldTop, final int oldRight,
+                                       final int oldBottom) {
+                if (right > left && bottom > top &&
+                        (right - left > headerBackgroundWidth ||
+                                bottom - top > headerBackgroundHeight)) {
+                    adaptHeaderBackground(headerBackgroundWidth == -1 ? animation : null);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Removes the listener, which is notified, when the dialog's header has been laid out in order
+     * to decode its background, if it has been registered.
+     */
+    private void removeHeaderBackgroundLayoutListener() {
+        if (headerBackgroundLayoutListener != null) {
+            if (headerBackgroundImageView != null) {
+                headerBackgroundImageView
+                        .removeOnLayoutChangeListener(headerBackgroundLayoutListener);
+            }
+
+            headerBackgroundLayoutListener = null;
+        }
+    }
+
     /**
      * Adapts the view, which is used to show the dialog's header.
      */
@@ -297,6 +427,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      * Adapts the visibility of the dialog's header.
      */
     private void adaptHeaderVisibility() {
+        if (deferAdaptation(HEADER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         if (header != null) {
             if (showHeader) {
                 header.setVisibility(View.VISIBLE);
@@ -312,6 +446,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      * Adapts the height of the dialog's header.
      */
     private void adaptHeaderHeight() {
+        if (deferAdaptation(HEADER_HEIGHT_ADAPTATION)) {
+            return;
+        }
+
         if (header != null) {
             ViewGroup.LayoutParams layoutParams = header.getLayoutParams();
             layoutParams.height = headerHeight;
@@ -326,7 +464,18 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      *         class {@link BackgroundAnimation} or null, if no animation should be used
      */
     private void adaptHeaderBackground(@Nullable final BackgroundAnimation animation) {
+        removeHeaderBackgroundLayoutListener();
+
         if (headerBackgroundImageView != null) {
+            if (headerBackgroundBitmap != null || headerBackgroundId != -1) {
+                headerBackgroundLayoutListener = createHeaderBackgroundLayoutListener(animation);
+                headerBackgroundImageView.addOnLayoutChangeListener(headerBackgroundLayoutListener);
+
+                if (!decodeHeaderBackground()) {
+                    return;
+                }
+            }
+
             Drawable newBackground = headerBackground;
 
             if (animation != null && newBackground != null) {
@@ -345,6 +494,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
                                 new Drawable[]{previousBackground, newBackground});
                         transition.setRadius(circleTransitionAnimation.getRadius());
                         transition.setListener(circleTransitionAnimation.getListener());
+                        transition.setInterpolator(circleTransitionAnimation.getInterpolator());
 
                         if (circleTransitionAnimation.getX() != null) {
                             transition.setX(circleTransitionAnimation.getX());
@@ -360,6 +510,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
                         CrossFadeTransitionDrawable transition = new CrossFadeTransitionDrawable(
                                 new Drawable[]{previousBackground, newBackground});
                         transition.setListener(animation.getListener());
+                        transition.setInterpolator(animation.getInterpolator());
                         transition.startTransition(animation.getDuration());
                         newBackground = transition;
                     } else {
@@ -398,6 +549,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
                         ScaleTransitionDrawable transition =
                                 new ScaleTransitionDrawable(new Drawable[]{previousIcon, newIcon});
                         transition.setListener(animation.getListener());
+                        transition.setInterpolator(animation.getInterpolator());
                         transition.startTransition(animation.getDuration());
                         newIcon = transition;
                     } else if (animation instanceof CircleTransitionAnimation) {
@@ -407,6 +559,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
                                 new CircleTransitionDrawable(new Drawable[]{previousIcon, newIcon});
                         transition.setRadius(circleTransitionAnimation.getRadius());
                         transition.setListener(circleTransitionAnimation.getListener());
+                        transition.setInterpolator(circleTransitionAnimation.getInterpolator());
 
                         if (circleTransitionAnimation.getX() != null) {
                             transition.setX(circleTransitionAnimation.getX());
@@ -423,6 +576,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
                                 new Drawable[]{previousIcon, newIcon});
                         transition.setCrossFade(true);
                         transition.setListener(animation.getListener());
+                        transition.setInterpolator(animation.getInterpolator());
                         transition.startTransition(animation.getDuration());
                         newIcon = transition;
                     } else {
@@ -440,6 +594,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      * Adapt's the color of the divider of the dialog's header.
      */
     private void adaptHeaderDividerColor() {
+        if (deferAdaptation(HEADER_DIVIDER_COLOR_ADAPTATION)) {
+            return;
+        }
+
         if (headerDivider != null) {
             headerDivider.setBackgroundColor(headerDividerColor);
         }
@@ -449,6 +607,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
      * Adapts the visibility of the divider of the dialog's header.
      */
     private void adaptHeaderDividerVisibility() {
+        if (deferAdaptation(HEADER_DIVIDER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         if (headerDivider != null) {
             headerDivider.setVisibility(showHeaderDivider ? View.VISIBLE : View.GONE);
         }
@@ -477,7 +639,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
         this.showHeader = show;
         getDialog().setFitsSystemWindows(getDialog().isFitsSystemWindowsLeft(), !show,
                 getDialog().isFitsSystemWindowsRight(), getDialog().isFitsSystemWindowsBottom());
-        adaptHeaderVisibility();
+
+        if (!attachDeferred()) {
+            adaptHeaderVisibility();
+        }
     }
 
     @Override
@@ -513,6 +678,10 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
 
     @Override
     public final Drawable getHeaderBackground() {
+        if (headerBackground == null && headerBackgroundId != -1) {
+            headerBackground = AppCompatResources.getDrawable(getContext(), headerBackgroundId);
+        }
+
         return headerBackground;
     }
 
@@ -524,10 +693,14 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     @Override
     public final void setHeaderBackground(@Nullable final Bitmap background,
                                           @Nullable final BackgroundAnimation animation) {
+        this.headerBackgroundCallback = null;
         this.headerBackgroundBitmap = background;
         this.headerBackgroundId = -1;
         this.headerBackgroundColor = -1;
-        this.headerBackground = new BitmapDrawable(getContext().getResources(), background);
+        this.headerBackground = background != null ?
+                new BitmapDrawable(getContext().getResources(), background) : null;
+        this.headerBackgroundWidth = -1;
+        this.headerBackgroundHeight = -1;
         adaptHeaderBackground(animation);
     }
 
@@ -539,10 +712,13 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     @Override
     public final void setHeaderBackground(@DrawableRes final int resourceId,
                                           @Nullable final BackgroundAnimation animation) {
+        this.headerBackgroundCallback = null;
         this.headerBackgroundBitmap = null;
         this.headerBackgroundId = resourceId;
         this.headerBackgroundColor = -1;
-        this.headerBackground = ContextCompat.getDrawable(getContext(), resourceId);
+        this.headerBackground = null;
+        this.headerBackgroundWidth = -1;
+        this.headerBackgroundHeight = -1;
         adaptHeaderBackground(animation);
     }
 
@@ -554,10 +730,13 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     @Override
     public void setHeaderBackgroundColor(@ColorInt final int color,
                                          @Nullable final BackgroundAnimation animation) {
+        this.headerBackgroundCallback = null;
         this.headerBackgroundBitmap = null;
         this.headerBackgroundId = -1;
         this.headerBackgroundColor = color;
         this.headerBackground = new ColorDrawable(color);
+        this.headerBackgroundWidth = -1;
+        this.headerBackgroundHeight = -1;
         adaptHeaderBackground(animation);
     }
 
@@ -574,6 +753,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     @Override
     public final void setHeaderIcon(@Nullable final Bitmap icon,
                                     @Nullable final DrawableAnimation animation) {
+        this.headerIconCallback = null;
         this.headerIconBitmap = icon;
         this.headerIconId = -1;
         this.headerIcon = new BitmapDrawable(getContext().getResources(), icon);
@@ -588,6 +768,7 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
     @Override
     public final void setHeaderIcon(@DrawableRes final int resourceId,
                                     @Nullable final DrawableAnimation animation) {
+        this.headerIconCallback = null;
         this.headerIconBitmap = null;
         this.headerIconId = resourceId;
         this.headerIcon = AppCompatResources.getDrawable(getContext(), resourceId);
@@ -654,7 +835,8 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
         outState.putSerializable(HEADER_ICON_TINT_MODE_EXTRA, getHeaderIconTintMode());
 
         if (headerBackgroundBitmap != null) {
-            outState.putParcelable(HEADER_BACKGROUND_BITMAP_EXTRA, headerBackgroundBitmap);
+            outState.putString(HEADER_BACKGROUND_BITMAP_TOKEN_EXTRA,
+                    BitmapStateStore.put(getContext(), headerBackgroundBitmap));
         } else if (headerBackgroundId != -1) {
             outState.putInt(HEADER_BACKGROUND_ID_EXTRA, headerBackgroundId);
         } else if (headerBackgroundColor != -1) {
@@ -662,7 +844,8 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
         }
 
         if (headerIconBitmap != null) {
-            outState.putParcelable(HEADER_ICON_BITMAP_EXTRA, headerIconBitmap);
+            outState.putString(HEADER_ICON_BITMAP_TOKEN_EXTRA,
+                    BitmapStateStore.put(getContext(), headerIconBitmap));
         } else if (headerIconId != -1) {
             outState.putInt(HEADER_ICON_ID_EXTRA, headerIconId);
         }
@@ -683,22 +866,114 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
             setHeaderIconTintMode(headerIconTintMode);
         }
 
-        if (savedInstanceState.containsKey(HEADER_BACKGROUND_BITMAP_EXTRA)) {
-            setHeaderBackground(
-                    (Bitmap) savedInstanceState.getParcelable(HEADER_BACKGROUND_BITMAP_EXTRA));
+        if (savedInstanceState.containsKey(HEADER_BACKGROUND_BITMAP_TOKEN_EXTRA)) {
+            headerBackgroundCallback = new BitmapStateStore.Callback() {
+
+                @Override
+                public void onResolved(@NonNull final Bitmap bitmap) {
+                    if (headerBackgroundCallback == this) {
+                        setHeaderBackground(bitmap);
+                    }
+                }
+
+                @Override
+                public void onFailed() {
+                    if (headerBackgroundCallback == this) {
+                        headerBackgroundCallback = null;
+                    }
+                }
+
+            };
+            BitmapStateStore.resolve(getContext(),
+                    savedInstanceState.getString(HEADER_BACKGROUND_BITMAP_TOKEN_EXTRA),
+                    headerBackgroundCallback);
         } else if (savedInstanceState.containsKey(HEADER_BACKGROUND_ID_EXTRA)) {
             setHeaderBackground(savedInstanceState.getInt(HEADER_BACKGROUND_ID_EXTRA));
         } else if (savedInstanceState.containsKey(HEADER_BACKGROUND_COLOR_EXTRA)) {
             setHeaderBackgroundColor(savedInstanceState.getInt(HEADER_BACKGROUND_COLOR_EXTRA));
         }
 
-        if (savedInstanceState.containsKey(HEADER_ICON_BITMAP_EXTRA)) {
-            setHeaderIcon((Bitmap) savedInstanceState.getParcelable(HEADER_ICON_BITMAP_EXTRA));
+        if (savedInstanceState.containsKey(HEADER_ICON_BITMAP_TOKEN_EXTRA)) {
+            headerIconCallback = new BitmapStateStore.Callback() {
+
+                @Override
+                public void onResolved(@NonNull final Bitmap bitmap) {
+                    if (headerIconCallback == this) {
+                        setHeaderIcon(bitmap);
+                    }
+                }
+
+                @Override
+                public void onFailed() {
+                    if (headerIconCallback == this) {
+                        headerIconCallback = null;
+                    }
+                }
+
+            };
+            BitmapStateStore.resolve(getContext(),
+                    savedInstanceState.getString(HEADER_ICON_BITMAP_TOKEN_EXTRA),
+                    headerIconCallback);
         } else if (savedInstanceState.containsKey(HEADER_ICON_ID_EXTRA)) {
             setHeaderIcon(savedInstanceState.getInt(HEADER_ICON_ID_EXTRA));
         }
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        HeaderDialogDecorator decorator = (HeaderDialogDecorator) source;
+        this.showHeader = decorator.showHeader;
+        this.headerHeight = decorator.headerHeight;
+        this.headerBackgroundId = decorator.headerBackgroundId;
+        this.headerBackgroundColor = decorator.headerBackgroundColor;
+        this.headerBackgroundBitmap = decorator.headerBackgroundBitmap;
+        this.headerBackground = copyDrawable(decorator.headerBackground);
+        this.headerBackgroundWidth = decorator.headerBackgroundWidth;
+        this.headerBackgroundHeight = decorator.headerBackgroundHeight;
+        this.headerIconId = decorator.headerIconId;
+        this.headerIconBitmap = decorator.headerIconBitmap;
+        this.headerIcon = copyDrawable(decorator.headerIcon);
+        this.headerIconTintList = decorator.headerIconTintList;
+        this.headerIconTintMode = decorator.headerIconTintMode;
+        this.showHeaderDivider = decorator.showHeaderDivider;
+        this.headerDividerColor = decorator.headerDividerColor;
+    }
+
+    @Override
+    protected final void onPrewarm(@NonNull final AsyncViewInflater inflater) {
+        inflater.inflate(R.layout.material_dialog_header, new LinearLayout(getContext()));
+
+        if (customHeaderView == null) {
+            inflater.inflate(customHeaderViewId != -1 ? customHeaderViewId :
+                    R.layout.header_icon_image_view, new RelativeLayout(getContext()));
+        }
+    }
+
+    @Override
+    protected final void onApplyAdaptations(final int adaptations) {
+        if ((adaptations & HEADER_HEIGHT_ADAPTATION) != 0) {
+            adaptHeaderHeight();
+        }
+
+        if ((adaptations & HEADER_DIVIDER_COLOR_ADAPTATION) != 0) {
+            adaptHeaderDividerColor();
+        }
+
+        if ((adaptations & HEADER_DIVIDER_VISIBILITY_ADAPTATION) != 0) {
+            adaptHeaderDividerVisibility();
+        }
+
+        if ((adaptations & HEADER_VISIBILITY_ADAPTATION) != 0) {
+            adaptHeaderVisibility();
+        }
+    }
+
+    @Override
+    protected final boolean isActive() {
+        // The tab layout of a wizard dialog is contained by the header, even if it is hidden
+        return showHeader || getDialog() instanceof WizardDialogDecorator;
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -724,6 +999,8 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
 
     @Override
     protected final void onDetach() {
+        removeHeaderBackgroundLayoutListener();
+
         if (headerContentContainer != null) {
             headerContentContainer.removeAllViews();
             headerContentContainer = null;
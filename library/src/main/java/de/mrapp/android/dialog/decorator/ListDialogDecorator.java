@@ -19,6 +19,9 @@ import android.support.annotation.ArrayRes;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseBooleanArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -27,6 +30,7 @@ import android.widget.AdapterView;
 import android.widget.ListAdapter;
 import android.widget.ListView;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,15 +38,18 @@ import java.util.Map;
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.adapter.ArrayAdapter;
+import de.mrapp.android.dialog.adapter.RecyclerViewAdapter;
 import de.mrapp.android.dialog.listener.OnItemClickListenerWrapper;
 import de.mrapp.android.dialog.listener.OnMultiChoiceClickListenerWrapper;
 import de.mrapp.android.dialog.model.ButtonBarDialog;
+import de.mrapp.android.dialog.view.DialogRootView;
 import de.mrapp.android.dialog.view.DialogRootView.AreaViewType;
 import de.mrapp.android.dialog.view.DialogRootView.DividerLocation;
 import de.mrapp.android.dialog.view.DialogRootView.DividerViewType;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 import de.mrapp.android.dialog.view.Divider;
-import de.mrapp.android.util.ArrayUtil;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
 
 /**
  * A decorator, which allows to modify the view hierarchy of a dialog, which is designed according
@@ -87,11 +94,48 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     private static final String CHECKED_ITEMS_EXTRA =
             ListDialogDecorator.class.getSimpleName() + "::checkedItems";
 
+    /**
+     * The name of the extra, which is used to store, whether a recycler view is used to show the
+     * list items of the dialog, within a bundle.
+     */
+    private static final String USE_RECYCLER_VIEW_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::useRecyclerView";
+
+    /**
+     * The number of views per view type, which are kept by the pool of the recycler view, which is
+     * used to show the dialog's list items.
+     */
+    private static final int MAX_RECYCLED_VIEWS = 16;
+
+    /**
+     * The number of views, which are kept by the recycler view, which is used to show the dialog's
+     * list items, after they have been scrolled out of the visible area, before they are put into
+     * the pool.
+     */
+    private static final int ITEM_VIEW_CACHE_SIZE = 4;
+
     /**
      * The list view, which is used to show the dialog's list items.
      */
     private ListView listView;
 
+    /**
+     * The recycler view, which is used to show the dialog's list items, if a recycler view is used
+     * instead of a list view.
+     */
+    private RecyclerView recyclerView;
+
+    /**
+     * The adapter, which is used to show the dialog's list items in a recycler view.
+     */
+    private RecyclerViewAdapter recyclerViewAdapter;
+
+    /**
+     * True, if a recycler view is used to show the dialog's list items instead of a list view,
+     * false otherwise.
+     */
+    private boolean useRecyclerView;
+
     /**
      * The divider, which is shown above the list view.
      */
@@ -137,10 +181,10 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     private AdapterView.OnItemSelectedListener listViewItemSelectedListener;
 
     /**
-     * An array, which is used to identify the list items of the dialog, which is created by the
-     * builder, which are checked by default.
+     * A bit set, which contains the positions of the list items of the dialog, which are checked
+     * by default, or null, if the dialog's list items cannot be checked.
      */
-    private boolean[] checkedItems;
+    private BitSet checkedItems;
 
     /**
      * The dialog's items.
@@ -157,6 +201,102 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
      */
     private CharSequence[] multiChoiceItems;
 
+    /**
+     * Creates and returns a bit set, which contains the positions of the values of a specific
+     * array, which are true.
+     *
+     * @param array
+     *         The array as a {@link Boolean} array or null
+     * @return The bit set, which has been created, as an instance of the class {@link BitSet}. The
+     * bit set may not be null
+     */
+    @NonNull
+    private static BitSet toBitSet(@Nullable final boolean[] array) {
+        BitSet result = new BitSet();
+
+        if (array != null) {
+            for (int i = 0; i < array.length; i++) {
+                if (array[i]) {
+                    result.set(i);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates and returns an immutable copy of a specific array of items.
+     *
+     * @param items
+     *         The items, which should be copied, as an array of the type {@link CharSequence}. The
+     *         array may not be null
+     * @return The copy, which has been created, as an array of the type {@link CharSequence}. The
+     * array may not be null
+     */
+    @NonNull
+    private static CharSequence[] copyItems(@NonNull final CharSequence[] items) {
+        CharSequence[] result = new CharSequence[items.length];
+
+        for (int i = 0; i < items.length; i++) {
+            result[i] = copyText(items[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Encodes a specific bit set as an array, which contains the start (inclusive) and end
+     * (exclusive) positions of each contiguous range of set bits. This results in a compact
+     * representation, if either few, or many adjacent list items are checked.
+     *
+     * @param bitSet
+     *         The bit set, which should be encoded, as an instance of the class {@link BitSet}. The
+     *         bit set may not be null
+     * @return An array, which contains the start and end positions of each range of set bits, as
+     * an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    private static int[] encodeRanges(@NonNull final BitSet bitSet) {
+        int rangeCount = 0;
+
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(bitSet.nextClearBit(i))) {
+            rangeCount++;
+        }
+
+        int[] result = new int[rangeCount * 2];
+        int index = 0;
+
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(result[index - 1])) {
+            result[index++] = i;
+            result[index++] = bitSet.nextClearBit(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Decodes a bit set, which has been encoded by using the method {@link #encodeRanges(BitSet)}.
+     *
+     * @param ranges
+     *         An array, which contains the start and end positions of each range of set bits, as
+     *         an {@link Integer} array or null
+     * @return The bit set, which has been decoded, as an instance of the class {@link BitSet}. The
+     * bit set may not be null
+     */
+    @NonNull
+    private static BitSet decodeRanges(@Nullable final int[] ranges) {
+        BitSet result = new BitSet();
+
+        if (ranges != null) {
+            for (int i = 0; i + 1 < ranges.length; i += 2) {
+                result.set(ranges[i], ranges[i + 1]);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Inflates the list view, which is used to show the dialog's list items.
      *
@@ -167,8 +307,24 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     private void inflateListView(@NonNull final ViewGroup contentContainer) {
         View listView = contentContainer.findViewById(android.R.id.list);
         this.listView = listView instanceof ListView ? (ListView) listView : null;
+        View recyclerView = contentContainer.findViewById(R.id.recycler_view);
+        this.recyclerView =
+                recyclerView instanceof RecyclerView ? (RecyclerView) recyclerView : null;
 
-        if (this.listView == null && !getDialog().isCustomViewUsed()) {
+        if (this.listView == null && this.recyclerView == null &&
+                !getDialog().isCustomViewUsed() && useRecyclerView) {
+            LayoutInflater layoutInflater = LayoutInflater.from(getContext());
+            View view = layoutInflater
+                    .inflate(R.layout.material_dialog_recycler_view, contentContainer, false);
+            de.mrapp.android.dialog.view.RecyclerView inflatedRecyclerView =
+                    view.findViewById(R.id.recycler_view);
+            inflatedRecyclerView.setDialog(getDialog());
+            initializeRecyclerView(inflatedRecyclerView);
+            this.recyclerView = inflatedRecyclerView;
+            getDialog().setView(view);
+            this.inflatedCustomView = true;
+        } else if (this.listView == null && this.recyclerView == null &&
+                !getDialog().isCustomViewUsed()) {
             LayoutInflater layoutInflater = LayoutInflater.from(getContext());
             View view = layoutInflater
                     .inflate(R.layout.material_dialog_list_view, contentContainer, false);
@@ -187,10 +343,32 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     }
 
     /**
-     * Attaches the adapter to the dialog's list view.
+     * Initializes a recycler view, which has been inflated by the decorator itself.
+     *
+     * @param recyclerView
+     *         The recycler view, which should be initialized, as an instance of the class {@link
+     *         RecyclerView}. The recycler view may not be null
+     */
+    private void initializeRecyclerView(@NonNull final RecyclerView recyclerView) {
+        LinearLayoutManager layoutManager = new LinearLayoutManager(getContext());
+        layoutManager.setItemPrefetchEnabled(true);
+        layoutManager.setRecycleChildrenOnDetach(true);
+        recyclerView.setLayoutManager(layoutManager);
+        recyclerView.setItemViewCacheSize(ITEM_VIEW_CACHE_SIZE);
+        recyclerView.setItemAnimator(null);
+    }
+
+    /**
+     * Attaches the adapter to the dialog's list view or recycler view.
      */
     private void attachAdapter() {
-        if (listView != null) {
+        if (attachDeferred()) {
+            return;
+        }
+
+        if (recyclerView != null) {
+            attachRecyclerViewAdapter();
+        } else if (listView != null) {
             if (adapter != null) {
                 listView.setAdapter(adapter);
                 listView.setVisibility(adapter != null ? View.VISIBLE : View.GONE);
@@ -199,7 +377,10 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
                 initializeSelectionListener();
                 initializeCheckedItems();
                 adaptItemColor();
+                registerScrollableView(listView);
             } else {
+                unregisterScrollableView(listView);
+
                 if (inflatedCustomView) {
                     getDialog().setView(null);
                 }
@@ -209,33 +390,127 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         }
     }
 
+    /**
+     * Registers the dialog's list view or recycler view at the dialog's root view in order to
+     * adapt the visibility of the dividers, when scrolled.
+     *
+     * @param view
+     *         The list view or recycler view, which should be registered, as an instance of the
+     *         class {@link View}. The view may not be null
+     */
+    private void registerScrollableView(@NonNull final View view) {
+        DialogRootView rootView = getRootView();
+
+        if (rootView != null) {
+            rootView.registerScrollableView(view);
+        }
+    }
+
+    /**
+     * Unregisters the dialog's list view or recycler view from the dialog's root view.
+     *
+     * @param view
+     *         The list view or recycler view, which should be unregistered, as an instance of the
+     *         class {@link View}. The view may not be null
+     */
+    private void unregisterScrollableView(@NonNull final View view) {
+        DialogRootView rootView = getRootView();
+
+        if (rootView != null) {
+            rootView.unregisterScrollableView(view);
+        }
+    }
+
+    /**
+     * Attaches the adapter to the dialog's recycler view. If the recycler view already shows list
+     * items, only the differences between the previous and the current list items are updated.
+     */
+    private void attachRecyclerViewAdapter() {
+        if (adapter != null) {
+            if (recyclerViewAdapter == null) {
+                recyclerViewAdapter = new RecyclerViewAdapter(adapter);
+            } else {
+                recyclerViewAdapter.setListAdapter(adapter);
+            }
+
+            RecyclerView.RecycledViewPool recycledViewPool = recyclerView.getRecycledViewPool();
+
+            for (int i = 0; i < adapter.getViewTypeCount(); i++) {
+                recycledViewPool.setMaxRecycledViews(i, MAX_RECYCLED_VIEWS);
+            }
+
+            recyclerViewAdapter.setChoiceMode(choiceMode);
+
+            if (recyclerView.getAdapter() != recyclerViewAdapter) {
+                recyclerView.setAdapter(recyclerViewAdapter);
+            }
+
+            recyclerView.setVisibility(View.VISIBLE);
+            initializeSelectionListener();
+            initializeCheckedItems();
+            adaptItemColor();
+            registerScrollableView(recyclerView);
+        } else {
+            unregisterScrollableView(recyclerView);
+
+            if (inflatedCustomView) {
+                getDialog().setView(null);
+            }
+
+            recyclerView = null;
+            recyclerViewAdapter = null;
+        }
+    }
+
     /**
      * Initializes the list items, which are checked by default.
      */
     private void initializeCheckedItems() {
-        if (checkedItems != null) {
-            for (int i = 0; i < checkedItems.length; i++) {
-                listView.setItemChecked(i, checkedItems[i]);
+        if (checkedItems != null && !checkedItems.isEmpty()) {
+            int lastCheckedItem = checkedItems.length() - 1;
+
+            if (recyclerView != null) {
+                int count = recyclerViewAdapter.getItemCount();
+                lastCheckedItem = Math.min(lastCheckedItem, count - 1);
+
+                for (int i = checkedItems.nextSetBit(0); i >= 0 && i < count;
+                     i = checkedItems.nextSetBit(checkedItems.nextClearBit(i))) {
+                    recyclerViewAdapter.setItemsChecked(i,
+                            Math.min(checkedItems.nextClearBit(i), count), true);
+                }
 
-                if (checkedItems[i]) {
-                    listView.setSelection(i);
+                recyclerView.scrollToPosition(lastCheckedItem);
+            } else {
+                for (int i = checkedItems.nextSetBit(0); i >= 0;
+                     i = checkedItems.nextSetBit(i + 1)) {
+                    listView.setItemChecked(i, true);
                 }
+
+                listView.setSelection(lastCheckedItem);
             }
         }
     }
 
     /**
-     * Returns an array, which identifies the currently checked list items.
+     * Returns the positions of the currently checked list items.
      *
-     * @return An array, which identifies the currently checked list items, as {@link Boolean} array
+     * @return A bit set, which contains the positions of the currently checked list items, as an
+     * instance of the class {@link BitSet} or null, if the dialog's list items cannot be checked
      */
     @Nullable
-    private boolean[] getCheckedItems() {
-        if (listView != null && adapter != null) {
-            boolean[] result = new boolean[adapter.getCount()];
-
-            for (int i = 0; i < result.length; i++) {
-                result[i] = listView.isItemChecked(i);
+    private BitSet getCheckedItems() {
+        if (recyclerView != null && recyclerViewAdapter != null) {
+            return recyclerViewAdapter.getCheckedItems();
+        } else if (listView != null && adapter != null) {
+            SparseBooleanArray checkedPositions = listView.getCheckedItemPositions();
+            BitSet result = new BitSet();
+
+            if (checkedPositions != null) {
+                for (int i = 0; i < checkedPositions.size(); i++) {
+                    if (checkedPositions.valueAt(i)) {
+                        result.set(checkedPositions.keyAt(i));
+                    }
+                }
             }
 
             return result;
@@ -250,18 +525,50 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
      */
     private void initializeSelectionListener() {
         if (choiceMode == ListView.CHOICE_MODE_NONE) {
-            listView.setOnItemClickListener(
-                    new OnItemClickListenerWrapper(singleChoiceListener, getDialog(),
-                            DialogInterface.BUTTON_POSITIVE));
+            setOnItemClickListener(new OnItemClickListenerWrapper(singleChoiceListener, getDialog(),
+                    DialogInterface.BUTTON_POSITIVE));
         } else if (choiceMode == ListView.CHOICE_MODE_SINGLE) {
-            listView.setOnItemClickListener(
+            setOnItemClickListener(
                     new OnItemClickListenerWrapper(singleChoiceListener, getDialog(), 0));
         } else if (choiceMode == ListView.CHOICE_MODE_MULTIPLE) {
-            listView.setOnItemClickListener(
+            setOnItemClickListener(
                     new OnMultiChoiceClickListenerWrapper(multiChoiceListener, getDialog(), 0));
         }
     }
 
+    /**
+     * Sets the listener, which should be notified, when a list item of the dialog has been
+     * clicked, to the dialog's list view or recycler view.
+     *
+     * @param listener
+     *         The listener, which should be set, as an instance of the class {@link
+     *         OnItemClickListenerWrapper}. The listener may not be null
+     */
+    private void setOnItemClickListener(@NonNull final OnItemClickListenerWrapper listener) {
+        if (recyclerView != null) {
+            recyclerViewAdapter.setOnItemClickListener(listener);
+        } else {
+            listView.setOnItemClickListener(listener);
+        }
+    }
+
+    /**
+     * Sets the listener, which should be notified, when a list item of the dialog has been
+     * clicked, to the dialog's list view or recycler view.
+     *
+     * @param listener
+     *         The listener, which should be set, as an instance of the class {@link
+     *         OnMultiChoiceClickListenerWrapper}. The listener may not be null
+     */
+    private void setOnItemClickListener(
+            @NonNull final OnMultiChoiceClickListenerWrapper listener) {
+        if (recyclerView != null) {
+            recyclerViewAdapter.setOnItemClickListener(listener);
+        } else {
+            listView.setOnItemClickListener(listener);
+        }
+    }
+
     /**
      * Adapts the color of the dialog's list items.
      */
@@ -291,6 +598,22 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         return listView != null && listView.getVisibility() == View.VISIBLE ? listView : null;
     }
 
+    @Override
+    public final RecyclerView getRecyclerView() {
+        return recyclerView != null && recyclerView.getVisibility() == View.VISIBLE ?
+                recyclerView : null;
+    }
+
+    @Override
+    public final boolean isRecyclerViewUsed() {
+        return useRecyclerView;
+    }
+
+    @Override
+    public final void useRecyclerView(final boolean useRecyclerView) {
+        this.useRecyclerView = useRecyclerView;
+    }
+
     @Override
     public final ListAdapter getListAdapter() {
         return adapter;
@@ -355,10 +678,10 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.singleChoiceListener = items != null ? listener : null;
         this.multiChoiceListener = null;
         this.choiceMode = items != null ? ListView.CHOICE_MODE_SINGLE : -1;
-        this.checkedItems = items != null ? new boolean[items.length] : null;
+        this.checkedItems = items != null ? new BitSet() : null;
 
         if (this.checkedItems != null && checkedItem >= 0) {
-            this.checkedItems[checkedItem] = true;
+            this.checkedItems.set(checkedItem);
         }
 
         attachAdapter();
@@ -382,10 +705,10 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.singleChoiceListener = adapter != null ? listener : null;
         this.multiChoiceListener = null;
         this.choiceMode = adapter != null ? ListView.CHOICE_MODE_SINGLE : -1;
-        this.checkedItems = adapter != null ? new boolean[adapter.getCount()] : null;
+        this.checkedItems = adapter != null ? new BitSet() : null;
 
         if (this.checkedItems != null && checkedItem >= 0) {
-            this.checkedItems[checkedItem] = true;
+            this.checkedItems.set(checkedItem);
         }
 
         attachAdapter();
@@ -395,6 +718,26 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     public final void setMultiChoiceItems(@Nullable final CharSequence[] items,
                                           @Nullable final boolean[] checkedItems,
                                           @Nullable final DialogInterface.OnMultiChoiceClickListener listener) {
+        setMultiChoiceItems(items, toBitSet(checkedItems), listener);
+    }
+
+    /**
+     * Sets the multiple choice items, which should be shown by the dialog.
+     *
+     * @param items
+     *         The items, which should be set, as an array of the type {@link CharSequence} or null,
+     *         if no items should be shown by the dialog
+     * @param checkedItems
+     *         A bit set, which contains the positions of the items, which should be checked by
+     *         default, as an instance of the class {@link BitSet}. The bit set may not be null
+     * @param listener
+     *         The listener, which should be notified, when an item is clicked, as an instance of
+     *         the type {@link DialogInterface.OnMultiChoiceClickListener} or null, if no listener
+     *         should be notified
+     */
+    private void setMultiChoiceItems(@Nullable final CharSequence[] items,
+                                     @NonNull final BitSet checkedItems,
+                                     @Nullable final DialogInterface.OnMultiChoiceClickListener listener) {
         this.items = null;
         this.singleChoiceItems = null;
         this.multiChoiceItems = items;
@@ -427,10 +770,54 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.singleChoiceListener = null;
         this.multiChoiceListener = adapter != null ? listener : null;
         this.choiceMode = adapter != null ? ListView.CHOICE_MODE_MULTIPLE : -1;
-        this.checkedItems = adapter != null ? checkedItems : null;
+        this.checkedItems = adapter != null ? toBitSet(checkedItems) : null;
         attachAdapter();
     }
 
+    @Override
+    public final boolean isItemChecked(final int position) {
+        if (recyclerView != null && recyclerViewAdapter != null) {
+            return recyclerViewAdapter.isItemChecked(position);
+        } else if (listView != null) {
+            return listView.isItemChecked(position);
+        }
+
+        return checkedItems != null && checkedItems.get(position);
+    }
+
+    @Override
+    public final void setItemChecked(final int position, final boolean checked) {
+        setItemsChecked(position, position + 1, checked);
+    }
+
+    @Override
+    public final void setItemsChecked(final int fromPosition, final int toPosition,
+                                      final boolean checked) {
+        ensureAtLeast(fromPosition, 0, "The start position must be at least 0");
+        ensureAtLeast(toPosition, fromPosition,
+                "The end position must be at least the start position");
+
+        if (checkedItems != null && fromPosition < toPosition) {
+            boolean multipleChoice = choiceMode == ListView.CHOICE_MODE_MULTIPLE;
+
+            if (recyclerView != null && recyclerViewAdapter != null) {
+                recyclerViewAdapter.setItemsChecked(fromPosition, toPosition, checked);
+            } else if (listView != null) {
+                for (int i = multipleChoice ? fromPosition : toPosition - 1; i < toPosition; i++) {
+                    listView.setItemChecked(i, checked);
+                }
+            } else if (multipleChoice) {
+                checkedItems.set(fromPosition, toPosition, checked);
+            } else {
+                if (checked) {
+                    checkedItems.clear();
+                }
+
+                checkedItems.set(toPosition - 1, checked);
+            }
+        }
+    }
+
     @Override
     public final void setOnItemSelectedListener(
             @Nullable final AdapterView.OnItemSelectedListener listener) {
@@ -444,33 +831,35 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     @Override
     public final void onSaveInstanceState(@NonNull final Bundle outState) {
         outState.putInt(ITEM_COLOR_EXTRA, getItemColor());
+        outState.putBoolean(USE_RECYCLER_VIEW_EXTRA, isRecyclerViewUsed());
 
         if (items != null) {
             outState.putCharSequenceArray(ITEMS_EXTRA, items);
         } else if (singleChoiceItems != null) {
             outState.putCharSequenceArray(SINGLE_CHOICE_ITEMS_EXTRA, singleChoiceItems);
-            outState.putBooleanArray(CHECKED_ITEMS_EXTRA, getCheckedItems());
+            outState.putIntArray(CHECKED_ITEMS_EXTRA, encodeRanges(getCheckedItems()));
         } else if (multiChoiceItems != null) {
             outState.putCharSequenceArray(MULTI_CHOICE_ITEMS_EXTRA, multiChoiceItems);
-            outState.putBooleanArray(CHECKED_ITEMS_EXTRA, getCheckedItems());
+            outState.putIntArray(CHECKED_ITEMS_EXTRA, encodeRanges(getCheckedItems()));
         }
     }
 
     @Override
     public final void onRestoreInstanceState(@NonNull final Bundle savedInstanceState) {
         setItemColor(savedInstanceState.getInt(ITEM_COLOR_EXTRA));
+        useRecyclerView(savedInstanceState.getBoolean(USE_RECYCLER_VIEW_EXTRA));
         CharSequence[] items = savedInstanceState.getCharSequenceArray(ITEMS_EXTRA);
 
         if (items != null) {
             setItems(items, null);
         } else {
-            boolean[] checkedItems = savedInstanceState.getBooleanArray(CHECKED_ITEMS_EXTRA);
+            BitSet checkedItems =
+                    decodeRanges(savedInstanceState.getIntArray(CHECKED_ITEMS_EXTRA));
             CharSequence[] singleChoiceItems =
                     savedInstanceState.getCharSequenceArray(SINGLE_CHOICE_ITEMS_EXTRA);
 
             if (singleChoiceItems != null) {
-                int checkedItem = checkedItems != null ? ArrayUtil.indexOf(checkedItems, true) : 0;
-                setSingleChoiceItems(singleChoiceItems, checkedItem, null);
+                setSingleChoiceItems(singleChoiceItems, checkedItems.nextSetBit(0), null);
             } else {
                 CharSequence[] multiChoiceItems =
                         savedInstanceState.getCharSequenceArray(MULTI_CHOICE_ITEMS_EXTRA);
@@ -482,6 +871,29 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         }
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        ListDialogDecorator decorator = (ListDialogDecorator) source;
+        this.itemColor = decorator.itemColor;
+        this.useRecyclerView = decorator.useRecyclerView;
+
+        // Adapters are bound to a single list view and are therefore not copied
+        if (decorator.items != null) {
+            setItems(copyItems(decorator.items), null);
+        } else if (decorator.singleChoiceItems != null) {
+            setSingleChoiceItems(copyItems(decorator.singleChoiceItems),
+                    decorator.checkedItems.nextSetBit(0), null);
+        } else if (decorator.multiChoiceItems != null) {
+            setMultiChoiceItems(copyItems(decorator.multiChoiceItems),
+                    (BitSet) decorator.checkedItems.clone(), null);
+        }
+    }
+
+    @Override
+    protected final boolean isActive() {
+        return adapter != null || getDialog().isCustomViewUsed();
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -506,7 +918,12 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
 
     @Override
     protected final void onDetach() {
+        if (checkedItems != null) {
+            checkedItems = getCheckedItems();
+        }
+
         this.listView = null;
+        this.recyclerView = null;
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.AttrRes;
 import android.support.annotation.ColorInt;
 import android.support.annotation.DrawableRes;
@@ -31,24 +33,32 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.support.v4.content.ContextCompat;
+import android.support.v4.view.NestedScrollingChild;
 import android.support.v4.view.OnApplyWindowInsetsListener;
 import android.support.v4.view.ViewCompat;
 import android.support.v4.view.WindowInsetsCompat;
 import android.support.v4.widget.ImageViewCompat;
 import android.support.v7.content.res.AppCompatResources;
+import android.support.v7.widget.RecyclerView;
 import android.text.TextUtils;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.Window;
+import android.widget.AbsListView;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.RelativeLayout;
 import android.widget.TextView;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea;
@@ -56,17 +66,23 @@ import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.animation.BackgroundAnimation;
 import de.mrapp.android.dialog.animation.CircleTransitionAnimation;
 import de.mrapp.android.dialog.animation.CrossFadeTransitionAnimation;
+import de.mrapp.android.dialog.datastructure.BitmapStateStore;
 import de.mrapp.android.dialog.drawable.AbstractTransitionDrawable;
+import de.mrapp.android.dialog.drawable.BitmapDecoder;
 import de.mrapp.android.dialog.drawable.CircleTransitionDrawable;
 import de.mrapp.android.dialog.drawable.CrossFadeTransitionDrawable;
 import de.mrapp.android.dialog.model.Dialog;
+import de.mrapp.android.dialog.view.AsyncViewInflater;
 import de.mrapp.android.dialog.view.DialogRootView;
 import de.mrapp.android.dialog.view.DialogRootView.AreaViewType;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
+import de.mrapp.android.dialog.view.StreamingMessageView;
+import de.mrapp.android.dialog.view.TextPrecomputer;
 import de.mrapp.android.util.ViewUtil;
 
 import static de.mrapp.android.util.Condition.ensureAtLeast;
 import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
 
 /**
  * A decorator, which allows to modify the view hierarchy of a dialog, which is designed according
@@ -86,11 +102,11 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             MaterialDialogDecorator.class.getSimpleName() + "::windowBackgroundId";
 
     /**
-     * The name of the extra, which is used to store the bitmap of the dialog's window
-     * background within a bundle.
+     * The name of the extra, which is used to store the token, which identifies the bitmap of the
+     * dialog's window background, within a bundle.
      */
-    private static final String WINDOW_BACKGROUND_BITMAP_EXTRA =
-            MaterialDialogDecorator.class.getSimpleName() + "::windowBackgroundBitmap";
+    private static final String WINDOW_BACKGROUND_BITMAP_TOKEN_EXTRA =
+            MaterialDialogDecorator.class.getSimpleName() + "::windowBackgroundBitmapToken";
 
     /**
      * The name of the extra, which is used to store, whether the dialog is cancelable, or not,
@@ -252,11 +268,18 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             MaterialDialogDecorator.class.getSimpleName() + "::message";
 
     /**
-     * The name of the extra, which is used to store the bitmap of the dialog's icon within a
-     * bundle.
+     * The name of the extra, which is used to store, whether the dialog's message is streamed, or
+     * not, within a bundle.
+     */
+    private static final String MESSAGE_STREAMED_EXTRA =
+            MaterialDialogDecorator.class.getSimpleName() + "::messageStreamed";
+
+    /**
+     * The name of the extra, which is used to store the token, which identifies the bitmap of the
+     * dialog's icon, within a bundle.
      */
-    private static final String ICON_BITMAP_EXTRA =
-            MaterialDialogDecorator.class.getSimpleName() + "::iconBitmap";
+    private static final String ICON_BITMAP_TOKEN_EXTRA =
+            MaterialDialogDecorator.class.getSimpleName() + "::iconBitmapToken";
 
     /**
      * The name of the extra, which is used to store the resource id of the dialog's icon within a
@@ -287,11 +310,11 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             MaterialDialogDecorator.class.getSimpleName() + "::iconTintMode";
 
     /**
-     * The name of the extra, which is used to store the bitmap of the dialog's background within a
-     * bundle.
+     * The name of the extra, which is used to store the token, which identifies the bitmap of the
+     * dialog's background, within a bundle.
      */
-    private static final String BACKGROUND_BITMAP_EXTRA =
-            MaterialDialogDecorator.class.getSimpleName() + "::backgroundBitmap";
+    private static final String BACKGROUND_BITMAP_TOKEN_EXTRA =
+            MaterialDialogDecorator.class.getSimpleName() + "::backgroundBitmapToken";
 
     /**
      * The name of the extra, which is used to store the resource id of the dialog's background
@@ -307,6 +330,111 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
     private static final String BACKGROUND_COLOR_EXTRA =
             MaterialDialogDecorator.class.getSimpleName() + "::backgroundColor";
 
+    /**
+     * The bit, which identifies the adaptation of the dialog's layout params.
+     */
+    private static final int LAYOUT_PARAMS_ADAPTATION = 1;
+
+    /**
+     * The bit, which identifies the adaptation of the background and inset of the dialog's window.
+     */
+    private static final int WINDOW_BACKGROUND_ADAPTATION = 1 << 1;
+
+    /**
+     * The bit, which identifies the adaptation of the dialog's padding.
+     */
+    private static final int PADDING_ADAPTATION = 1 << 2;
+
+    /**
+     * The bit, which identifies the adaptation of the dialog's scrollable area.
+     */
+    private static final int SCROLLABLE_AREA_ADAPTATION = 1 << 3;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of dividers.
+     */
+    private static final int DIVIDER_VISIBILITY_ADAPTATION = 1 << 4;
+
+    /**
+     * The bit, which identifies the adaptation of the color of dividers.
+     */
+    private static final int DIVIDER_COLOR_ADAPTATION = 1 << 5;
+
+    /**
+     * The bit, which identifies the adaptation of the margin of dividers.
+     */
+    private static final int DIVIDER_MARGIN_ADAPTATION = 1 << 6;
+
+    /**
+     * The bit, which identifies the adaptation of the color of the dialog's title.
+     */
+    private static final int TITLE_COLOR_ADAPTATION = 1 << 7;
+
+    /**
+     * The bit, which identifies the adaptation of the dialog's title.
+     */
+    private static final int TITLE_ADAPTATION = 1 << 8;
+
+    /**
+     * The bit, which identifies the adaptation of the dialog's icon.
+     */
+    private static final int ICON_ADAPTATION = 1 << 9;
+
+    /**
+     * The bit, which identifies the adaptation of the color of the dialog's message.
+     */
+    private static final int MESSAGE_COLOR_ADAPTATION = 1 << 10;
+
+    /**
+     * The bit, which identifies the adaptation of the dialog's message.
+     */
+    private static final int MESSAGE_ADAPTATION = 1 << 11;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of the dialog's title.
+     */
+    private static final int TITLE_CONTAINER_VISIBILITY_ADAPTATION = 1 << 12;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of the dialog's message.
+     */
+    private static final int MESSAGE_CONTAINER_VISIBILITY_ADAPTATION = 1 << 13;
+
+    /**
+     * The bit, which identifies the adaptation of the visibility of the dialog's content.
+     */
+    private static final int CONTENT_CONTAINER_VISIBILITY_ADAPTATION = 1 << 14;
+
+    /**
+     * The number of characters, which are read from the reader of a streamed message at once.
+     */
+    private static final int MESSAGE_STREAM_BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum number of characters, which may be read from the reader of a streamed message,
+     * before they have been appended to the message on the UI thread. If this number is reached,
+     * reading is paused until the UI thread has caught up.
+     */
+    private static final int MAX_PENDING_STREAMED_TEXT = 8 * MESSAGE_STREAM_BUFFER_SIZE;
+
+    /**
+     * The maximum number of characters of a streamed message, which are stored within a bundle.
+     * Only the end of longer messages is stored in order to not exceed the size limit of the
+     * bundle.
+     */
+    private static final int MAX_SAVED_STREAMED_TEXT = 4 * MESSAGE_STREAM_BUFFER_SIZE;
+
+    /**
+     * The handler, which is used to pass text, which has been read from the reader of a streamed
+     * message, to the UI thread.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The executor, which is used to read streamed messages in the background.
+     */
+    private static ExecutorService messageStreamExecutor;
+
     /**
      * The parent view of the view, which is used to show the dialog's title.
      */
@@ -332,6 +460,11 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
     private TextView messageTextView;
 
+    /**
+     * The view, which is used to show the dialog's message, if it is streamed.
+     */
+    private StreamingMessageView streamingMessageView;
+
     /**
      * The parent view of the view, which is used to show the dialog's content.
      */
@@ -347,6 +480,12 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
     private Bitmap windowBackgroundBitmap;
 
+    /**
+     * The callback, which is used to restore the dialog's window background from the saved state,
+     * or null, if it has been changed in the meantime.
+     */
+    private BitmapStateStore.Callback windowBackgroundCallback;
+
     /**
      * The background of the dialog's window.
      */
@@ -439,6 +578,39 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
     private CharSequence message;
 
+    /**
+     * True, if the dialog's message is streamed, false otherwise.
+     */
+    private boolean messageStreamed;
+
+    /**
+     * The adapter, which contains the chunks of the dialog's message, if it is streamed.
+     */
+    private StreamingMessageView.ChunkAdapter streamedMessage;
+
+    /**
+     * The text, which has been read from the reader of a streamed message, but has not been
+     * appended to the message on the UI thread yet. It is also used to synchronize the reading
+     * thread with the UI thread.
+     */
+    private final StringBuilder pendingStreamedText = new StringBuilder();
+
+    /**
+     * True, if a runnable, which appends the pending text of a streamed message, has been posted
+     * to the UI thread, but has not been run yet, false otherwise.
+     */
+    private boolean pendingStreamedTextPosted;
+
+    /**
+     * The token, which identifies the reader, the dialog's message is currently read from.
+     */
+    private volatile Object messageStreamToken;
+
+    /**
+     * The task, which reads the dialog's message from a reader in the background.
+     */
+    private Future<?> messageStreamTask;
+
     /**
      * The icon of the dialog.
      */
@@ -459,6 +631,12 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
     private Bitmap iconBitmap;
 
+    /**
+     * The callback, which is used to restore the dialog's icon from the saved state, or null, if it
+     * has been changed in the meantime.
+     */
+    private BitmapStateStore.Callback iconCallback;
+
     /**
      * The color state list, which is used to tint the icon of the dialog.
      */
@@ -485,10 +663,34 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
     private Drawable background;
 
     /**
-     * The bitmap of the dialog's background.
+     * The bitmap of the dialog's background at its original size.
      */
     private Bitmap backgroundBitmap;
 
+    /**
+     * The callback, which is used to restore the dialog's background from the saved state, or null,
+     * if it has been changed in the meantime.
+     */
+    private BitmapStateStore.Callback backgroundCallback;
+
+    /**
+     * The listener, which is notified, when the dialog has been laid out in order to decode its
+     * background at the dialog's size, or null, if the background does not need to be decoded.
+     */
+    private View.OnLayoutChangeListener backgroundLayoutListener;
+
+    /**
+     * The width, the background of the dialog has been decoded at, in pixels or -1, if it has not
+     * been decoded at the size of the dialog yet.
+     */
+    private int backgroundWidth = -1;
+
+    /**
+     * The height, the background of the dialog has been decoded at, in pixels or -1, if it has not
+     * been decoded at the size of the dialog yet.
+     */
+    private int backgroundHeight = -1;
+
     /**
      * The resource id of the dialog's background.
      */
@@ -509,6 +711,12 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
     private int customViewId = -1;
 
+    /**
+     * The scrollable view, which is contained by the dialog's custom view and should be observed
+     * in order to adapt the visibility of the dividers, or null, if no such view is registered.
+     */
+    private View scrollableView;
+
     /**
      * The custom title view of the dialog.
      */
@@ -665,13 +873,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             if (customTitleView != null) {
                 titleContainer.addView(customTitleView);
             } else if (customTitleViewId != -1) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater.inflate(customTitleViewId, titleContainer, false);
+                View view = inflateLayout(customTitleViewId, titleContainer);
                 titleContainer.addView(view);
             } else {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater
-                        .inflate(R.layout.material_dialog_title, titleContainer, false);
+                View view = inflateLayout(R.layout.material_dialog_title, titleContainer);
                 titleContainer.addView(view);
             }
 
@@ -711,16 +916,24 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         if (getRootView() != null) {
             inflateMessageContainer();
 
+            if (streamingMessageView != null) {
+                streamingMessageView.setChunkAdapter(null);
+                streamingMessageView = null;
+            }
+
             if (customMessageView != null) {
                 messageContainer.addView(customMessageView);
             } else if (customMessageViewId != -1) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater.inflate(customMessageViewId, messageContainer, false);
+                View view = inflateLayout(customMessageViewId, messageContainer);
                 messageContainer.addView(view);
+            } else if (messageStreamed) {
+                streamingMessageView = new StreamingMessageView(getContext());
+                streamingMessageView.setLayoutParams(
+                        new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                                ViewGroup.LayoutParams.WRAP_CONTENT));
+                messageContainer.addView(streamingMessageView);
             } else {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater
-                        .inflate(R.layout.material_dialog_message, messageContainer, false);
+                View view = inflateLayout(R.layout.material_dialog_message, messageContainer);
                 messageContainer.addView(view);
             }
 
@@ -761,8 +974,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             if (customView != null) {
                 contentContainer.addView(customView);
             } else if (customViewId != -1) {
-                LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-                View view = layoutInflater.inflate(customViewId, contentContainer, false);
+                View view = inflateLayout(customViewId, contentContainer);
                 contentContainer.addView(view);
             }
 
@@ -789,10 +1001,93 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         }
     }
 
+    /**
+     * Decodes the background of the dialog at the size of the dialog, if it has been set by using a
+     * bitmap or a resource and has not been decoded at least at this size yet. The bitmap or
+     * resource, the background has been set by, is retained in order to be able to decode it
+     * again, if the dialog grows.
+     *
+     * @return True, if the background has been decoded or does not need to be decoded, false, if
+     * the dialog has not been laid out yet
+     */
+    private boolean decodeBackground() {
+        if (backgroundBitmap != null || backgroundId != -1) {
+            View rootView = getRootView();
+            int width = rootView != null ? rootView.getWidth() : 0;
+            int height = rootView != null ? rootView.getHeight() : 0;
+
+            if (width <= 0 || height <= 0) {
+                return false;
+            }
+
+            if (width > backgroundWidth || height > backgroundHeight) {
+                if (backgroundBitmap != null) {
+                    background = new BitmapDrawable(getContext().getResources(),
+                            BitmapDecoder.downsample(backgroundBitmap, width, height));
+                } else {
+                    background =
+                            BitmapDecoder.getDrawable(getContext(), backgroundId, width, height);
+                }
+
+                backgroundWidth = width;
+                backgroundHeight = height;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates and returns a listener, which allows to adapt the background of the dialog, once
+     * the dialog has been laid out for the first time or has grown.
+     *
+     * @param animation
+     *         The animation, which should be used to change the background, as an instance of the
+     *         class {@link BackgroundAnimation} or null, if no animation should be used
+     * @return The listener, which has been created, as an instance of the type {@link
+     * View.OnLayoutChangeListener}. The listener may not be null
+     */
+    @NonNull
+    private View.OnLayoutChangeListener createBackgroundLayoutListener(
+            @Nullable final BackgroundAnimation animation) {
+        return new View.OnLayoutChangeListener() {
+
+            @Override
+            public void onLayoutChange(final View view, final int left, final int top,
+                                       final int right, final int bottom, final int oldLeft,
+                                       final int oldTop, final int oldRight,
+                                       final int oldBottom) {
+                if (right > left && bottom > top &&
+                        (right - left > backgroundWidth || bottom - top > backgroundHeight)) {
+                    adaptBackground(backgroundWidth == -1 ? animation : null);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Removes the listener, which is notified, when the dialog has been laid out in order to
+     * decode its background, if it has been registered.
+     */
+    private void removeBackgroundLayoutListener() {
+        if (backgroundLayoutListener != null) {
+            if (getRootView() != null) {
+                getRootView().removeOnLayoutChangeListener(backgroundLayoutListener);
+            }
+
+            backgroundLayoutListener = null;
+        }
+    }
+
     /**
      * Adapts the background and inset of the dialog's window.
      */
     private void adaptWindowBackgroundAndInset() {
+        if (deferAdaptation(WINDOW_BACKGROUND_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView rootView = getRootView();
 
         if (rootView != null) {
@@ -804,6 +1099,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the layout params of the dialog.
      */
     private void adaptLayoutParams() {
+        if (deferAdaptation(LAYOUT_PARAMS_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView rootView = getRootView();
 
         if (getWindow() != null && rootView != null) {
@@ -818,6 +1117,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the padding of the dialog.
      */
     private void adaptPadding() {
+        if (deferAdaptation(PADDING_ADAPTATION)) {
+            return;
+        }
+
         ViewGroup dialogRootView = getRootView();
 
         if (dialogRootView != null) {
@@ -830,6 +1133,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the scrollable area of the dialog.
      */
     private void adaptScrollableArea() {
+        if (deferAdaptation(SCROLLABLE_AREA_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView dialogRootView = getRootView();
 
         if (dialogRootView != null) {
@@ -841,6 +1148,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the visibility of dividers.
      */
     private void adaptDividerVisibility() {
+        if (deferAdaptation(DIVIDER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView dialogRootView = getRootView();
 
         if (dialogRootView != null) {
@@ -852,6 +1163,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the color of dividers.
      */
     private void adaptDividerColor() {
+        if (deferAdaptation(DIVIDER_COLOR_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView dialogRootView = getRootView();
 
         if (dialogRootView != null) {
@@ -863,6 +1178,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the left and right margin of dividers.
      */
     private void adaptDividerMargin() {
+        if (deferAdaptation(DIVIDER_MARGIN_ADAPTATION)) {
+            return;
+        }
+
         DialogRootView dialogRootView = getRootView();
 
         if (dialogRootView != null) {
@@ -870,6 +1189,18 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         }
     }
 
+    /**
+     * Registers the scrollable view, which is contained by the dialog's custom view, at the
+     * dialog's root view.
+     */
+    private void adaptScrollableView() {
+        DialogRootView rootView = getRootView();
+
+        if (rootView != null && scrollableView != null) {
+            rootView.registerScrollableView(scrollableView);
+        }
+    }
+
     /**
      * Adapts the view, which is used to show the dialog's content.
      */
@@ -906,6 +1237,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the color of the dialog's title.
      */
     private void adaptTitleColor() {
+        if (deferAdaptation(TITLE_COLOR_ADAPTATION)) {
+            return;
+        }
+
         if (titleTextView != null) {
             titleTextView.setTextColor(titleColor);
         }
@@ -915,8 +1250,12 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the dialog's title.
      */
     private void adaptTitle() {
+        if (deferAdaptation(TITLE_ADAPTATION)) {
+            return;
+        }
+
         if (titleTextView != null) {
-            titleTextView.setText(title);
+            TextPrecomputer.setText(titleTextView, title);
         }
 
         adaptTitleContainerVisibility();
@@ -926,6 +1265,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the dialog's icon.
      */
     private void adaptIcon() {
+        if (deferAdaptation(ICON_ADAPTATION)) {
+            return;
+        }
+
         if (iconImageView != null) {
             ImageViewCompat.setImageTintList(iconImageView, iconTintList);
             ImageViewCompat.setImageTintMode(iconImageView, iconTintMode);
@@ -941,6 +1284,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * the dialog.
      */
     private void adaptTitleContainerVisibility() {
+        if (deferAdaptation(TITLE_CONTAINER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         if (titleContainer != null) {
             boolean visible = isCustomTitleUsed() || !TextUtils.isEmpty(title) || icon != null;
 
@@ -959,9 +1306,26 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      */
 
     private void adaptMessage() {
+        if (deferAdaptation(MESSAGE_ADAPTATION)) {
+            return;
+        }
+
+        if (messageContainer != null && !isCustomMessageUsed() &&
+                messageStreamed != (streamingMessageView != null)) {
+            inflateMessageView();
+            adaptMessageColor();
+        }
+
         if (messageTextView != null) {
-            messageTextView.setText(message);
-            messageTextView.setVisibility(!TextUtils.isEmpty(message) ? View.VISIBLE : View.GONE);
+            CharSequence text = getMessage();
+            TextPrecomputer.setText(messageTextView, text);
+            messageTextView.setVisibility(!TextUtils.isEmpty(text) ? View.VISIBLE : View.GONE);
+        }
+
+        if (streamingMessageView != null) {
+            streamingMessageView.setChunkAdapter(streamedMessage);
+            streamingMessageView
+                    .setVisibility(isMessageEmpty() ? View.GONE : View.VISIBLE);
         }
 
         adaptMessageContainerVisibility();
@@ -971,9 +1335,199 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * Adapts the color of the dialog's message.
      */
     private void adaptMessageColor() {
+        if (deferAdaptation(MESSAGE_COLOR_ADAPTATION)) {
+            return;
+        }
+
         if (messageTextView != null) {
             messageTextView.setTextColor(messageColor);
         }
+
+        if (streamingMessageView != null) {
+            streamingMessageView.setTextColor(messageColor);
+        }
+    }
+
+    /**
+     * Returns the executor, which is used to read streamed messages in the background. If the
+     * executor has not been created yet, it is created.
+     *
+     * @return The executor, which is used to read streamed messages in the background, as an
+     * instance of the type {@link ExecutorService}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized ExecutorService getMessageStreamExecutor() {
+        if (messageStreamExecutor == null) {
+            messageStreamExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            MaterialDialogDecorator.class.getSimpleName() + "::messageStream");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return messageStreamExecutor;
+    }
+
+    /**
+     * Returns, whether the dialog's message is empty, or not.
+     *
+     * @return True, if the dialog's message is empty, false otherwise
+     */
+    private boolean isMessageEmpty() {
+        return messageStreamed ? streamedMessage.length() == 0 : TextUtils.isEmpty(message);
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to read the dialog's message from a reader in
+     * the background. The text, which has been read, is collected and appended to the message on
+     * the UI thread by a single pending runnable. If the UI thread falls behind, reading is
+     * paused.
+     *
+     * @param reader
+     *         The reader, the message should be read from, as an instance of the class {@link
+     *         Reader}. The reader may not be null
+     * @param token
+     *         The token, which identifies the reader, as an instance of the class {@link Object}.
+     *         The token may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createMessageStreamRunnable(@NonNull final Reader reader,
+                                                 @NonNull final Object token) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                char[] buffer = new char[MESSAGE_STREAM_BUFFER_SIZE];
+
+                try {
+                    int read;
+
+                    while (!Thread.currentThread().isInterrupted() &&
+                            (read = reader.read(buffer)) != -1) {
+                        synchronized (pendingStreamedText) {
+                            while (messageStreamToken == token &&
+                                    pendingStreamedText.length() >= MAX_PENDING_STREAMED_TEXT) {
+                                pendingStreamedText.wait();
+                            }
+
+                            if (messageStreamToken != token) {
+                                break;
+                            }
+
+                            pendingStreamedText.append(buffer, 0, read);
+
+                            if (!pendingStreamedTextPosted) {
+                                pendingStreamedTextPosted = true;
+                                HANDLER.post(createPendingStreamedTextRunnable());
+                            }
+                        }
+                    }
+                } catch (IOException e) {
+                    // The message remains incomplete
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        // No need to handle
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to append the text, which has been read from the
+     * reader of a streamed message in the meantime, to the message on the UI thread.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createPendingStreamedTextRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                String text;
+
+                synchronized (pendingStreamedText) {
+                    text = pendingStreamedText.toString();
+                    pendingStreamedText.setLength(0);
+                    pendingStreamedTextPosted = false;
+                    pendingStreamedText.notifyAll();
+                }
+
+                if (messageStreamed && !text.isEmpty()) {
+                    appendStreamedMessage(text);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Cancels reading the dialog's message from a reader, if it is currently read. Text, which
+     * has been read, but not appended to the message yet, is discarded.
+     */
+    private void cancelMessageStream() {
+        messageStreamToken = null;
+
+        if (messageStreamTask != null) {
+            messageStreamTask.cancel(true);
+            messageStreamTask = null;
+        }
+
+        synchronized (pendingStreamedText) {
+            pendingStreamedText.setLength(0);
+            pendingStreamedText.notifyAll();
+        }
+    }
+
+    /**
+     * Switches the dialog's message to the streaming mode, if it is not streamed yet. The current
+     * message is retained.
+     */
+    private void startMessageStream() {
+        if (!messageStreamed) {
+            messageStreamed = true;
+            streamedMessage = new StreamingMessageView.ChunkAdapter();
+
+            if (message != null) {
+                streamedMessage.append(message);
+            }
+
+            message = null;
+            adaptMessage();
+        }
+    }
+
+    /**
+     * Appends text to the dialog's message, if it is streamed.
+     *
+     * @param text
+     *         The text, which should be appended, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     */
+    private void appendStreamedMessage(@NonNull final CharSequence text) {
+        boolean empty = streamedMessage.length() == 0;
+        streamedMessage.append(text);
+
+        if (empty) {
+            adaptMessage();
+        } else if (streamingMessageView == null && messageTextView != null) {
+            messageTextView.append(text);
+        }
     }
 
     /**
@@ -981,8 +1535,12 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * of the dialog.
      */
     private void adaptMessageContainerVisibility() {
+        if (deferAdaptation(MESSAGE_CONTAINER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         if (titleContainer != null) {
-            boolean visible = isCustomMessageUsed() || !TextUtils.isEmpty(message);
+            boolean visible = isCustomMessageUsed() || !isMessageEmpty();
 
             if (visible) {
                 messageContainer.setVisibility(View.VISIBLE);
@@ -1002,7 +1560,18 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      *         class {@link BackgroundAnimation} or null, if no animation should be used
      */
     private void adaptBackground(@Nullable final BackgroundAnimation animation) {
+        removeBackgroundLayoutListener();
+
         if (getRootView() != null && getWindow() != null) {
+            if (backgroundBitmap != null || backgroundId != -1) {
+                backgroundLayoutListener = createBackgroundLayoutListener(animation);
+                getRootView().addOnLayoutChangeListener(backgroundLayoutListener);
+
+                if (!decodeBackground()) {
+                    return;
+                }
+            }
+
             Drawable newBackground = background;
 
             if (animation != null && newBackground != null) {
@@ -1022,6 +1591,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
                                 new Drawable[]{previousBackground, newBackground});
                         transition.setRadius(circleTransitionAnimation.getRadius());
                         transition.setListener(circleTransitionAnimation.getListener());
+                        transition.setInterpolator(circleTransitionAnimation.getInterpolator());
 
                         if (circleTransitionAnimation.getX() != null) {
                             transition.setX(circleTransitionAnimation.getX());
@@ -1037,6 +1607,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
                         CrossFadeTransitionDrawable transition = new CrossFadeTransitionDrawable(
                                 new Drawable[]{previousBackground, newBackground});
                         transition.setListener(animation.getListener());
+                        transition.setInterpolator(animation.getInterpolator());
                         transition.startTransition(animation.getDuration());
                         newBackground = transition;
                     } else {
@@ -1058,6 +1629,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
      * content.
      */
     private void adaptContentContainerVisibility() {
+        if (deferAdaptation(CONTENT_CONTAINER_VISIBILITY_ADAPTATION)) {
+            return;
+        }
+
         if (contentContainer != null) {
             if (isCustomViewUsed()) {
                 contentContainer.setVisibility(View.VISIBLE);
@@ -1088,6 +1663,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final void setWindowBackground(@DrawableRes final int resourceId) {
+        this.windowBackgroundCallback = null;
         this.windowBackgroundId = resourceId;
         this.windowBackgroundBitmap = null;
         this.windowBackground = ContextCompat.getDrawable(getContext(), resourceId);
@@ -1098,6 +1674,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final void setWindowBackground(@Nullable final Bitmap windowBackground) {
+        this.windowBackgroundCallback = null;
         this.windowBackgroundId = -1;
         this.windowBackgroundBitmap = windowBackground;
         this.windowBackground =
@@ -1394,6 +1971,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final void setIcon(@Nullable final Bitmap icon) {
+        this.iconCallback = null;
         this.iconBitmap = icon;
         this.iconId = -1;
         this.iconAttributeId = -1;
@@ -1403,6 +1981,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final void setIcon(@DrawableRes final int resourceId) {
+        this.iconCallback = null;
         this.iconBitmap = null;
         this.iconId = resourceId;
         this.iconAttributeId = -1;
@@ -1412,6 +1991,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final void setIconAttribute(@AttrRes final int attributeId) {
+        this.iconCallback = null;
         this.iconBitmap = null;
         this.iconId = -1;
         this.iconAttributeId = attributeId;
@@ -1474,6 +2054,10 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     public final Drawable getBackground() {
+        if (background == null && backgroundId != -1) {
+            background = ContextCompat.getDrawable(getContext(), backgroundId);
+        }
+
         return background;
     }
 
@@ -1485,12 +2069,14 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
     @Override
     public final void setBackground(@Nullable final Bitmap background,
                                     @Nullable final BackgroundAnimation animation) {
+        this.backgroundCallback = null;
         this.backgroundBitmap = background;
         this.backgroundId = -1;
         this.backgroundColor = -1;
-        this.background =
-                background != null ? new BitmapDrawable(getContext().getResources(), background) :
-                        null;
+        this.background = background != null ?
+                new BitmapDrawable(getContext().getResources(), background) : null;
+        this.backgroundWidth = -1;
+        this.backgroundHeight = -1;
         adaptBackground(animation);
     }
 
@@ -1502,10 +2088,13 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
     @Override
     public final void setBackground(@DrawableRes final int resourceId,
                                     @Nullable final BackgroundAnimation animation) {
+        this.backgroundCallback = null;
         this.backgroundBitmap = null;
         this.backgroundId = resourceId;
         this.backgroundColor = -1;
-        this.background = ContextCompat.getDrawable(getContext(), resourceId);
+        this.background = null;
+        this.backgroundWidth = -1;
+        this.backgroundHeight = -1;
         adaptBackground(animation);
     }
 
@@ -1517,10 +2106,13 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
     @Override
     public final void setBackgroundColor(@ColorInt final int color,
                                          @Nullable final BackgroundAnimation animation) {
+        this.backgroundCallback = null;
         this.backgroundBitmap = null;
         this.backgroundId = -1;
         this.backgroundColor = color;
         this.background = new ColorDrawable(color);
+        this.backgroundWidth = -1;
+        this.backgroundHeight = -1;
         adaptBackground(animation);
     }
 
@@ -1581,13 +2173,40 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         adaptContentView();
     }
 
+    @Override
+    public final void registerScrollableView(@NonNull final View view) {
+        ensureNotNull(view, "The view may not be null");
+        ensureTrue(view instanceof AbsListView || view instanceof RecyclerView ||
+                        view instanceof NestedScrollingChild,
+                "The view must either be an AbsListView, a RecyclerView or a NestedScrollingChild");
+        scrollableView = view;
+        adaptScrollableView();
+    }
+
+    @Override
+    public final void unregisterScrollableView(@NonNull final View view) {
+        ensureNotNull(view, "The view may not be null");
+
+        if (scrollableView == view) {
+            scrollableView = null;
+            DialogRootView rootView = getRootView();
+
+            if (rootView != null) {
+                rootView.unregisterScrollableView(view);
+            }
+        }
+    }
+
     @Override
     public final CharSequence getMessage() {
-        return message;
+        return messageStreamed ? streamedMessage.getText() : message;
     }
 
     @Override
     public final void setMessage(@Nullable final CharSequence message) {
+        cancelMessageStream();
+        this.messageStreamed = false;
+        this.streamedMessage = null;
         this.message = message;
         adaptMessage();
     }
@@ -1597,6 +2216,32 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         setMessage(getContext().getText(resourceId));
     }
 
+    @Override
+    public final boolean isMessageStreamed() {
+        return messageStreamed;
+    }
+
+    @Override
+    public final void setMessageStream(@NonNull final Reader reader) {
+        ensureNotNull(reader, "The reader may not be null");
+        cancelMessageStream();
+        this.messageStreamed = true;
+        this.streamedMessage = new StreamingMessageView.ChunkAdapter();
+        this.message = null;
+        adaptMessage();
+        Object token = new Object();
+        this.messageStreamToken = token;
+        this.messageStreamTask =
+                getMessageStreamExecutor().submit(createMessageStreamRunnable(reader, token));
+    }
+
+    @Override
+    public final void appendMessage(@NonNull final CharSequence text) {
+        ensureNotNull(text, "The text may not be null");
+        startMessageStream();
+        appendStreamedMessage(text);
+    }
+
     @Override
     public final CharSequence getTitle() {
         return title;
@@ -1640,18 +2285,23 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         outState.putInt(TITLE_COLOR_EXTRA, getTitleColor());
         outState.putInt(MESSAGE_COLOR_EXTRA, getMessageColor());
         outState.putCharSequence(TITLE_EXTRA, getTitle());
-        outState.putCharSequence(MESSAGE_EXTRA, getMessage());
+        outState.putBoolean(MESSAGE_STREAMED_EXTRA, isMessageStreamed());
+        outState.putCharSequence(MESSAGE_EXTRA, isMessageStreamed() ?
+                streamedMessage.getText(MAX_SAVED_STREAMED_TEXT) : getMessage());
+
         outState.putParcelable(ICON_TINT_LIST_EXTRA, getIconTintList());
         outState.putSerializable(ICON_TINT_MODE_EXTRA, getIconTintMode());
 
         if (windowBackgroundBitmap != null) {
-            outState.putParcelable(WINDOW_BACKGROUND_BITMAP_EXTRA, windowBackgroundBitmap);
+            outState.putString(WINDOW_BACKGROUND_BITMAP_TOKEN_EXTRA,
+                    BitmapStateStore.put(getContext(), windowBackgroundBitmap));
         } else if (windowBackgroundId != -1) {
             outState.putInt(WINDOW_BACKGROUND_ID_EXTRA, windowBackgroundId);
         }
 
         if (iconBitmap != null) {
-            outState.putParcelable(ICON_BITMAP_EXTRA, iconBitmap);
+            outState.putString(ICON_BITMAP_TOKEN_EXTRA,
+                    BitmapStateStore.put(getContext(), iconBitmap));
         } else if (iconId != -1) {
             outState.putInt(ICON_ID_EXTRA, iconId);
         } else if (iconAttributeId != -1) {
@@ -1659,7 +2309,8 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         }
 
         if (backgroundBitmap != null) {
-            outState.putParcelable(BACKGROUND_BITMAP_EXTRA, backgroundBitmap);
+            outState.putString(BACKGROUND_BITMAP_TOKEN_EXTRA,
+                    BitmapStateStore.put(getContext(), backgroundBitmap));
         } else if (backgroundId != -1) {
             outState.putInt(BACKGROUND_ID_EXTRA, backgroundId);
         } else if (backgroundColor != -1) {
@@ -1694,6 +2345,11 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         setMessageColor(savedInstanceState.getInt(MESSAGE_COLOR_EXTRA));
         setTitle(savedInstanceState.getCharSequence(TITLE_EXTRA));
         setMessage(savedInstanceState.getCharSequence(MESSAGE_EXTRA));
+
+        if (savedInstanceState.getBoolean(MESSAGE_STREAMED_EXTRA)) {
+            startMessageStream();
+        }
+
         setIconTintList((ColorStateList) savedInstanceState.getParcelable(ICON_TINT_LIST_EXTRA));
         PorterDuff.Mode iconTintMode =
                 (PorterDuff.Mode) savedInstanceState.getSerializable(ICON_TINT_MODE_EXTRA);
@@ -1702,23 +2358,79 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             setIconTintMode(iconTintMode);
         }
 
-        if (savedInstanceState.containsKey(WINDOW_BACKGROUND_BITMAP_EXTRA)) {
-            setWindowBackground(
-                    (Bitmap) savedInstanceState.getParcelable(WINDOW_BACKGROUND_BITMAP_EXTRA));
+        if (savedInstanceState.containsKey(WINDOW_BACKGROUND_BITMAP_TOKEN_EXTRA)) {
+            windowBackgroundCallback = new BitmapStateStore.Callback() {
+
+                @Override
+                public void onResolved(@NonNull final Bitmap bitmap) {
+                    if (windowBackgroundCallback == this) {
+                        setWindowBackground(bitmap);
+                    }
+                }
+
+                @Override
+                public void onFailed() {
+                    if (windowBackgroundCallback == this) {
+                        windowBackgroundCallback = null;
+                    }
+                }
+
+            };
+            BitmapStateStore.resolve(getContext(),
+                    savedInstanceState.getString(WINDOW_BACKGROUND_BITMAP_TOKEN_EXTRA),
+                    windowBackgroundCallback);
         } else if (savedInstanceState.containsKey(WINDOW_BACKGROUND_ID_EXTRA)) {
             setWindowBackground(savedInstanceState.getInt(WINDOW_BACKGROUND_ID_EXTRA));
         }
 
-        if (savedInstanceState.containsKey(ICON_BITMAP_EXTRA)) {
-            setIcon((Bitmap) savedInstanceState.getParcelable(ICON_BITMAP_EXTRA));
+        if (savedInstanceState.containsKey(ICON_BITMAP_TOKEN_EXTRA)) {
+            iconCallback = new BitmapStateStore.Callback() {
+
+                @Override
+                public void onResolved(@NonNull final Bitmap bitmap) {
+                    if (iconCallback == this) {
+                        setIcon(bitmap);
+                    }
+                }
+
+                @Override
+                public void onFailed() {
+                    if (iconCallback == this) {
+                        iconCallback = null;
+                    }
+                }
+
+            };
+            BitmapStateStore.resolve(getContext(),
+                    savedInstanceState.getString(ICON_BITMAP_TOKEN_EXTRA),
+                    iconCallback);
         } else if (savedInstanceState.containsKey(ICON_ID_EXTRA)) {
             setIcon(savedInstanceState.getInt(ICON_ID_EXTRA));
         } else if (savedInstanceState.containsKey(ICON_ATTRIBUTE_ID_EXTRA)) {
             setIconAttribute(savedInstanceState.getInt(ICON_ATTRIBUTE_ID_EXTRA));
         }
 
-        if (savedInstanceState.containsKey(BACKGROUND_BITMAP_EXTRA)) {
-            setBackground(savedInstanceState.getInt(BACKGROUND_BITMAP_EXTRA));
+        if (savedInstanceState.containsKey(BACKGROUND_BITMAP_TOKEN_EXTRA)) {
+            backgroundCallback = new BitmapStateStore.Callback() {
+
+                @Override
+                public void onResolved(@NonNull final Bitmap bitmap) {
+                    if (backgroundCallback == this) {
+                        setBackground(bitmap);
+                    }
+                }
+
+                @Override
+                public void onFailed() {
+                    if (backgroundCallback == this) {
+                        backgroundCallback = null;
+                    }
+                }
+
+            };
+            BitmapStateStore.resolve(getContext(),
+                    savedInstanceState.getString(BACKGROUND_BITMAP_TOKEN_EXTRA),
+                    backgroundCallback);
         } else if (savedInstanceState.containsKey(BACKGROUND_ID_EXTRA)) {
             setBackground(savedInstanceState.getInt(BACKGROUND_ID_EXTRA));
         } else if (savedInstanceState.containsKey(BACKGROUND_COLOR_EXTRA)) {
@@ -1726,6 +2438,132 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         }
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        MaterialDialogDecorator decorator = (MaterialDialogDecorator) source;
+        this.cancelable = decorator.cancelable;
+        this.canceledOnTouchOutside = decorator.canceledOnTouchOutside;
+        this.fullscreen = decorator.fullscreen;
+        this.gravity = decorator.gravity;
+        this.width = decorator.width;
+        this.height = decorator.height;
+        this.maxWidth = decorator.maxWidth;
+        this.maxHeight = decorator.maxHeight;
+        this.margin = decorator.margin.clone();
+        this.padding = decorator.padding.clone();
+        this.fitsSystemWindows = decorator.fitsSystemWindows.clone();
+        this.scrollableArea = decorator.scrollableArea;
+        this.showDividersOnScroll = decorator.showDividersOnScroll;
+        this.dividerColor = decorator.dividerColor;
+        this.dividerMargin = decorator.dividerMargin;
+        this.title = copyText(decorator.title);
+        this.titleColor = decorator.titleColor;
+        this.messageColor = decorator.messageColor;
+        this.iconTintList = decorator.iconTintList;
+        this.iconTintMode = decorator.iconTintMode;
+        this.windowBackgroundId = decorator.windowBackgroundId;
+        this.windowBackgroundBitmap = decorator.windowBackgroundBitmap;
+        this.windowBackground = copyDrawable(decorator.windowBackground);
+        this.windowInsets =
+                decorator.windowInsets != null ? new Rect(decorator.windowInsets) : null;
+        this.iconId = decorator.iconId;
+        this.iconAttributeId = decorator.iconAttributeId;
+        this.iconBitmap = decorator.iconBitmap;
+        this.icon = copyDrawable(decorator.icon);
+        this.backgroundId = decorator.backgroundId;
+        this.backgroundColor = decorator.backgroundColor;
+        this.backgroundBitmap = decorator.backgroundBitmap;
+        this.background = copyDrawable(decorator.background);
+        this.backgroundWidth = decorator.backgroundWidth;
+        this.backgroundHeight = decorator.backgroundHeight;
+
+        if (!decorator.messageStreamed) {
+            setMessage(copyText(decorator.message));
+        }
+    }
+
+    @Override
+    protected final void onPrewarm(@NonNull final AsyncViewInflater inflater) {
+        RelativeLayout parent = new RelativeLayout(getContext());
+
+        if (customTitleView == null) {
+            inflater.inflate(customTitleViewId != -1 ? customTitleViewId :
+                    R.layout.material_dialog_title, parent);
+        }
+
+        if (customMessageView == null) {
+            inflater.inflate(customMessageViewId != -1 ? customMessageViewId :
+                    R.layout.material_dialog_message, parent);
+        }
+
+        if (customView == null && customViewId != -1) {
+            inflater.inflate(customViewId, parent);
+        }
+    }
+
+    @Override
+    protected final void onApplyAdaptations(final int adaptations) {
+        if ((adaptations & LAYOUT_PARAMS_ADAPTATION) != 0) {
+            adaptLayoutParams();
+        }
+
+        if ((adaptations & WINDOW_BACKGROUND_ADAPTATION) != 0) {
+            adaptWindowBackgroundAndInset();
+        }
+
+        if ((adaptations & PADDING_ADAPTATION) != 0) {
+            adaptPadding();
+        }
+
+        if ((adaptations & SCROLLABLE_AREA_ADAPTATION) != 0) {
+            adaptScrollableArea();
+        }
+
+        if ((adaptations & DIVIDER_VISIBILITY_ADAPTATION) != 0) {
+            adaptDividerVisibility();
+        }
+
+        if ((adaptations & DIVIDER_COLOR_ADAPTATION) != 0) {
+            adaptDividerColor();
+        }
+
+        if ((adaptations & DIVIDER_MARGIN_ADAPTATION) != 0) {
+            adaptDividerMargin();
+        }
+
+        if ((adaptations & TITLE_COLOR_ADAPTATION) != 0) {
+            adaptTitleColor();
+        }
+
+        if ((adaptations & TITLE_ADAPTATION) != 0) {
+            adaptTitle();
+        }
+
+        if ((adaptations & ICON_ADAPTATION) != 0) {
+            adaptIcon();
+        }
+
+        if ((adaptations & MESSAGE_COLOR_ADAPTATION) != 0) {
+            adaptMessageColor();
+        }
+
+        if ((adaptations & MESSAGE_ADAPTATION) != 0) {
+            adaptMessage();
+        }
+
+        if ((adaptations & TITLE_CONTAINER_VISIBILITY_ADAPTATION) != 0) {
+            adaptTitleContainerVisibility();
+        }
+
+        if ((adaptations & MESSAGE_CONTAINER_VISIBILITY_ADAPTATION) != 0) {
+            adaptMessageContainerVisibility();
+        }
+
+        if ((adaptations & CONTENT_CONTAINER_VISIBILITY_ADAPTATION) != 0) {
+            adaptContentContainerVisibility();
+        }
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -1749,6 +2587,7 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             adaptMessage();
             adaptMessageColor();
             adaptBackground(null);
+            adaptScrollableView();
             Map<ViewType, View> result = new HashMap<>();
             result.put(new AreaViewType(Area.TITLE), titleContainer);
             result.put(new AreaViewType(Area.MESSAGE), messageContainer);
@@ -1761,6 +2600,9 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
 
     @Override
     protected final void onDetach() {
+        removeBackgroundLayoutListener();
+        cancelMessageStream();
+
         if (titleContainer != null) {
             titleContainer.removeAllViews();
             titleContainer = null;
@@ -1776,6 +2618,11 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
             contentContainer = null;
         }
 
+        if (streamingMessageView != null) {
+            streamingMessageView.setChunkAdapter(null);
+            streamingMessageView = null;
+        }
+
         titleTextView = null;
         messageTextView = null;
     }
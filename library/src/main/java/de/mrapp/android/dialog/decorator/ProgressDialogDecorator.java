@@ -268,6 +268,16 @@ public class ProgressDialogDecorator extends AbstractDialogDecorator<ButtonBarDi
                 .fromValue(savedInstanceState.getInt(PROGRESS_BAR_POSITION_EXTRA)));
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        ProgressDialogDecorator decorator = (ProgressDialogDecorator) source;
+        this.progressBarColor = decorator.progressBarColor;
+        this.progressBarSize = decorator.progressBarSize;
+        this.progressBarThickness = decorator.progressBarThickness;
+        this.progressBarPosition = decorator.progressBarPosition;
+        adaptProgressBar();
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
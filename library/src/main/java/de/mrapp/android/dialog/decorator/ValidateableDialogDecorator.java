@@ -13,21 +13,41 @@
  */
 package de.mrapp.android.dialog.decorator;
 
+import android.content.DialogInterface;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.View;
+import android.view.View.OnAttachStateChangeListener;
 import android.view.Window;
+import android.widget.Button;
+import android.widget.TextView;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
+import de.mrapp.android.dialog.AsyncDialogValidator;
 import de.mrapp.android.dialog.DialogValidator;
 import de.mrapp.android.dialog.model.AnimateableDialog;
+import de.mrapp.android.dialog.model.ButtonBarDialogDecorator;
 import de.mrapp.android.dialog.view.DialogRootView.ViewType;
 
+import static de.mrapp.android.util.Condition.ensureAtLeast;
 import static de.mrapp.android.util.Condition.ensureNotNull;
 
 /**
@@ -40,11 +60,467 @@ import static de.mrapp.android.util.Condition.ensureNotNull;
 public class ValidateableDialogDecorator extends AbstractDialogDecorator<AnimateableDialog>
         implements de.mrapp.android.dialog.model.ValidateableDialogDecorator {
 
+    /**
+     * The name of the extra, which is used to store, whether live validation is enabled, or not,
+     * within a bundle.
+     */
+    private static final String LIVE_VALIDATION_ENABLED_EXTRA =
+            ValidateableDialogDecorator.class.getSimpleName() + "::liveValidationEnabled";
+
+    /**
+     * The name of the extra, which is used to store the delay of live validation within a bundle.
+     */
+    private static final String LIVE_VALIDATION_DELAY_EXTRA =
+            ValidateableDialogDecorator.class.getSimpleName() + "::liveValidationDelay";
+
+    /**
+     * The default delay, which must elapse after the input has been changed, until live validation
+     * is performed, in milliseconds.
+     */
+    private static final long DEFAULT_LIVE_VALIDATION_DELAY = 300;
+
+    /**
+     * The maximum number of results of live validation, which are cached.
+     */
+    private static final int MAX_CACHED_LIVE_VALIDATION_RESULTS = 32;
+
+    /**
+     * The handler, which is used to pass the results of asynchronous validators to the UI thread
+     * and to schedule live validation.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The default executor, which is used to execute asynchronous validators.
+     */
+    private static ExecutorService defaultValidationExecutor;
+
     /**
      * A set, which contains the validators of the dialog.
      */
     private final Set<DialogValidator> validators;
 
+    /**
+     * A set, which contains the asynchronous validators of the dialog.
+     */
+    private final Set<AsyncDialogValidator<?>> asyncValidators;
+
+    /**
+     * A list, which contains the tasks of the asynchronous validators, which are currently
+     * executed.
+     */
+    private final List<FutureTask<?>> validationTasks;
+
+    /**
+     * A set, which contains the input views, which are observed by live validation.
+     */
+    private final Set<TextView> liveValidationViews;
+
+    /**
+     * A map, which contains the cached results of live validation, mapped to the snapshots of the
+     * input, they belong to.
+     */
+    private final Map<List<String>, Boolean> liveValidationResults;
+
+    /**
+     * The watcher, which is registered at the input views, which are observed by live validation.
+     */
+    private final TextWatcher liveValidationWatcher;
+
+    /**
+     * The runnable, which is used to perform live validation after the input has not been changed
+     * for a specific delay.
+     */
+    private final Runnable liveValidationRunnable;
+
+    /**
+     * The executor, which is used to execute asynchronous validators or null, if the default
+     * executor is used.
+     */
+    private Executor validationExecutor;
+
+    /**
+     * The callback, which is notified about the result of the asynchronous validation, which is
+     * currently executed, or null, if no asynchronous validation is executed.
+     */
+    private AsyncDialogValidator.Callback validationCallback;
+
+    /**
+     * The token, which identifies the asynchronous validation, which is currently executed.
+     */
+    private Object validationToken;
+
+    /**
+     * The view, whose attach state is observed in order to cancel the asynchronous validation,
+     * which is currently executed, when the dialog is dismissed.
+     */
+    private View validationView;
+
+    /**
+     * The listener, which is used to cancel the asynchronous validation, which is currently
+     * executed, when the dialog is dismissed.
+     */
+    private OnAttachStateChangeListener validationAttachStateListener;
+
+    /**
+     * The number of asynchronous validators, whose results are still pending.
+     */
+    private int pendingValidations;
+
+    /**
+     * True, if live validation is enabled, false otherwise.
+     */
+    private boolean liveValidationEnabled;
+
+    /**
+     * The callback, which is notified about the result of the asynchronous validation, which has
+     * been started by live validation most recently, or null, if no such validation has been
+     * started.
+     */
+    private AsyncDialogValidator.Callback liveValidationCallback;
+
+    /**
+     * True, if live validation must be performed again, once the asynchronous validation, which
+     * is currently executed, has been finished, false otherwise.
+     */
+    private boolean liveValidationPending;
+
+    /**
+     * The delay, which must elapse after the input has been changed, until live validation is
+     * performed, in milliseconds.
+     */
+    private long liveValidationDelay;
+
+    /**
+     * Returns the default executor, which is used to execute asynchronous validators. If the
+     * executor has not been created yet, it is created.
+     *
+     * @return The default executor, which is used to execute asynchronous validators, as an
+     * instance of the type {@link ExecutorService}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized ExecutorService getDefaultValidationExecutor() {
+        if (defaultValidationExecutor == null) {
+            defaultValidationExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            ValidateableDialogDecorator.class.getSimpleName() + "::validation");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return defaultValidationExecutor;
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to validate a snapshot of the dialog's input by
+     * using a specific asynchronous validator in the background. The result, or the exception,
+     * which has been thrown by the validator, is passed to the UI thread afterwards.
+     *
+     * @param <SnapshotType>
+     *         The type of the snapshot, which should be validated
+     * @param validator
+     *         The validator, which should be executed, as an instance of the type {@link
+     *         AsyncDialogValidator}. The validator may not be null
+     * @param snapshot
+     *         The snapshot, which should be validated, as an instance of the generic type
+     *         SnapshotType or null, if the input is empty
+     * @param token
+     *         The token, which identifies the validation, the validator is part of, as an instance
+     *         of the class {@link Object}. The token may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private <SnapshotType> Runnable createValidationRunnable(
+            @NonNull final AsyncDialogValidator<SnapshotType> validator,
+            @Nullable final SnapshotType snapshot, @NonNull final Object token) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                boolean result;
+                Exception exception = null;
+
+                try {
+                    result = validator.validate(snapshot);
+                } catch (Exception e) {
+                    result = false;
+                    exception = e;
+                }
+
+                final boolean valid = result;
+                final Exception error = exception;
+
+                if (!Thread.currentThread().isInterrupted()) {
+                    HANDLER.post(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            onValidated(token, valid, error);
+                        }
+
+                    });
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Takes a snapshot of the dialog's input by using a specific asynchronous validator on the UI
+     * thread and creates a task, which allows to validate the snapshot in the background.
+     *
+     * @param <SnapshotType>
+     *         The type of the snapshot, which is taken by the validator
+     * @param validator
+     *         The validator, which should be executed, as an instance of the type {@link
+     *         AsyncDialogValidator}. The validator may not be null
+     * @param token
+     *         The token, which identifies the validation, the validator is part of, as an instance
+     *         of the class {@link Object}. The token may not be null
+     * @return The task, which has been created, as an instance of the class {@link FutureTask}.
+     * The task may not be null
+     */
+    @NonNull
+    private <SnapshotType> FutureTask<?> createValidationTask(
+            @NonNull final AsyncDialogValidator<SnapshotType> validator,
+            @NonNull final Object token) {
+        SnapshotType snapshot = validator.takeSnapshot(getDialog());
+        return new FutureTask<>(createValidationRunnable(validator, snapshot, token), null);
+    }
+
+    /**
+     * Creates and returns a listener, which allows to cancel the asynchronous validation, which is
+     * currently executed, when the dialog is dismissed.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * OnAttachStateChangeListener}. The listener may not be null
+     */
+    @NonNull
+    private OnAttachStateChangeListener createValidationAttachStateListener() {
+        return new OnAttachStateChangeListener() {
+
+            @Override
+            public void onViewAttachedToWindow(final View v) {
+
+            }
+
+            @Override
+            public void onViewDetachedFromWindow(final View v) {
+                cancelAsyncValidation();
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a watcher, which allows to schedule live validation, when the text of an
+     * input view has been changed.
+     *
+     * @return The watcher, which has been created, as an instance of the type {@link TextWatcher}.
+     * The watcher may not be null
+     */
+    @NonNull
+    private TextWatcher createLiveValidationWatcher() {
+        return new TextWatcher() {
+
+            @Override
+            public void beforeTextChanged(final CharSequence s, final int start, final int count,
+                                          final int after) {
+
+            }
+
+            @Override
+            public void onTextChanged(final CharSequence s, final int start, final int before,
+                                      final int count) {
+
+            }
+
+            @Override
+            public void afterTextChanged(final Editable s) {
+                scheduleLiveValidation(liveValidationDelay);
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to perform live validation.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createLiveValidationRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                performLiveValidation();
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a callback, which allows to cache the result of asynchronous validators,
+     * which have been executed by live validation.
+     *
+     * @param snapshot
+     *         The snapshot of the input, which has been validated, as an instance of the type
+     *         {@link List}. The snapshot may not be null
+     * @return The callback, which has been created, as an instance of the type {@link
+     * AsyncDialogValidator.Callback}. The callback may not be null
+     */
+    @NonNull
+    private AsyncDialogValidator.Callback createLiveValidationCallback(
+            @NonNull final List<String> snapshot) {
+        return new AsyncDialogValidator.Callback() {
+
+            @Override
+            public void onValidated(final boolean valid) {
+                liveValidationResults.put(snapshot, valid);
+
+                if (liveValidationEnabled && snapshot.equals(takeInputSnapshot())) {
+                    adaptPositiveButton(valid);
+                }
+            }
+
+            @Override
+            public void onValidationFailed(@NonNull final Exception exception) {
+                if (liveValidationEnabled && snapshot.equals(takeInputSnapshot())) {
+                    adaptPositiveButton(false);
+                }
+            }
+
+            @Override
+            public void onValidationCanceled() {
+
+            }
+
+        };
+    }
+
+    /**
+     * Schedules live validation, if it is enabled. Live validation, which has previously been
+     * scheduled, is postponed.
+     *
+     * @param delay
+     *         The delay, after which live validation should be performed, in milliseconds as a
+     *         {@link Long} value
+     */
+    private void scheduleLiveValidation(final long delay) {
+        HANDLER.removeCallbacks(liveValidationRunnable);
+
+        if (liveValidationEnabled) {
+            HANDLER.postDelayed(liveValidationRunnable, delay);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current text of the input views, which are observed by live
+     * validation.
+     *
+     * @return A list, which contains the current text of the input views, as an instance of the
+     * type {@link List}. The list may not be null
+     */
+    @NonNull
+    private List<String> takeInputSnapshot() {
+        List<String> snapshot = new ArrayList<>(liveValidationViews.size());
+
+        for (TextView view : liveValidationViews) {
+            snapshot.add(view.getText().toString());
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Adapts the enabled state of the dialog's positive button, if the dialog contains a button
+     * bar.
+     *
+     * @param enabled
+     *         True, if the positive button should be enabled, false otherwise
+     */
+    private void adaptPositiveButton(final boolean enabled) {
+        if (getDialog() instanceof ButtonBarDialogDecorator) {
+            Button button = ((ButtonBarDialogDecorator) getDialog())
+                    .getButton(DialogInterface.BUTTON_POSITIVE);
+
+            if (button != null) {
+                button.setEnabled(enabled);
+            }
+        }
+    }
+
+    /**
+     * The method, which is invoked on the UI thread, when an asynchronous validator has been
+     * executed. If the validator failed, the remaining validators are canceled.
+     *
+     * @param token
+     *         The token, which identifies the validation, the validator is part of, as an instance
+     *         of the class {@link Object}. The token may not be null
+     * @param valid
+     *         True, if the validator succeeded, false otherwise
+     * @param exception
+     *         The exception, which has been thrown by the validator, as an instance of the class
+     *         {@link Exception} or null, if no exception has been thrown
+     */
+    private void onValidated(@NonNull final Object token, final boolean valid,
+                             @Nullable final Exception exception) {
+        if (validationToken == token) {
+            AsyncDialogValidator.Callback callback = validationCallback;
+            pendingValidations--;
+
+            if (exception != null) {
+                finishAsyncValidation();
+                callback.onValidationFailed(exception);
+                performPendingLiveValidation();
+            } else if (!valid || pendingValidations <= 0) {
+                finishAsyncValidation();
+                callback.onValidated(valid);
+                performPendingLiveValidation();
+            }
+        }
+    }
+
+    /**
+     * Performs live validation, if it has been requested while an asynchronous validation, which
+     * has not been started by live validation, was executed.
+     */
+    private void performPendingLiveValidation() {
+        if (liveValidationPending) {
+            liveValidationPending = false;
+            scheduleLiveValidation(0);
+        }
+    }
+
+    /**
+     * Finishes the asynchronous validation, which is currently executed, by canceling the tasks of
+     * all remaining validators.
+     */
+    private void finishAsyncValidation() {
+        for (FutureTask<?> task : validationTasks) {
+            task.cancel(true);
+        }
+
+        validationTasks.clear();
+        validationCallback = null;
+        validationToken = null;
+        pendingValidations = 0;
+
+        if (validationView != null) {
+            validationView.removeOnAttachStateChangeListener(validationAttachStateListener);
+            validationView = null;
+        }
+    }
+
     /**
      * Creates  a new decorator, which allows to modify the view hierarchy of a dialog, which is
      * designed according to Android 5's Material design guidelines even on pre-Lollipop devices and
@@ -57,6 +533,29 @@ public class ValidateableDialogDecorator extends AbstractDialogDecorator<Animate
     public ValidateableDialogDecorator(@NonNull final AnimateableDialog dialog) {
         super(dialog);
         this.validators = new LinkedHashSet<>();
+        this.asyncValidators = new LinkedHashSet<>();
+        this.validationTasks = new ArrayList<>();
+        this.validationExecutor = null;
+        this.validationCallback = null;
+        this.validationToken = null;
+        this.pendingValidations = 0;
+        this.liveValidationViews = new LinkedHashSet<>();
+        this.liveValidationResults =
+                new LinkedHashMap<List<String>, Boolean>(16, 0.75f, true) {
+
+                    @Override
+                    protected boolean removeEldestEntry(
+                            final Map.Entry<List<String>, Boolean> eldest) {
+                        return size() > MAX_CACHED_LIVE_VALIDATION_RESULTS;
+                    }
+
+                };
+        this.liveValidationWatcher = createLiveValidationWatcher();
+        this.liveValidationRunnable = createLiveValidationRunnable();
+        this.liveValidationEnabled = false;
+        this.liveValidationCallback = null;
+        this.liveValidationPending = false;
+        this.liveValidationDelay = DEFAULT_LIVE_VALIDATION_DELAY;
     }
 
     @Override
@@ -68,34 +567,214 @@ public class ValidateableDialogDecorator extends AbstractDialogDecorator<Animate
     public final void addValidator(@NonNull final DialogValidator validator) {
         ensureNotNull(validator, "The validator may not be null");
         validators.add(validator);
+        liveValidationResults.clear();
     }
 
     @Override
     public final void addAllValidators(@NonNull final Collection<DialogValidator> validators) {
         ensureNotNull(validators, "The collection may not be null");
         this.validators.addAll(validators);
+        liveValidationResults.clear();
     }
 
     @Override
     public final void removeValidator(@NonNull final DialogValidator validator) {
         ensureNotNull(validator, "The validator may not be null");
         validators.remove(validator);
+        liveValidationResults.clear();
     }
 
     @Override
     public final void removeAllValidators(@NonNull final Collection<DialogValidator> validators) {
         ensureNotNull(validators, "The collection may not be null");
         this.validators.removeAll(validators);
+        liveValidationResults.clear();
     }
 
     @Override
-    public final void onSaveInstanceState(@NonNull final Bundle outState) {
+    public final Set<AsyncDialogValidator<?>> getAsyncValidators() {
+        return asyncValidators;
+    }
+
+    @Override
+    public final void addAsyncValidator(@NonNull final AsyncDialogValidator<?> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        asyncValidators.add(validator);
+        liveValidationResults.clear();
+    }
+
+    @Override
+    public final void removeAsyncValidator(@NonNull final AsyncDialogValidator<?> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        asyncValidators.remove(validator);
+        liveValidationResults.clear();
+    }
+
+    @Override
+    public final Executor getValidationExecutor() {
+        return validationExecutor;
+    }
+
+    @Override
+    public final void setValidationExecutor(@Nullable final Executor executor) {
+        this.validationExecutor = executor;
+    }
+
+    @Override
+    public final void validateAsync(@NonNull final AsyncDialogValidator.Callback callback) {
+        ensureNotNull(callback, "The callback may not be null");
+        cancelAsyncValidation();
+
+        if (asyncValidators.isEmpty()) {
+            callback.onValidated(true);
+        } else {
+            Object token = new Object();
+            List<FutureTask<?>> tasks = new ArrayList<>(asyncValidators.size());
+
+            for (AsyncDialogValidator<?> validator : asyncValidators) {
+                tasks.add(createValidationTask(validator, token));
+            }
+
+            validationCallback = callback;
+            validationToken = token;
+            pendingValidations = asyncValidators.size();
+            validationView = getView();
+
+            if (validationView != null) {
+                if (validationAttachStateListener == null) {
+                    validationAttachStateListener = createValidationAttachStateListener();
+                }
+
+                validationView.addOnAttachStateChangeListener(validationAttachStateListener);
+            }
+
+            Executor executor = validationExecutor != null ? validationExecutor :
+                    getDefaultValidationExecutor();
+
+            validationTasks.addAll(tasks);
+
+            for (FutureTask<?> task : tasks) {
+                executor.execute(task);
+            }
+        }
+    }
+
+    @Override
+    public final boolean isValidatingAsync() {
+        return validationCallback != null;
+    }
+
+    @Override
+    public final void cancelAsyncValidation() {
+        AsyncDialogValidator.Callback callback = validationCallback;
+
+        if (callback != null) {
+            finishAsyncValidation();
+            callback.onValidationCanceled();
+        }
+    }
+
+    @Override
+    public final boolean isLiveValidationEnabled() {
+        return liveValidationEnabled;
+    }
 
+    @Override
+    public final void setLiveValidationEnabled(final boolean enabled) {
+        this.liveValidationEnabled = enabled;
+
+        if (enabled) {
+            scheduleLiveValidation(0);
+        } else {
+            HANDLER.removeCallbacks(liveValidationRunnable);
+            adaptPositiveButton(true);
+        }
+    }
+
+    @Override
+    public final void performLiveValidation() {
+        if (!liveValidationEnabled) {
+            return;
+        }
+
+        List<String> snapshot = takeInputSnapshot();
+        Boolean cachedResult = liveValidationResults.get(snapshot);
+
+        if (cachedResult != null) {
+            adaptPositiveButton(cachedResult);
+            return;
+        }
+
+        for (DialogValidator validator : validators) {
+            if (!validator.validate(getDialog())) {
+                liveValidationResults.put(snapshot, false);
+                adaptPositiveButton(false);
+                return;
+            }
+        }
+
+        if (asyncValidators.isEmpty()) {
+            liveValidationResults.put(snapshot, true);
+            adaptPositiveButton(true);
+        } else if (!isValidatingAsync() || validationCallback == liveValidationCallback) {
+            liveValidationCallback = createLiveValidationCallback(snapshot);
+            validateAsync(liveValidationCallback);
+        } else {
+            liveValidationPending = true;
+        }
+    }
+
+    @Override
+    public final long getLiveValidationDelay() {
+        return liveValidationDelay;
+    }
+
+    @Override
+    public final void setLiveValidationDelay(final long delay) {
+        ensureAtLeast(delay, 0, "The delay must be at least 0");
+        this.liveValidationDelay = delay;
+    }
+
+    @Override
+    public final void addLiveValidationView(@NonNull final TextView view) {
+        ensureNotNull(view, "The view may not be null");
+
+        if (liveValidationViews.add(view)) {
+            view.addTextChangedListener(liveValidationWatcher);
+            liveValidationResults.clear();
+            scheduleLiveValidation(0);
+        }
+    }
+
+    @Override
+    public final void removeLiveValidationView(@NonNull final TextView view) {
+        ensureNotNull(view, "The view may not be null");
+
+        if (liveValidationViews.remove(view)) {
+            view.removeTextChangedListener(liveValidationWatcher);
+            liveValidationResults.clear();
+            scheduleLiveValidation(0);
+        }
+    }
+
+    @Override
+    public final void onSaveInstanceState(@NonNull final Bundle outState) {
+        outState.putBoolean(LIVE_VALIDATION_ENABLED_EXTRA, isLiveValidationEnabled());
+        outState.putLong(LIVE_VALIDATION_DELAY_EXTRA, getLiveValidationDelay());
     }
 
     @Override
     public final void onRestoreInstanceState(@NonNull final Bundle savedInstanceState) {
+        setLiveValidationDelay(savedInstanceState
+                .getLong(LIVE_VALIDATION_DELAY_EXTRA, DEFAULT_LIVE_VALIDATION_DELAY));
+        setLiveValidationEnabled(savedInstanceState.getBoolean(LIVE_VALIDATION_ENABLED_EXTRA));
+    }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        ValidateableDialogDecorator decorator = (ValidateableDialogDecorator) source;
+        this.liveValidationDelay = decorator.liveValidationDelay;
+        this.liveValidationEnabled = decorator.liveValidationEnabled;
     }
 
     @NonNull
@@ -104,12 +783,14 @@ public class ValidateableDialogDecorator extends AbstractDialogDecorator<Animate
                                                  @NonNull final View view,
                                                  @NonNull final Map<ViewType, View> areas,
                                                  final Void param) {
+        scheduleLiveValidation(0);
         return Collections.emptyMap();
     }
 
     @Override
     protected final void onDetach() {
-
+        HANDLER.removeCallbacks(liveValidationRunnable);
+        cancelAsyncValidation();
     }
 
 }
\ No newline at end of file
@@ -1131,6 +1131,33 @@ public class WizardDialogDecorator extends AbstractDialogFragmentDecorator<Wizar
         }
     }
 
+    @Override
+    protected final void onCopyProperties(@NonNull final AbstractDecorator<?, ?> source) {
+        WizardDialogDecorator decorator = (WizardDialogDecorator) source;
+        this.tabPosition = decorator.tabPosition;
+        this.tabLayoutEnabled = decorator.tabLayoutEnabled;
+        this.tabLayoutShown = decorator.tabLayoutShown;
+        this.tabIndicatorHeight = decorator.tabIndicatorHeight;
+        this.tabIndicatorColor = decorator.tabIndicatorColor;
+        this.tabTextColor = decorator.tabTextColor;
+        this.tabSelectedTextColor = decorator.tabSelectedTextColor;
+        this.swipeEnabled = decorator.swipeEnabled;
+        this.buttonBarShown = decorator.buttonBarShown;
+        this.buttonTextColor = decorator.buttonTextColor;
+        this.showButtonBarDivider = decorator.showButtonBarDivider;
+        this.buttonBarDividerColor = decorator.buttonBarDividerColor;
+        this.buttonBarDividerMargin = decorator.buttonBarDividerMargin;
+        this.backButtonText = copyText(decorator.backButtonText);
+        this.nextButtonText = copyText(decorator.nextButtonText);
+        this.finishButtonText = copyText(decorator.finishButtonText);
+
+        for (ViewPagerItem item : decorator.viewPagerItems) {
+            Bundle arguments = item.getArguments();
+            addFragment(copyText(item.getTitle()), item.getFragmentClass(),
+                    arguments != null ? new Bundle(arguments) : null);
+        }
+    }
+
     @NonNull
     @Override
     protected final Map<ViewType, View> onAttach(@NonNull final Window window,
@@ -16,16 +16,30 @@ package de.mrapp.android.dialog.drawable;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.LayerDrawable;
-import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+import android.widget.ImageView;
 
 import de.mrapp.android.dialog.animation.DrawableAnimation.AnimationListener;
+import de.mrapp.android.dialog.animation.TransitionClock;
+import de.mrapp.android.util.ViewUtil;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
 
 /**
  * An abstract base class for all layer drawables, which allow to translate between the first and
  * second layer in an animated manner.
  *
+ * A drawable passes through the states "none", "starting", "running" (or "paused") and
+ * "settled". The progress of a transition is driven by the shared {@link TransitionClock}, which
+ * respects the system's animator duration scale. While the view, which hosts the drawable, is not
+ * visible, frames are skipped without redrawing the drawable. Once a transition has finished, the drawable is settled, notifies its listener exactly once and only
+ * draws its second layer afterwards. If it is used as the drawable of an {@link ImageView}, or as
+ * the background of a view, it is replaced by its second layer in addition.
+ *
  * @author Michael Rapp
  * @since 4.0.0
  */
@@ -42,22 +56,54 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
     private static final int TRANSITION_RUNNING = 1;
 
     /**
-     * The state when no transition is running.
+     * The state when no transition has been started yet.
      */
     private static final int TRANSITION_NONE = 2;
 
+    /**
+     * The state when a transition has finished.
+     */
+    private static final int TRANSITION_SETTLED = 3;
+
+    /**
+     * The state when a transition has been paused.
+     */
+    private static final int TRANSITION_PAUSED = 4;
+
+    /**
+     * The callback, which is notified about the frames of the clock, which drives the transition.
+     */
+    private final TransitionClock.FrameCallback frameCallback;
+
+    /**
+     * The clock, which drives the current transition.
+     */
+    private TransitionClock clock;
+
+    /**
+     * The interpolator, which is used by the transition.
+     */
+    private Interpolator interpolator;
+
+    /**
+     * The interpolated progress of the current transition.
+     */
+    private float progress;
+
     /**
      * The listener, which is notified about the transition's progress.
      */
     private AnimationListener listener;
 
     /**
-     * The duration, which has been used by the last transition.
+     * The duration, which has been used by the last transition, in milliseconds after the
+     * animator duration scale has been applied.
      */
-    private int duration;
+    private long duration;
 
     /**
-     * The time, the last transition has been started.
+     * The time, the last transition has been started, or the time, which has elapsed since the
+     * start of the transition, if the transition is paused.
      */
     private long startTime;
 
@@ -86,6 +132,96 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
         }
     }
 
+    /**
+     * Creates and returns a callback, which allows to advance the transition, whenever a new frame
+     * is rendered.
+     *
+     * @return The callback, which has been created, as an instance of the type {@link
+     * TransitionClock.FrameCallback}. The callback may not be null
+     */
+    @NonNull
+    private TransitionClock.FrameCallback createFrameCallback() {
+        return new TransitionClock.FrameCallback() {
+
+            @Override
+            public void onFrame(final long frameTime) {
+                advance(frameTime);
+            }
+
+        };
+    }
+
+    /**
+     * Advances the current transition to a specific point in time.
+     *
+     * @param frameTime
+     *         The time of the current frame in milliseconds as a {@link Long} value
+     */
+    private void advance(final long frameTime) {
+        if (state == TRANSITION_STARTING) {
+            startTime = frameTime;
+            state = TRANSITION_RUNNING;
+        } else if (state == TRANSITION_RUNNING) {
+            float fraction = (float) (frameTime - startTime) / duration;
+
+            if (fraction >= 1f) {
+                settle();
+            } else {
+                progress = interpolator.getInterpolation(Math.max(0f, fraction));
+            }
+        }
+
+        if (isVisible() && getCallback() != null) {
+            invalidateSelf();
+        }
+    }
+
+    /**
+     * Finishes the current transition. The subclass and the listener are notified and the drawable
+     * is replaced by its second layer, if possible.
+     */
+    private void settle() {
+        state = TRANSITION_SETTLED;
+        progress = 1f;
+
+        if (clock != null) {
+            clock.removeFrameCallback(frameCallback);
+            clock = null;
+        }
+
+        onEndTransition();
+        notifyOnAnimationEnd();
+        replaceWithSecondLayer();
+    }
+
+    /**
+     * Replaces the drawable by its second layer, if it is used as the drawable of an {@link
+     * ImageView} or as the background of a view. As the drawable must not be replaced while it is
+     * being drawn, the replacement is posted to the view's message queue.
+     */
+    private void replaceWithSecondLayer() {
+        Callback callback = getCallback();
+
+        if (callback instanceof View) {
+            final View view = (View) callback;
+            view.post(new Runnable() {
+
+                @Override
+                public void run() {
+                    Drawable secondLayer = getDrawable(1);
+
+                    if (view instanceof ImageView &&
+                            ((ImageView) view).getDrawable() == AbstractTransitionDrawable.this) {
+                        ((ImageView) view).setImageDrawable(secondLayer);
+                    } else if (view.getBackground() == AbstractTransitionDrawable.this) {
+                        ViewUtil.setBackground(view, secondLayer);
+                    }
+                }
+
+            });
+        }
+    }
+
     /**
      * The method, which is invoked on subclasses when the transition is about to start.
      */
@@ -96,7 +232,8 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
      * is in progress.
      *
      * @param interpolatedTime
-     *         The interpolated time as a {@link Float} value. This is a value between 0.0 and 1.0
+     *         The interpolated time as a {@link Float} value. This is usually a value between 0.0
+     *         and 1.0, but may exceed this range, depending on the interpolator
      * @param canvas
      *         The canvas, which should be used for drawing, as an instance of the class {@link
      *         Canvas}. The canvas may not be null
@@ -117,10 +254,37 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
      */
     public AbstractTransitionDrawable(@NonNull final Drawable[] layers) {
         super(layers);
+        this.frameCallback = createFrameCallback();
+        this.clock = null;
+        this.interpolator = new LinearInterpolator();
+        this.progress = 0;
         this.listener = null;
         this.state = TRANSITION_NONE;
     }
 
+    /**
+     * Returns the interpolator, which is used by the transition.
+     *
+     * @return The interpolator, which is used by the transition, as an instance of the type {@link
+     * Interpolator}. The interpolator may not be null
+     */
+    @NonNull
+    public final Interpolator getInterpolator() {
+        return interpolator;
+    }
+
+    /**
+     * Sets the interpolator, which should be used by the transition.
+     *
+     * @param interpolator
+     *         The interpolator, which should be set, as an instance of the type {@link
+     *         Interpolator}. The interpolator may not be null
+     */
+    public final void setInterpolator(@NonNull final Interpolator interpolator) {
+        ensureNotNull(interpolator, "The interpolator may not be null");
+        this.interpolator = interpolator;
+    }
+
     /**
      * Returns the listener, which is notified about the transition's progress.
      *
@@ -143,6 +307,43 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
         this.listener = listener;
     }
 
+    /**
+     * Returns, whether a transition is currently running, or not.
+     *
+     * @return True, if a transition is currently running, false otherwise
+     */
+    public final boolean isRunning() {
+        return state == TRANSITION_STARTING || state == TRANSITION_RUNNING;
+    }
+
+    /**
+     * Returns, whether the transition is currently paused, or not.
+     *
+     * @return True, if the transition is currently paused, false otherwise
+     */
+    public final boolean isPaused() {
+        return state == TRANSITION_PAUSED;
+    }
+
+    /**
+     * Returns the interpolated progress of the current transition.
+     *
+     * @return The interpolated progress of the current transition as a {@link Float} value
+     */
+    public final float getProgress() {
+        return progress;
+    }
+
+    /**
+     * Returns, whether the transition has finished, or not. A settled drawable only draws its
+     * second layer.
+     *
+     * @return True, if the transition has finished, false otherwise
+     */
+    public final boolean isSettled() {
+        return state == TRANSITION_SETTLED;
+    }
+
     /**
      * Starts the transition, which shows the second layer in front of the first layer.
      *
@@ -150,47 +351,58 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
      *         The duration of the transition in milliseconds as an {@link Integer} value
      */
     public final void startTransition(final int duration) {
-        this.duration = duration;
+        if (clock != null) {
+            clock.removeFrameCallback(frameCallback);
+        }
+
+        this.clock = TransitionClock.getInstance();
+        this.duration = Math.round(duration * clock.getDurationScale());
+        this.progress = interpolator.getInterpolation(0f);
         this.state = TRANSITION_STARTING;
         onStartTransition();
         notifyOnAnimationStart();
+
+        if (this.duration <= 0) {
+            settle();
+        } else {
+            clock.addFrameCallback(frameCallback);
+        }
+
         invalidateSelf();
     }
 
-    @Override
-    public final void draw(final Canvas canvas) {
-        boolean done = true;
-        float interpolatedTime = 0;
+    /**
+     * Pauses the current transition. If no transition is running, this method has no effect.
+     */
+    public final void pauseTransition() {
+        if (state == TRANSITION_RUNNING) {
+            startTime = clock.getFrameTime() - startTime;
+            state = TRANSITION_PAUSED;
+            clock.removeFrameCallback(frameCallback);
+        }
+    }
 
-        if (state == TRANSITION_STARTING) {
-            startTime = SystemClock.uptimeMillis();
-            done = false;
+    /**
+     * Resumes the current transition, if it has been paused before. Otherwise, this method has no
+     * effect.
+     */
+    public final void resumeTransition() {
+        if (state == TRANSITION_PAUSED) {
+            startTime = clock.getFrameTime() - startTime;
             state = TRANSITION_RUNNING;
-        } else if (state == TRANSITION_RUNNING) {
-            if (startTime >= 0) {
-                interpolatedTime = (float) (SystemClock.uptimeMillis() - startTime) / duration;
-                done = interpolatedTime >= 1f;
-                interpolatedTime = Math.min(interpolatedTime, 1f);
-            }
+            clock.addFrameCallback(frameCallback);
         }
+    }
 
-        if (done) {
-            onEndTransition();
-            Drawable first = getDrawable(0);
-            Drawable second = getDrawable(1);
-
-            if (state != TRANSITION_NONE) {
-                second.draw(canvas);
-            } else {
-                first.draw(canvas);
-            }
-
-            notifyOnAnimationEnd();
-            return;
+    @Override
+    public final void draw(final Canvas canvas) {
+        if (state == TRANSITION_NONE) {
+            getDrawable(0).draw(canvas);
+        } else if (state == TRANSITION_SETTLED) {
+            getDrawable(1).draw(canvas);
+        } else {
+            onDraw(progress, canvas);
         }
-
-        onDraw(interpolatedTime, canvas);
-        invalidateSelf();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.drawable;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.os.Build;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.content.ContextCompat;
+import android.util.LruCache;
+import android.util.TypedValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A decoder, which allows to decode images from resources or URIs at the size, they are actually
+ * shown at, rather than at their full resolution. Images are sampled down by using {@link
+ * BitmapFactory.Options#inSampleSize} and decoded results are kept in a memory-bounded LRU cache,
+ * which is keyed by the source, the target size and the bitmap configuration.
+ *
+ * Decoded bitmaps are not reused as {@link BitmapFactory.Options#inBitmap}, because bitmaps, which
+ * are returned by the cache, may be shown by several dialogs at the same time.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class BitmapDecoder {
+
+    /**
+     * Defines the interface of a source, images can be decoded from.
+     */
+    private interface Source {
+
+        /**
+         * Decodes the image.
+         *
+         * @param options
+         *         The options, which should be used for decoding, as an instance of the class
+         *         {@link BitmapFactory.Options}. The options may not be null
+         * @return The decoded bitmap as an instance of the class {@link Bitmap} or null, if only
+         * the bounds have been decoded or if the image could not be decoded
+         * @throws IOException
+         *         The exception, which is thrown, if the image could not be read
+         */
+        @Nullable
+        Bitmap decode(@NonNull BitmapFactory.Options options) throws IOException;
+
+    }
+
+    /**
+     * The maximum number of bytes, which may be occupied by the cached bitmaps.
+     */
+    private static final int MAX_CACHE_SIZE =
+            (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 16);
+
+    /**
+     * The cache, which contains the decoded bitmaps.
+     */
+    private static final LruCache<String, Bitmap> CACHE =
+            new LruCache<String, Bitmap>(MAX_CACHE_SIZE) {
+
+                @Override
+                protected int sizeOf(final String key, final Bitmap value) {
+                    return getByteCount(value);
+                }
+
+            };
+
+    /**
+     * Creates a new decoder. This constructor is private, because the class only provides static
+     * methods.
+     */
+    private BitmapDecoder() {
+
+    }
+
+    /**
+     * Returns the number of bytes, which are occupied by a specific bitmap.
+     *
+     * @param bitmap
+     *         The bitmap as an instance of the class {@link Bitmap}. The bitmap may not be null
+     * @return The number of bytes, which are occupied by the given bitmap, as an {@link Integer}
+     * value
+     */
+    private static int getByteCount(@NonNull final Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            return bitmap.getAllocationByteCount();
+        }
+
+        return bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    /**
+     * Calculates the largest power of two, an image can be sampled down by, while still being at
+     * least as large as a specific target size in both dimensions.
+     *
+     * @param width
+     *         The width of the image in pixels as an {@link Integer} value
+     * @param height
+     *         The height of the image in pixels as an {@link Integer} value
+     * @param targetWidth
+     *         The target width in pixels as an {@link Integer} value
+     * @param targetHeight
+     *         The target height in pixels as an {@link Integer} value
+     * @return The sample size as an {@link Integer} value
+     */
+    private static int calculateSampleSize(final int width, final int height,
+                                           final int targetWidth, final int targetHeight) {
+        int sampleSize = 1;
+
+        while (width / (sampleSize * 2) >= targetWidth &&
+                height / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+
+        return sampleSize;
+    }
+
+    /**
+     * Decodes an image from a specific source at a specific target size.
+     *
+     * @param key
+     *         The key, which identifies the decoded image within the cache, as a {@link String}.
+     *         The key may not be null
+     * @param source
+     *         The source, the image should be decoded from, as an instance of the type {@link
+     *         Source}. The source may not be null
+     * @param targetWidth
+     *         The target width in pixels as an {@link Integer} value
+     * @param targetHeight
+     *         The target height in pixels as an {@link Integer} value
+     * @param config
+     *         The bitmap configuration, which should be used, as a value of the enum {@link
+     *         Bitmap.Config}. The configuration may not be null
+     * @return The decoded bitmap as an instance of the class {@link Bitmap} or null, if the image
+     * could not be decoded
+     * @throws IOException
+     *         The exception, which is thrown, if the image could not be read
+     */
+    @Nullable
+    private static Bitmap decode(@NonNull final String key, @NonNull final Source source,
+                                 final int targetWidth, final int targetHeight,
+                                 @NonNull final Bitmap.Config config) throws IOException {
+        Bitmap bitmap = CACHE.get(key);
+
+        if (bitmap == null) {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            source.decode(options);
+
+            if (options.outWidth <= 0 || options.outHeight <= 0) {
+                return null;
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inScaled = false;
+            options.inPreferredConfig = config;
+            options.inSampleSize = calculateSampleSize(options.outWidth, options.outHeight,
+                    targetWidth, targetHeight);
+            bitmap = source.decode(options);
+
+            if (bitmap != null) {
+                CACHE.put(key, bitmap);
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Decodes a bitmap from a specific resource. The bitmap is sampled down, as long as it is at
+     * least as large as the given target size.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param resourceId
+     *         The resource id of the image, which should be decoded, as an {@link Integer} value.
+     *         The resource id must correspond to a valid drawable resource
+     * @param targetWidth
+     *         The width, the image is shown at, in pixels as an {@link Integer} value. The width
+     *         must be at least 1
+     * @param targetHeight
+     *         The height, the image is shown at, in pixels as an {@link Integer} value. The height
+     *         must be at least 1
+     * @param config
+     *         The bitmap configuration, which should be used, as a value of the enum {@link
+     *         Bitmap.Config}. The configuration may not be null
+     * @return The decoded bitmap as an instance of the class {@link Bitmap} or null, if the
+     * resource is not a bitmap, e.g. because it is a XML or nine-patch drawable
+     */
+    @Nullable
+    public static Bitmap decodeResource(@NonNull final Context context,
+                                        @DrawableRes final int resourceId, final int targetWidth,
+                                        final int targetHeight,
+                                        @NonNull final Bitmap.Config config) {
+        ensureNotNull(context, "The context may not be null");
+        ensureAtLeast(targetWidth, 1, "The target width must be at least 1");
+        ensureAtLeast(targetHeight, 1, "The target height must be at least 1");
+        ensureNotNull(config, "The config may not be null");
+        final Resources resources = context.getResources();
+        TypedValue value = new TypedValue();
+        resources.getValue(resourceId, value, true);
+        String file = value.string != null ? value.string.toString() : null;
+
+        if (file == null || file.endsWith(".xml") || file.endsWith(".9.png")) {
+            return null;
+        }
+
+        String key = "res:" + resourceId + ":" + resources.getConfiguration().hashCode() + ":" +
+                targetWidth + "x" + targetHeight + ":" + config.name();
+
+        try {
+            return decode(key, new Source() {
+
+                @Override
+                public Bitmap decode(@NonNull final BitmapFactory.Options options) {
+                    return BitmapFactory.decodeResource(resources, resourceId, options);
+                }
+
+            }, targetWidth, targetHeight, config);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes a bitmap from a specific URI. The bitmap is sampled down, as long as it is at least
+     * as large as the given target size.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param uri
+     *         The URI of the image, which should be decoded, as an instance of the class {@link
+     *         Uri}. The URI may not be null
+     * @param targetWidth
+     *         The width, the image is shown at, in pixels as an {@link Integer} value. The width
+     *         must be at least 1
+     * @param targetHeight
+     *         The height, the image is shown at, in pixels as an {@link Integer} value. The height
+     *         must be at least 1
+     * @param config
+     *         The bitmap configuration, which should be used, as a value of the enum {@link
+     *         Bitmap.Config}. The configuration may not be null
+     * @return The decoded bitmap as an instance of the class {@link Bitmap} or null, if the URI
+     * does not refer to an image
+     * @throws IOException
+     *         The exception, which is thrown, if the URI could not be read
+     */
+    @Nullable
+    public static Bitmap decodeUri(@NonNull final Context context, @NonNull final Uri uri,
+                                   final int targetWidth, final int targetHeight,
+                                   @NonNull final Bitmap.Config config) throws IOException {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(uri, "The URI may not be null");
+        ensureAtLeast(targetWidth, 1, "The target width must be at least 1");
+        ensureAtLeast(targetHeight, 1, "The target height must be at least 1");
+        ensureNotNull(config, "The config may not be null");
+        final Context applicationContext = context.getApplicationContext();
+        String key = "uri:" + uri + ":" + targetWidth + "x" + targetHeight + ":" + config.name();
+        return decode(key, new Source() {
+
+            @Override
+            public Bitmap decode(@NonNull final BitmapFactory.Options options)
+                    throws IOException {
+                InputStream inputStream =
+                        applicationContext.getContentResolver().openInputStream(uri);
+
+                if (inputStream == null) {
+                    throw new IOException("Failed to open URI " + uri);
+                }
+
+                try {
+                    return BitmapFactory.decodeStream(inputStream, null, options);
+                } finally {
+                    inputStream.close();
+                }
+            }
+
+        }, targetWidth, targetHeight, config);
+    }
+
+    /**
+     * Returns a drawable, which corresponds to a specific resource. If the resource is a bitmap,
+     * it is decoded at the given target size. Otherwise, the drawable is loaded as usual.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param resourceId
+     *         The resource id of the drawable, which should be returned, as an {@link Integer}
+     *         value. The resource id must correspond to a valid drawable resource
+     * @param targetWidth
+     *         The width, the drawable is shown at, in pixels as an {@link Integer} value. The width
+     *         must be at least 1
+     * @param targetHeight
+     *         The height, the drawable is shown at, in pixels as an {@link Integer} value. The
+     *         height must be at least 1
+     * @return The drawable, which corresponds to the given resource, as an instance of the class
+     * {@link Drawable} or null, if the drawable could not be loaded
+     */
+    @Nullable
+    public static Drawable getDrawable(@NonNull final Context context,
+                                       @DrawableRes final int resourceId, final int targetWidth,
+                                       final int targetHeight) {
+        Bitmap bitmap = decodeResource(context, resourceId, targetWidth, targetHeight,
+                Bitmap.Config.ARGB_8888);
+
+        if (bitmap != null) {
+            return new BitmapDrawable(context.getResources(), bitmap);
+        }
+
+        return ContextCompat.getDrawable(context, resourceId);
+    }
+
+    /**
+     * Scales a specific bitmap down, if it is larger than necessary in order to cover a specific
+     * target size. The aspect ratio of the bitmap is retained.
+     *
+     * @param bitmap
+     *         The bitmap, which should be scaled, as an instance of the class {@link Bitmap}. The
+     *         bitmap may not be null
+     * @param targetWidth
+     *         The width, the bitmap is shown at, in pixels as an {@link Integer} value. The width
+     *         must be at least 1
+     * @param targetHeight
+     *         The height, the bitmap is shown at, in pixels as an {@link Integer} value. The height
+     *         must be at least 1
+     * @return The scaled bitmap or the given bitmap, if it does not need to be scaled, as an
+     * instance of the class {@link Bitmap}. The bitmap may not be null
+     */
+    @NonNull
+    public static Bitmap downsample(@NonNull final Bitmap bitmap, final int targetWidth,
+                                    final int targetHeight) {
+        ensureNotNull(bitmap, "The bitmap may not be null");
+        ensureAtLeast(targetWidth, 1, "The target width must be at least 1");
+        ensureAtLeast(targetHeight, 1, "The target height must be at least 1");
+        float scale = Math.max((float) targetWidth / bitmap.getWidth(),
+                (float) targetHeight / bitmap.getHeight());
+
+        if (scale < 1f) {
+            int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+            int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+            return Bitmap.createScaledBitmap(bitmap, width, height, true);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Removes all bitmaps from the cache.
+     */
+    public static void clearCache() {
+        CACHE.evictAll();
+    }
+
+}
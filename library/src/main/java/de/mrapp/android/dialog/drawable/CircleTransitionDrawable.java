@@ -13,21 +13,28 @@
  */
 package de.mrapp.android.dialog.drawable;
 
-import android.graphics.Bitmap;
+import android.annotation.TargetApi;
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.support.annotation.NonNull;
 
+import de.mrapp.android.dialog.datastructure.BackingBuffer;
+
 import static de.mrapp.android.util.Condition.ensureAtLeast;
 
 /**
  * A layer drawable, which allows to translate between the first and second layer by animating the
  * second layer as a circle, which grows from a specific position.
  *
+ * When drawn to a hardware accelerated canvas, the circle is punched through the first layer by
+ * using an offscreen layer of the canvas. Otherwise, a pooled offscreen buffer is used, which is
+ * only allocated while a transition is running and released afterwards.
+ *
  * @author Michael Rapp
  * @since 4.0.0
  */
@@ -64,14 +71,10 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
     private int fromRadius;
 
     /**
-     * The bitmap, which is used to draw the drawable.
+     * The offscreen buffer, which is used to draw the drawable, if it is not drawn to a hardware
+     * accelerated canvas.
      */
-    private Bitmap backingBitmap;
-
-    /**
-     * The canvas, which is used to draw the drawable.
-     */
-    private Canvas backingCanvas;
+    private final BackingBuffer backingBuffer;
 
     /**
      * The paint, which is used to draw the drawable.
@@ -97,6 +100,7 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
         this.fromX = -1;
         this.fromY = -1;
         this.fromRadius = -1;
+        this.backingBuffer = new BackingBuffer();
         this.paint = new Paint();
         this.paint.setAntiAlias(true);
         this.porterDuffPaint = new Paint();
@@ -166,11 +170,56 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
         this.radius = radius;
     }
 
-    @Override
-    public final void setBounds(final int left, final int top, final int right, final int bottom) {
-        super.setBounds(left, top, right, bottom);
-        backingBitmap = Bitmap.createBitmap(right - left, bottom - top, Bitmap.Config.ARGB_8888);
-        backingCanvas = new Canvas(backingBitmap);
+    /**
+     * Draws the first layer with a circle punched through it by using an offscreen layer of a
+     * specific hardware accelerated canvas.
+     *
+     * @param canvas
+     *         The canvas, which should be used for drawing, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param x
+     *         The horizontal position of the circle's center in pixels as a {@link Float} value
+     * @param y
+     *         The vertical position of the circle's center in pixels as a {@link Float} value
+     * @param radius
+     *         The radius of the circle in pixels as a {@link Float} value
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private void drawUsingLayer(@NonNull final Canvas canvas, final float x, final float y,
+                                final float radius) {
+        Rect bounds = getBounds();
+        int saveCount = canvas.saveLayer(bounds.left, bounds.top, bounds.right, bounds.bottom,
+                null);
+        getDrawable(0).draw(canvas);
+        canvas.drawCircle(x, y, radius, porterDuffPaint);
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Draws the first layer with a circle punched through it by using the pooled offscreen
+     * buffer.
+     *
+     * @param canvas
+     *         The canvas, which should be used for drawing, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param x
+     *         The horizontal position of the circle's center in pixels as a {@link Float} value
+     * @param y
+     *         The vertical position of the circle's center in pixels as a {@link Float} value
+     * @param radius
+     *         The radius of the circle in pixels as a {@link Float} value
+     */
+    private void drawUsingBuffer(@NonNull final Canvas canvas, final float x, final float y,
+                                 final float radius) {
+        backingBuffer.setSize(getBounds().width(), getBounds().height());
+        Canvas backingCanvas = backingBuffer.getCanvas();
+
+        if (backingCanvas != null) {
+            backingBuffer.clear();
+            getDrawable(0).draw(backingCanvas);
+            backingCanvas.drawCircle(x, y, radius, porterDuffPaint);
+            backingBuffer.draw(canvas, paint);
+        }
     }
 
     @Override
@@ -192,12 +241,13 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
 
         if (currentRadius > 0) {
             getDrawable(1).draw(canvas);
-            backingBitmap.eraseColor(Color.TRANSPARENT);
-            getDrawable(0).draw(backingCanvas);
-            backingCanvas.drawCircle(fromX != -1 ? fromX : getBounds().width() / 2f,
-                    fromY != -1 ? fromY : getBounds().height() / 2f, (float) currentRadius,
-                    porterDuffPaint);
-            canvas.drawBitmap(backingBitmap, 0, 0, paint);
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP &&
+                    canvas.isHardwareAccelerated()) {
+                drawUsingLayer(canvas, x, y, (float) currentRadius);
+            } else {
+                drawUsingBuffer(canvas, x, y, (float) currentRadius);
+            }
         } else {
             getDrawable(0).draw(canvas);
         }
@@ -205,7 +255,7 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
 
     @Override
     protected final void onEndTransition() {
-
+        backingBuffer.release();
     }
 
 }
\ No newline at end of file
@@ -73,7 +73,7 @@ public class CrossFadeTransitionDrawable extends AbstractTransitionDrawable {
 
     @Override
     protected final void onDraw(final float interpolatedTime, @NonNull final Canvas canvas) {
-        int currentAlpha = Math.round(255 * interpolatedTime);
+        int currentAlpha = Math.max(0, Math.min(255, Math.round(255 * interpolatedTime)));
         Drawable first = getDrawable(0);
 
         if (useCrossFade) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.listener;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.dialog.model.DialogDecorator;
+
+/**
+ * Defines the interface, a class, which should be notified, when the decorators of a dialog are
+ * attached to its view hierarchy, must implement. It allows to measure the time, which is needed
+ * to attach the individual decorators.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public interface DecoratorAttachListener {
+
+    /**
+     * The method, which is invoked, when a decorator has been attached to the view hierarchy of a
+     * dialog.
+     *
+     * @param decorator
+     *         The decorator, which has been attached, as an instance of the type {@link
+     *         DialogDecorator}. The decorator may not be null
+     * @param duration
+     *         The time, which has been needed to attach the decorator, in nanoseconds as a {@link
+     *         Long} value
+     * @param deferred
+     *         True, if the attachment of the decorator has been deferred, because it was inactive
+     *         when the dialog was shown, false otherwise
+     */
+    void onDecoratorAttached(@NonNull DialogDecorator decorator, long duration,
+                             boolean deferred);
+
+    /**
+     * The method, which is invoked, when the attachment of a decorator has been deferred, because
+     * it is inactive for the current configuration of the dialog. The decorator is attached as
+     * soon as it becomes active.
+     *
+     * @param decorator
+     *         The decorator, whose attachment has been deferred, as an instance of the type {@link
+     *         DialogDecorator}. The decorator may not be null
+     */
+    void onDecoratorAttachDeferred(@NonNull DialogDecorator decorator);
+
+}
@@ -18,6 +18,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.view.View;
 
+import de.mrapp.android.dialog.AsyncDialogValidator;
 import de.mrapp.android.dialog.DialogValidator;
 import de.mrapp.android.dialog.model.ValidateableDialog;
 
@@ -42,6 +43,70 @@ public class OnClickListenerWrapper extends AbstractListenerWrapper
      */
     private final boolean validate;
 
+    /**
+     * Creates and returns a callback, which allows to handle the result of the dialog's
+     * asynchronous validators. While the validators are executed, the clicked button is disabled.
+     *
+     * @param button
+     *         The button, which has been clicked, as an instance of the class {@link View}. The
+     *         button may not be null
+     * @return The callback, which has been created, as an instance of the type {@link
+     * AsyncDialogValidator.Callback}. The callback may not be null
+     */
+    @NonNull
+    private AsyncDialogValidator.Callback createValidationCallback(@NonNull final View button) {
+        return new AsyncDialogValidator.Callback() {
+
+            @Override
+            public void onValidated(final boolean valid) {
+                adaptButton(button);
+
+                if (valid) {
+                    notifyOnClick();
+                }
+            }
+
+            @Override
+            public void onValidationFailed(@NonNull final Exception exception) {
+                adaptButton(button);
+            }
+
+            @Override
+            public void onValidationCanceled() {
+                adaptButton(button);
+            }
+
+        };
+    }
+
+    /**
+     * Adapts the enabled state of a button, which has been disabled while the dialog's
+     * asynchronous validators were executed. If live validation is enabled, the enabled state is
+     * determined by live validation, otherwise the button is enabled.
+     *
+     * @param button
+     *         The button, whose enabled state should be adapted, as an instance of the class {@link
+     *         View}. The button may not be null
+     */
+    private void adaptButton(@NonNull final View button) {
+        if (getDialog().isLiveValidationEnabled()) {
+            getDialog().performLiveValidation();
+        } else {
+            button.setEnabled(true);
+        }
+    }
+
+    /**
+     * Notifies the encapsulated listener about the click and attempts to close the dialog.
+     */
+    private void notifyOnClick() {
+        if (wrappedListener != null) {
+            wrappedListener.onClick(getDialog(), getButtonType());
+        }
+
+        attemptCloseDialog();
+    }
+
     /**
      * Creates a new wrapper, which implements the interface {@link android.view.View.OnClickListener}
      * in order to delegate the method calls to encapsulated listener of the type {@link
@@ -75,13 +140,15 @@ public class OnClickListenerWrapper extends AbstractListenerWrapper
                     return;
                 }
             }
-        }
 
-        if (wrappedListener != null) {
-            wrappedListener.onClick(getDialog(), getButtonType());
+            if (!getDialog().getAsyncValidators().isEmpty()) {
+                v.setEnabled(false);
+                getDialog().validateAsync(createValidationCallback(v));
+                return;
+            }
         }
 
-        attemptCloseDialog();
+        notifyOnClick();
     }
 
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import android.view.View;
 import android.widget.AdapterView;
 import android.widget.AdapterView.OnItemClickListener;
 
+import de.mrapp.android.dialog.adapter.RecyclerViewAdapter;
 import de.mrapp.android.dialog.model.ValidateableDialog;
 
 /**
@@ -30,7 +31,7 @@ import de.mrapp.android.dialog.model.ValidateableDialog;
  * @since 1.0.0
  */
 public class OnItemClickListenerWrapper extends AbstractListenerWrapper
-        implements OnItemClickListener {
+        implements OnItemClickListener, RecyclerViewAdapter.OnItemClickListener {
 
     /**
      * The listener, which is encapsulated by the wrapper.
@@ -68,4 +69,14 @@ public class OnItemClickListenerWrapper extends AbstractListenerWrapper
         attemptCloseDialog();
     }
 
+    @Override
+    public final void onItemClick(@NonNull final RecyclerViewAdapter adapter,
+                                  @NonNull final View view, final int position, final long id) {
+        if (wrappedListener != null) {
+            wrappedListener.onClick(getDialog(), position);
+        }
+
+        attemptCloseDialog();
+    }
+
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import android.widget.AdapterView;
 import android.widget.AdapterView.OnItemClickListener;
 import android.widget.ListView;
 
+import de.mrapp.android.dialog.adapter.RecyclerViewAdapter;
 import de.mrapp.android.dialog.model.ValidateableDialog;
 
 /**
@@ -31,7 +32,7 @@ import de.mrapp.android.dialog.model.ValidateableDialog;
  * @since 1.0.0
  */
 public class OnMultiChoiceClickListenerWrapper extends AbstractListenerWrapper
-        implements OnItemClickListener {
+        implements OnItemClickListener, RecyclerViewAdapter.OnItemClickListener {
 
     /**
      * The listener, which is encapsulated by the wrapper.
@@ -72,4 +73,14 @@ public class OnMultiChoiceClickListenerWrapper extends AbstractListenerWrapper
         attemptCloseDialog();
     }
 
+    @Override
+    public final void onItemClick(@NonNull final RecyclerViewAdapter adapter,
+                                  @NonNull final View view, final int position, final long id) {
+        if (wrappedListener != null) {
+            wrappedListener.onClick(getDialog(), position, adapter.isItemChecked(position));
+        }
+
+        attemptCloseDialog();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.listener;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.ShowTracer.Phase;
+import de.mrapp.android.dialog.model.DialogDecorator;
+
+/**
+ * Defines the interface, a class, which should be notified about the time, which is needed by the
+ * individual phases of showing a dialog, must implement. All durations are given in nanoseconds.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public interface ShowTraceListener {
+
+    /**
+     * The method, which is invoked, when a phase of showing a dialog has been finished.
+     *
+     * @param phase
+     *         The phase, which has been finished, as a value of the enum {@link Phase}. The phase
+     *         may not be null
+     * @param duration
+     *         The duration of the phase in nanoseconds as a {@link Long} value
+     */
+    void onPhaseTraced(@NonNull Phase phase, long duration);
+
+    /**
+     * The method, which is invoked, when a decorator has been attached while showing a dialog or,
+     * if its attachment has been deferred, as soon as it has become active.
+     *
+     * @param decorator
+     *         The decorator, which has been attached, as an instance of the type {@link
+     *         DialogDecorator}. The decorator may not be null
+     * @param duration
+     *         The time, which has been needed to attach the decorator, in nanoseconds as a {@link
+     *         Long} value
+     */
+    void onDecoratorTraced(@NonNull DialogDecorator decorator, long duration);
+
+    /**
+     * The method, which is invoked, when an area has been added to a dialog's root view while
+     * showing the dialog.
+     *
+     * @param area
+     *         The area, which has been added, as a value of the enum {@link Area}. The area may not
+     *         be null
+     * @param duration
+     *         The time, which has been needed to add the area, in nanoseconds as a {@link Long}
+     *         value
+     */
+    void onAreaTraced(@NonNull Area area, long duration);
+
+}
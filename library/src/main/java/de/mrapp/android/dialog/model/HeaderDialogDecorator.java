@@ -94,9 +94,12 @@ public interface HeaderDialogDecorator extends Dialog {
     void setHeaderHeight(int height);
 
     /**
-     * Returns the background of the dialog's header.
+     * Returns the background of the dialog's header. A background, which has been set by using a
+     * bitmap or a resource, is decoded at the size of the header, once the header has been laid
+     * out. Until then, the background is returned at its original size.
      *
      * @return The background of the dialog's header as an instance of the class {@link Drawable}
+     * or null, if no background has been set
      */
     Drawable getHeaderBackground();
 
@@ -17,6 +17,7 @@ import android.content.DialogInterface;
 import android.support.annotation.ArrayRes;
 import android.support.annotation.ColorInt;
 import android.support.annotation.Nullable;
+import android.support.v7.widget.RecyclerView;
 import android.widget.AdapterView;
 import android.widget.ListAdapter;
 import android.widget.ListView;
@@ -39,6 +40,38 @@ public interface ListDialogDecorator extends Dialog {
      */
     ListView getListView();
 
+    /**
+     * Returns the recycler view, which is contained by the dialog, if the dialog's list items are
+     * shown by using a recycler view.
+     *
+     * @return The recycler view, which is contained by the dialog, as an instance of the class
+     * {@link RecyclerView} or null, if the dialog does not show any list items, has not been shown
+     * yet or does not use a recycler view
+     */
+    RecyclerView getRecyclerView();
+
+    /**
+     * Returns, whether the dialog's list items are shown by using a recycler view instead of a
+     * list view, or not.
+     *
+     * @return True, if the dialog's list items are shown by using a recycler view, false otherwise
+     */
+    boolean isRecyclerViewUsed();
+
+    /**
+     * Sets, whether the dialog's list items should be shown by using a recycler view instead of a
+     * list view, or not. Using a recycler view is recommended for dialogs, which show a large
+     * number of list items. The views of the list items are still created by the dialog's list
+     * adapter. A listener, which has been set by using the method {@link
+     * #setOnItemSelectedListener(AdapterView.OnItemSelectedListener)}, is not notified, if a
+     * recycler view is used. The value only takes effect, when the dialog is shown the next time.
+     *
+     * @param useRecyclerView
+     *         True, if the dialog's list items should be shown by using a recycler view, false
+     *         otherwise
+     */
+    void useRecyclerView(boolean useRecyclerView);
+
     /**
      * Returns the adapter of the list view, which is contained by the dialog.
      *
@@ -259,6 +292,44 @@ public interface ListDialogDecorator extends Dialog {
     void setMultiChoiceItems(@Nullable ListAdapter adapter, @Nullable boolean[] checkedItems,
                              @Nullable DialogInterface.OnMultiChoiceClickListener listener);
 
+    /**
+     * Returns, whether the item at a specific position is currently checked, or not.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return True, if the item at the given position is currently checked, false otherwise
+     */
+    boolean isItemChecked(int position);
+
+    /**
+     * Sets, whether the item at a specific position should be checked, or not. This method has no
+     * effect, if the dialog's items cannot be checked. If the dialog shows single choice items,
+     * the previously checked item is unchecked.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value. The position must be at least
+     *         0
+     * @param checked
+     *         True, if the item should be checked, false otherwise
+     */
+    void setItemChecked(int position, boolean checked);
+
+    /**
+     * Sets, whether the items within a specific range should be checked, or not. This method has
+     * no effect, if the dialog's items cannot be checked. If the dialog shows single choice items,
+     * only the last item within the range is changed.
+     *
+     * @param fromPosition
+     *         The position of the first item, which should be changed (inclusive), as an {@link
+     *         Integer} value. The position must be at least 0
+     * @param toPosition
+     *         The position of the last item, which should be changed (exclusive), as an {@link
+     *         Integer} value. The position must be at least the start position
+     * @param checked
+     *         True, if the items should be checked, false otherwise
+     */
+    void setItemsChecked(int fromPosition, int toPosition, boolean checked);
+
     /**
      * Sets the listener, which should be notified, when an item, which is shown by the dialog is
      * selected.
@@ -18,6 +18,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.widget.ScrollView;
 
+import de.mrapp.android.dialog.DialogTransaction;
 import de.mrapp.android.dialog.ScrollableArea;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 
@@ -83,4 +84,39 @@ public interface MaterialDialog extends MaterialDialogDecorator, DialogInterface
      */
     ScrollView getScrollView();
 
+    /**
+     * Inflates the layouts, which are used to show the dialog, in advance on a background thread.
+     * The inflated views are used, when the dialog is shown the next time, which reduces the time
+     * it takes to show the dialog. Layouts, which have not been inflated in time, are inflated on
+     * the UI thread, when the dialog is shown. This method must be called on the UI thread after
+     * the dialog's properties have been set.
+     */
+    void prewarm();
+
+    /**
+     * Copies the properties of another dialog, which is of the same type, as they have been
+     * resolved by the other dialog. Neither theme attributes nor resources are resolved again.
+     * Listeners and custom views are not copied. The dialog must not have been shown yet.
+     *
+     * @param source
+     *         The dialog, whose properties should be copied, as an instance of the type {@link
+     *         MaterialDialog}. The dialog may not be null and must be of the same type as this
+     *         dialog
+     */
+    void copyProperties(@NonNull MaterialDialog source);
+
+    /**
+     * Opens a transaction, which allows to change multiple properties of the dialog at once. The
+     * changes, which are made by using the dialog's setters, are not applied to its views, until
+     * the transaction is applied by using the method {@link DialogTransaction#apply()}. This
+     * avoids redundant layout passes, when multiple properties of a shown dialog are changed. A
+     * transaction, which is not applied explicitly, is applied automatically, once the UI thread
+     * has finished processing the current message.
+     *
+     * @return The transaction, which has been opened, as an instance of the class {@link
+     * DialogTransaction}. The transaction may not be null
+     */
+    @NonNull
+    DialogTransaction edit();
+
 }
\ No newline at end of file
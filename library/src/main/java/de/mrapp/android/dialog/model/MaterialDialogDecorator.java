@@ -27,6 +27,8 @@ import android.support.annotation.StringRes;
 import android.view.KeyEvent;
 import android.view.View;
 
+import java.io.Reader;
+
 import de.mrapp.android.dialog.ScrollableArea;
 import de.mrapp.android.dialog.animation.BackgroundAnimation;
 
@@ -583,7 +585,9 @@ public interface MaterialDialogDecorator extends Dialog {
     void setMessageColor(@ColorInt int color);
 
     /**
-     * Returns the background of the dialog.
+     * Returns the background of the dialog. A background, which has been set by using a bitmap or
+     * a resource, is decoded at the size of the dialog, once the dialog has been laid out. Until
+     * then, the background is returned at its original size.
      *
      * @return The background of the dialog as an instance of the class {@link Drawable} or null, if
      * no background has been set
@@ -727,7 +731,33 @@ public interface MaterialDialogDecorator extends Dialog {
     void setView(@LayoutRes int resourceId);
 
     /**
-     * Returns the message of the dialog.
+     * Registers a scrollable view, which is contained by the dialog's custom view. While the view
+     * is registered, the visibility of the dividers, which are located above and below the
+     * dialog's scrollable areas, is adapted, when it is scrolled. Only one view can be registered
+     * at once. A previously registered view is unregistered. The list view of a list dialog is
+     * registered automatically.
+     *
+     * @param view
+     *         The view, which should be registered, as an instance of the class {@link View}. The
+     *         view must either be an {@link android.widget.AbsListView}, a {@link
+     *         android.support.v7.widget.RecyclerView}, or implement the interface {@link
+     *         android.support.v4.view.NestedScrollingChild}. The view may not be null
+     */
+    void registerScrollableView(@NonNull View view);
+
+    /**
+     * Unregisters a scrollable view, which has previously been registered by using the method
+     * {@link #registerScrollableView(View)}.
+     *
+     * @param view
+     *         The view, which should be unregistered, as an instance of the class {@link View}.
+     *         The view may not be null
+     */
+    void unregisterScrollableView(@NonNull View view);
+
+    /**
+     * Returns the message of the dialog. If the message is streamed, a copy of the text, which has
+     * been streamed so far, is returned.
      *
      * @return The message of the dialog as an instance of the type {@link CharSequence} or null, if
      * no message has been set
@@ -752,6 +782,39 @@ public interface MaterialDialogDecorator extends Dialog {
      */
     void setMessage(@StringRes int resourceId);
 
+    /**
+     * Returns, whether the message of the dialog is streamed, or not. A streamed message is split
+     * into chunks of lines, of which only the visible ones are laid out. When the dialog's state is
+     * restored, the streaming mode is retained, but only the end of the text, which has been
+     * streamed, is restored.
+     *
+     * @return True, if the message of the dialog is streamed, false otherwise
+     */
+    boolean isMessageStreamed();
+
+    /**
+     * Sets the message of the dialog, which should be read from a specific reader. The message is
+     * read in the background and streamed, i.e. it is split into chunks of lines, of which only
+     * the visible ones are laid out, and the text, which has been read, is appended while the
+     * dialog is shown. The reader is closed when the end of the stream has been reached, when
+     * the message is replaced or when the dialog's views are detached.
+     *
+     * @param reader
+     *         The reader, the message should be read from, as an instance of the class {@link
+     *         Reader}. The reader may not be null
+     */
+    void setMessageStream(@NonNull Reader reader);
+
+    /**
+     * Appends text to the message of the dialog. If the message is not streamed yet, it is
+     * streamed from now on.
+     *
+     * @param text
+     *         The text, which should be appended, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     */
+    void appendMessage(@NonNull CharSequence text);
+
     /**
      * Returns the title of the dialog.
      *
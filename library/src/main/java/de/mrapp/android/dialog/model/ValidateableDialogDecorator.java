@@ -14,10 +14,14 @@
 package de.mrapp.android.dialog.model;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.widget.TextView;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import de.mrapp.android.dialog.AsyncDialogValidator;
 import de.mrapp.android.dialog.DialogValidator;
 
 /**
@@ -81,4 +85,147 @@ public interface ValidateableDialogDecorator extends Dialog {
      */
     void removeAllValidators(@NonNull Collection<DialogValidator> validators);
 
+    /**
+     * Returns a set, which contains the asynchronous validators, which are executed in the
+     * background when the positive button of the dialog is clicked.
+     *
+     * @return A set, which contains the asynchronous validators, which are executed when the
+     * positive button of the dialog is clicked, as an instance of the type {@link Set} or an empty
+     * set, if no asynchronous validators are executed
+     */
+    Set<AsyncDialogValidator<?>> getAsyncValidators();
+
+    /**
+     * Adds a new asynchronous validator, which should be executed in the background when the
+     * positive button of the dialog is clicked. The asynchronous validators are executed after
+     * all other validators have succeeded.
+     *
+     * @param validator
+     *         The validator, which should be added, as an instance of the type {@link
+     *         AsyncDialogValidator}. The validator may not be null
+     */
+    void addAsyncValidator(@NonNull AsyncDialogValidator<?> validator);
+
+    /**
+     * Removes a specific asynchronous validator, which should not be executed, when the positive
+     * button of the dialog is clicked, anymore.
+     *
+     * @param validator
+     *         The validator, which should be removed, as an instance of the type {@link
+     *         AsyncDialogValidator}. The validator may not be null
+     */
+    void removeAsyncValidator(@NonNull AsyncDialogValidator<?> validator);
+
+    /**
+     * Returns the executor, which is used to execute the dialog's asynchronous validators.
+     *
+     * @return The executor, which is used to execute the dialog's asynchronous validators, as an
+     * instance of the type {@link Executor} or null, if the default executor is used
+     */
+    Executor getValidationExecutor();
+
+    /**
+     * Sets the executor, which should be used to execute the dialog's asynchronous validators.
+     * The validators are executed concurrently, if the executor allows to.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor} or
+     *         null, if the default executor should be used
+     */
+    void setValidationExecutor(@Nullable Executor executor);
+
+    /**
+     * Executes the dialog's asynchronous validators in the background. The snapshots of the
+     * dialog's input, which are validated, are taken on the UI thread before this method returns.
+     * As soon as a validator fails or throws an exception, the remaining validators are
+     * canceled. If the dialog is dismissed while the
+     * validators are executed, the validation is canceled. A previous validation, which is still
+     * executed, is canceled as well.
+     *
+     * @param callback
+     *         The callback, which should be notified about the result of the validation on the UI
+     *         thread, as an instance of the type {@link AsyncDialogValidator.Callback}. The
+     *         callback may not be null
+     */
+    void validateAsync(@NonNull AsyncDialogValidator.Callback callback);
+
+    /**
+     * Returns, whether the dialog's asynchronous validators are currently executed, or not.
+     *
+     * @return True, if the dialog's asynchronous validators are currently executed, false
+     * otherwise
+     */
+    boolean isValidatingAsync();
+
+    /**
+     * Cancels the execution of the dialog's asynchronous validators, if they are currently
+     * executed.
+     */
+    void cancelAsyncValidation();
+
+    /**
+     * Returns, whether live validation is enabled, or not. If enabled, the validators are executed
+     * whenever the text of the registered input views has been changed and the enabled state of
+     * the dialog's positive button is adapted accordingly.
+     *
+     * @return True, if live validation is enabled, false otherwise
+     */
+    boolean isLiveValidationEnabled();
+
+    /**
+     * Sets, whether live validation should be enabled, or not. If enabled, the validators are
+     * executed whenever the text of the registered input views has been changed and the enabled
+     * state of the dialog's positive button is adapted accordingly. The results are cached, i.e.
+     * the same input is never validated twice.
+     *
+     * @param enabled
+     *         True, if live validation should be enabled, false otherwise
+     */
+    void setLiveValidationEnabled(boolean enabled);
+
+    /**
+     * Validates the current input immediately and adapts the enabled state of the dialog's
+     * positive button accordingly, if live validation is enabled. If the same input has already
+     * been validated, the cached result is used.
+     */
+    void performLiveValidation();
+
+    /**
+     * Returns the delay, which must elapse after the text of an input view has been changed, until
+     * live validation is performed.
+     *
+     * @return The delay, which must elapse after the text of an input view has been changed, until
+     * live validation is performed, in milliseconds as a {@link Long} value
+     */
+    long getLiveValidationDelay();
+
+    /**
+     * Sets the delay, which must elapse after the text of an input view has been changed, until
+     * live validation is performed. If the text is changed again in the meantime, the validation
+     * is postponed.
+     *
+     * @param delay
+     *         The delay, which should be set, in milliseconds as a {@link Long} value. The delay
+     *         must be at least 0
+     */
+    void setLiveValidationDelay(long delay);
+
+    /**
+     * Adds an input view, whose text should be observed by live validation.
+     *
+     * @param view
+     *         The view, which should be added, as an instance of the class {@link TextView}. The
+     *         view may not be null
+     */
+    void addLiveValidationView(@NonNull TextView view);
+
+    /**
+     * Removes an input view, whose text should not be observed by live validation, anymore.
+     *
+     * @param view
+     *         The view, which should be removed, as an instance of the class {@link TextView}. The
+     *         view may not be null
+     */
+    void removeLiveValidationView(@NonNull TextView view);
+
 }
\ No newline at end of file
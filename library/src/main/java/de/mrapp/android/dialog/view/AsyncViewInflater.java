@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.LayoutRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An inflater, which allows to inflate layouts on a background thread in advance, in order to be
+ * able to use the inflated views later on without blocking the UI thread. Layouts, which cannot be
+ * inflated on a background thread, e.g. because they contain views, which require a looper, are
+ * inflated on the UI thread, when they are requested.
+ *
+ * The methods of this class must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class AsyncViewInflater {
+
+    /**
+     * The executor, which is used to inflate layouts in the background. It is shared by all
+     * instances of this class.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * The context, which is used to inflate layouts.
+     */
+    private final Context context;
+
+    /**
+     * The layout inflater, which is used to inflate layouts in the background.
+     */
+    private final LayoutInflater backgroundInflater;
+
+    /**
+     * The handler, which is used to pass inflated views to the UI thread.
+     */
+    private final Handler handler;
+
+    /**
+     * A sparse array, which contains the views, which have already been inflated, mapped to the
+     * resource ids of their layouts.
+     */
+    private final SparseArray<View> inflatedViews;
+
+    /**
+     * A sparse array, which contains the resource ids of the layouts, which are currently inflated
+     * in the background.
+     */
+    private final SparseBooleanArray pendingLayouts;
+
+    /**
+     * Returns the executor, which is used to inflate layouts in the background. If the executor
+     * has not been created yet, it is created.
+     *
+     * @return The executor, which is used to inflate layouts in the background, as an instance of
+     * the type {@link ExecutorService}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            AsyncViewInflater.class.getSimpleName() + "::inflateThread");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return executor;
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to inflate a specific layout in the background.
+     *
+     * @param layoutId
+     *         The resource id of the layout, which should be inflated, as an {@link Integer} value
+     * @param parent
+     *         The view group, which should be used to create the layout params of the inflated
+     *         view, as an instance of the class {@link ViewGroup} or null, if no layout params
+     *         should be created
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createInflateRunnable(@LayoutRes final int layoutId,
+                                           @Nullable final ViewGroup parent) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                View view;
+
+                try {
+                    view = backgroundInflater.inflate(layoutId, parent, false);
+                } catch (RuntimeException e) {
+                    view = null;
+                }
+
+                final View inflatedView = view;
+                handler.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        onInflated(layoutId, inflatedView);
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    /**
+     * The method, which is invoked on the UI thread, when a layout has been inflated in the
+     * background.
+     *
+     * @param layoutId
+     *         The resource id of the layout, which has been inflated, as an {@link Integer} value
+     * @param view
+     *         The view, which has been inflated, as an instance of the class {@link View} or null,
+     *         if the layout could not be inflated in the background
+     */
+    private void onInflated(@LayoutRes final int layoutId, @Nullable final View view) {
+        if (pendingLayouts.get(layoutId)) {
+            pendingLayouts.delete(layoutId);
+
+            if (view != null) {
+                inflatedViews.put(layoutId, view);
+            }
+        }
+    }
+
+    /**
+     * Creates a new inflater, which allows to inflate layouts on a background thread in advance.
+     *
+     * @param context
+     *         The context, which should be used to inflate layouts, as an instance of the class
+     *         {@link Context}. The context may not be null
+     */
+    public AsyncViewInflater(@NonNull final Context context) {
+        ensureNotNull(context, "The context may not be null");
+        this.context = context;
+        this.backgroundInflater = LayoutInflater.from(context).cloneInContext(context);
+        this.handler = new Handler(Looper.getMainLooper());
+        this.inflatedViews = new SparseArray<>();
+        this.pendingLayouts = new SparseBooleanArray();
+    }
+
+    /**
+     * Inflates a specific layout in the background, unless it has already been inflated or is
+     * currently being inflated.
+     *
+     * @param layoutId
+     *         The resource id of the layout, which should be inflated, as an {@link Integer} value.
+     *         The resource id must correspond to a valid layout resource
+     * @param parent
+     *         The view group, which should be used to create the layout params of the inflated
+     *         view, as an instance of the class {@link ViewGroup} or null, if no layout params
+     *         should be created. The view is not added to the view group
+     */
+    public final void inflate(@LayoutRes final int layoutId, @Nullable final ViewGroup parent) {
+        if (inflatedViews.get(layoutId) == null && !pendingLayouts.get(layoutId)) {
+            pendingLayouts.put(layoutId, true);
+            getExecutor().execute(createInflateRunnable(layoutId, parent));
+        }
+    }
+
+    /**
+     * Returns, whether a specific layout has already been inflated in the background, or not.
+     *
+     * @param layoutId
+     *         The resource id of the layout as an {@link Integer} value
+     * @return True, if the given layout has already been inflated, false otherwise
+     */
+    public final boolean isInflated(@LayoutRes final int layoutId) {
+        return inflatedViews.get(layoutId) != null;
+    }
+
+    /**
+     * Returns a view, which corresponds to a specific layout. If the layout has already been
+     * inflated in the background, the inflated view is returned and removed from the inflater.
+     * Otherwise, the layout is inflated on the current thread.
+     *
+     * @param layoutId
+     *         The resource id of the layout, whose view should be returned, as an {@link Integer}
+     *         value. The resource id must correspond to a valid layout resource
+     * @param parent
+     *         The view group, which should be used to create the layout params of the view, if
+     *         it is inflated on the current thread, as an instance of the class {@link ViewGroup}
+     *         or null, if no layout params should be created. The view is not added to the view
+     *         group
+     * @return The view, which corresponds to the given layout, as an instance of the class {@link
+     * View}. The view may not be null
+     */
+    @NonNull
+    public final View obtain(@LayoutRes final int layoutId, @Nullable final ViewGroup parent) {
+        View view = inflatedViews.get(layoutId);
+
+        if (view != null) {
+            inflatedViews.remove(layoutId);
+
+            if (view.getParent() == null) {
+                return view;
+            }
+        }
+
+        pendingLayouts.delete(layoutId);
+        return LayoutInflater.from(context).inflate(layoutId, parent, false);
+    }
+
+    /**
+     * Discards all views, which have been inflated in the background, as well as the results of
+     * pending inflations.
+     */
+    public final void clear() {
+        inflatedViews.clear();
+        pendingLayouts.clear();
+    }
+
+}
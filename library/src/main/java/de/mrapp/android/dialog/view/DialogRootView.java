@@ -16,9 +16,7 @@ package de.mrapp.android.dialog.view;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
@@ -31,12 +29,15 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
 import android.support.v4.content.ContextCompat;
-import android.support.v4.util.Pair;
+import android.support.v4.view.NestedScrollingChild;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.ViewTreeObserver.OnGlobalLayoutListener;
 import android.view.ViewTreeObserver.OnScrollChangedListener;
 import android.widget.AbsListView;
@@ -44,6 +45,7 @@ import android.widget.LinearLayout;
 
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -53,12 +55,16 @@ import java.util.TreeMap;
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea;
 import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.ShowTracer;
+import de.mrapp.android.dialog.ShowTracer.Phase;
+import de.mrapp.android.dialog.datastructure.BackingBuffer;
 import de.mrapp.android.dialog.listener.AreaListener;
 import de.mrapp.android.dialog.view.ScrollView.ScrollListener;
 import de.mrapp.android.util.ViewUtil;
 
 import static de.mrapp.android.util.Condition.ensureAtLeast;
 import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
 import static de.mrapp.android.util.DisplayUtil.dpToPixels;
 
 /**
@@ -272,14 +278,32 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     private Paint paint;
 
     /**
-     * The bitmap, which is used to draw the view's background.
+     * The offscreen buffer, which is used to draw the view's background.
      */
-    private Bitmap backingBitmap;
+    private BackingBuffer backingBuffer;
 
     /**
-     * The canvas, which his used to draw the view's background.
+     * True, if the content of the offscreen buffer, which is used to draw the view's background,
+     * must be rendered again, false otherwise.
      */
-    private Canvas backingCanvas;
+    private boolean windowBackgroundDirty;
+
+    /**
+     * The number of times, the view's background has been drawn from the offscreen buffer without
+     * rendering it again.
+     */
+    private long windowBackgroundCacheHits;
+
+    /**
+     * The number of times, the view's background had to be rendered into the offscreen buffer.
+     */
+    private long windowBackgroundCacheMisses;
+
+    /**
+     * True, if the view's background has been drawn using a hardware layer the last time, false
+     * otherwise.
+     */
+    private boolean windowBackgroundHardwareAccelerated;
 
     /**
      * The scroll view, which contains the scrollable areas of the dialog.
@@ -287,9 +311,51 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     private ScrollView scrollView;
 
     /**
-     * The list view, which is contained by the dialog.
+     * The scrollable view, which has been registered to be observed in order to adapt the
+     * visibility of the dividers, when scrolled.
+     */
+    private View scrollableView;
+
+    /**
+     * The listener, which is registered at the scrollable view, if it is a recycler view.
+     */
+    private RecyclerView.OnScrollListener recyclerViewScrollListener;
+
+    /**
+     * The listener, which is registered at the view tree observer of the scrollable view, if it is
+     * not a recycler view.
+     */
+    private OnScrollChangedListener scrollableViewScrollListener;
+
+    /**
+     * The view tree observer, the listener, which observes the scrollable view, has been added to,
+     * or null, if the listener is currently not added.
+     */
+    private ViewTreeObserver scrollableViewTreeObserver;
+
+    /**
+     * The listener, which adds and removes the listener, which observes the scrollable view, when
+     * the view is attached to or detached from a window.
+     */
+    private OnAttachStateChangeListener scrollableViewAttachStateListener;
+
+    /**
+     * True, if the visibility of the dividers has already been adapted to the scroll position of
+     * the dialog's scrollable areas, false otherwise.
+     */
+    private boolean dividerScrollStateKnown;
+
+    /**
+     * True, if the dialog's scrollable areas were scrolled to the top, when the visibility of the
+     * dividers has been adapted the last time, false otherwise.
+     */
+    private boolean dividerScrolledToTop;
+
+    /**
+     * True, if the dialog's scrollable areas were scrolled to the bottom, when the visibility of
+     * the dividers has been adapted the last time, false otherwise.
      */
-    private AbsListView listView;
+    private boolean dividerScrolledToBottom;
 
     /**
      * The divider, which is shown above the scrollable areas of the dialog.
@@ -311,6 +377,49 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private Map<DividerLocation, Divider> dividers;
 
+    /**
+     * The tracer, which is used to measure the time, which is needed to add the dialog's areas.
+     */
+    private ShowTracer showTracer;
+
+    /**
+     * The number of batches, which are currently open.
+     */
+    private int batchDepth;
+
+    /**
+     * True, if the areas must be added again, when the current batch is ended, false otherwise.
+     */
+    private boolean areasInvalidated;
+
+    /**
+     * True, if the padding of the areas must be adapted, when the current batch is ended, false
+     * otherwise.
+     */
+    private boolean areaPaddingInvalidated;
+
+    /**
+     * A map, which contains the padding, which is applied to the views of the dialog's areas,
+     * mapped to the corresponding areas. Each padding is stored as an array, which contains the
+     * left, top, right and bottom padding.
+     */
+    private Map<Area, int[]> areaPaddings;
+
+    /**
+     * The area, the dialog's top padding is applied to.
+     */
+    private Area topPaddingArea;
+
+    /**
+     * The padding, which is added to the top of the dialog's scroll view.
+     */
+    private int scrollViewPaddingTop;
+
+    /**
+     * The bottom margin of the dialog's scroll view.
+     */
+    private int scrollViewMarginBottom;
+
     /**
      * The scrollable area of the dialog.
      */
@@ -343,11 +452,19 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     private void initialize() {
         scrollableArea = ScrollableArea.create(null, null);
         showDividersOnScroll = true;
+        dividerScrollStateKnown = false;
         dividerColor = ContextCompat.getColor(getContext(), R.color.divider_color_light);
         dividerMargin = 0;
         dialogPadding = new int[]{0, 0, 0, 0};
+        areaPaddings = new EnumMap<>(Area.class);
+        topPaddingArea = null;
         paint = new Paint();
         paint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.MULTIPLY));
+        backingBuffer = new BackingBuffer();
+        windowBackgroundDirty = true;
+        windowBackgroundCacheHits = 0;
+        windowBackgroundCacheMisses = 0;
+        windowBackgroundHardwareAccelerated = false;
         //        setDescendantFocusability(ViewGroup.FOCUS_BLOCK_DESCENDANTS);
     }
 
@@ -368,12 +485,18 @@ public class DialogRootView extends LinearLayout implements AreaListener {
             scrollView = null;
             topDivider = null;
             bottomDivider = null;
+            dividerScrollStateKnown = false;
             Area previousArea = null;
             boolean canAddTopDivider = false;
 
             for (Map.Entry<Area, View> entry : areas.entrySet()) {
                 Area area = entry.getKey();
                 View view = entry.getValue();
+                long startTime = showTracer != null ? showTracer.beginArea(area) : -1;
+
+                if (view.getParent() instanceof ViewGroup) {
+                    ((ViewGroup) view.getParent()).removeView(view);
+                }
 
                 if (scrollableArea.isScrollable(area)) {
                     if (topDivider == null && canAddTopDivider &&
@@ -401,51 +524,19 @@ public class DialogRootView extends LinearLayout implements AreaListener {
 
                 canAddTopDivider |= area != Area.HEADER && view.getVisibility() == View.VISIBLE;
                 previousArea = area;
-            }
-
-            adaptAreaPadding();
-            findListView();
-        }
-    }
-
-    /**
-     * Searches for the list view, which is contained by the dialog, in order to register a scroll
-     * listener.
-     */
-    private void findListView() {
-        if (scrollView == null) {
-            View contentContainer = findViewById(R.id.content_container);
 
-            if (contentContainer != null) {
-                findListView(contentContainer);
+                if (showTracer != null) {
+                    showTracer.endArea(area, startTime);
+                }
             }
-        }
-    }
 
-    /**
-     * Searches for the list view, which is contained by the dialog, in order to register a scroll
-     * listener.
-     *
-     * @param view
-     *         The view, which should be searched, as an instance of the class {@link ViewGroup}.
-     *         The view may not be null
-     */
-    private boolean findListView(@NonNull final View view) {
-        if (view instanceof AbsListView) {
-            this.listView = (AbsListView) view;
-            this.listView.setOnScrollListener(createListViewScrollListener());
-            return true;
-        } else if (view instanceof ViewGroup) {
-            ViewGroup viewGroup = (ViewGroup) view;
+            long startTime = showTracer != null ? showTracer.beginPhase(Phase.AREA_PADDING) : -1;
+            adaptAreaPadding();
 
-            for (int i = 0; i < viewGroup.getChildCount(); i++) {
-                if (findListView(viewGroup.getChildAt(i))) {
-                    return true;
-                }
+            if (showTracer != null) {
+                showTracer.endPhase(Phase.AREA_PADDING, startTime);
             }
         }
-
-        return false;
     }
 
     /**
@@ -483,70 +574,265 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     }
 
     /**
-     * Adapts the padding of the areas, which are contained by the dialog.
+     * Returns, whether a specific area can be inserted into the root view without rebuilding the
+     * view hierarchy, or not. This is the case, if the area is not scrollable, and if it is located
+     * above the scrollable areas without requiring an additional divider.
+     *
+     * @param area
+     *         The area, which should be inserted, as a value of the enum {@link Area}. The area may
+     *         not be null
+     * @return True, if the area can be inserted, false otherwise
+     */
+    private boolean canInsertArea(@NonNull final Area area) {
+        if (areas.containsKey(area) || scrollableArea.isScrollable(area)) {
+            return false;
+        } else if (scrollView == null) {
+            return true;
+        }
+
+        return area.getIndex() < scrollableArea.getTopScrollableArea().getIndex() &&
+                (area == Area.HEADER || (topDivider != null && topDivider.getParent() == this));
+    }
+
+    /**
+     * Inserts the view of a specific area into the root view at the position, which corresponds
+     * to the area's index, without rebuilding the view hierarchy.
+     *
+     * @param area
+     *         The area, which should be inserted, as a value of the enum {@link Area}. The area may
+     *         not be null
+     * @param view
+     *         The view of the area as an instance of the class {@link View}. The view may not be
+     *         null
+     */
+    private void insertArea(@NonNull final Area area, @NonNull final View view) {
+        int index = getChildCount();
+
+        for (Map.Entry<Area, View> entry : areas.tailMap(area).entrySet()) {
+            View nextView = scrollableArea.isScrollable(entry.getKey()) ? scrollView :
+                    entry.getValue();
+
+            if (entry.getKey() != area && nextView != null && nextView.getParent() == this) {
+                index = indexOfChild(nextView);
+
+                if (index > 0 && getChildAt(index - 1) == topDivider) {
+                    index--;
+                }
+
+                break;
+            }
+        }
+
+        if (view.getParent() instanceof ViewGroup) {
+            ((ViewGroup) view.getParent()).removeView(view);
+        }
+
+        addView(view, index);
+    }
+
+    /**
+     * Adapts the padding of the areas, which are contained by the dialog. The padding of each area
+     * is computed from the original padding of its view, which makes this method idempotent.
      */
     private void adaptAreaPadding() {
+        if (batchDepth > 0) {
+            areaPaddingInvalidated = true;
+            return;
+        }
+
         if (areas != null) {
-            boolean paddingTopApplied = false;
-            Area previousArea = null;
-            View previousView = null;
-            int scrollViewPaddingTop = 0;
-            int scrollViewMarginBottom = 0;
-            Iterator<Map.Entry<Area, View>> iterator = areas.entrySet().iterator();
+            computeAreaPaddings();
 
-            while (iterator.hasNext()) {
-                Map.Entry<Area, View> entry = iterator.next();
-                Area area = entry.getKey();
-                View view = entry.getValue();
+            for (Map.Entry<Area, View> entry : areas.entrySet()) {
+                applyAreaPadding(entry.getKey(), entry.getValue());
+            }
 
-                applyDialogPaddingLeft(area, view);
-                applyDialogPaddingRight(area, view);
+            if (scrollView != null) {
+                LinearLayout.LayoutParams layoutParams =
+                        (LayoutParams) scrollView.getLayoutParams();
 
-                if (!paddingTopApplied) {
-                    paddingTopApplied = applyDialogPaddingTop(area, view);
+                if (layoutParams.bottomMargin != scrollViewMarginBottom) {
+                    layoutParams.bottomMargin = scrollViewMarginBottom;
+                    scrollView.setLayoutParams(layoutParams);
                 }
 
-                if (!iterator.hasNext()) {
-                    applyDialogPaddingBottom(area, view);
+                int paddingTop = getOriginalPadding(scrollView)[1] + scrollViewPaddingTop;
+
+                if (scrollView.getPaddingTop() != paddingTop) {
+                    scrollView.setPadding(scrollView.getPaddingLeft(), paddingTop,
+                            scrollView.getPaddingRight(), scrollView.getPaddingBottom());
                 }
+            }
+        }
+    }
 
-                if (previousArea != null) {
-                    if (area == Area.BUTTON_BAR) {
-                        applyDialogPaddingBottom(previousArea, previousView);
+    /**
+     * Adapts the area, the dialog's top padding is applied to, after the visibility of an area has
+     * been changed. Only the views of the area, the top padding has previously been applied to,
+     * and of the area, it is applied to now, are updated.
+     */
+    private void adaptTopPaddingArea() {
+        if (batchDepth > 0) {
+            areaPaddingInvalidated = true;
+        } else if (areas != null) {
+            if (!areaPaddings.keySet().equals(areas.keySet())) {
+                adaptAreaPadding();
+            } else {
+                Area newTopPaddingArea = findTopPaddingArea();
+
+                if (newTopPaddingArea != topPaddingArea) {
+                    if (topPaddingArea != null) {
+                        View view = areas.get(topPaddingArea);
+                        areaPaddings.get(topPaddingArea)[1] = getOriginalPadding(view)[1];
+                        applyAreaPadding(topPaddingArea, view);
+                    }
+
+                    if (newTopPaddingArea != null) {
+                        areaPaddings.get(newTopPaddingArea)[1] = dialogPadding[1];
+                        applyAreaPadding(newTopPaddingArea, areas.get(newTopPaddingArea));
                     }
 
-                    Pair<Integer, Integer> pair = addViewSpacing(previousArea, previousView, area);
-                    scrollViewPaddingTop += pair.first != null ? pair.first : 0;
-                    scrollViewMarginBottom += pair.second != null ? pair.second : 0;
+                    topPaddingArea = newTopPaddingArea;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the padding of all areas, which are contained by the dialog, without applying it to
+     * their views.
+     */
+    private void computeAreaPaddings() {
+        areaPaddings.keySet().retainAll(areas.keySet());
+        topPaddingArea = findTopPaddingArea();
+        scrollViewPaddingTop = 0;
+        scrollViewMarginBottom = 0;
+        Area previousArea = null;
+        Iterator<Map.Entry<Area, View>> iterator = areas.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<Area, View> entry = iterator.next();
+            Area area = entry.getKey();
+            int[] originalPadding = getOriginalPadding(entry.getValue());
+            int[] padding = areaPaddings.get(area);
+
+            if (padding == null) {
+                padding = new int[4];
+                areaPaddings.put(area, padding);
+            }
+
+            boolean horizontalPadding =
+                    area != Area.HEADER && area != Area.BUTTON_BAR && area != Area.CONTENT;
+            padding[0] = horizontalPadding ? dialogPadding[0] : 0;
+            padding[1] = area == topPaddingArea ? dialogPadding[1] : originalPadding[1];
+            padding[2] = horizontalPadding ? dialogPadding[2] : 0;
+            padding[3] = !iterator.hasNext() && hasBottomPadding(area) ? dialogPadding[3] :
+                    originalPadding[3];
+
+            if (previousArea != null) {
+                int[] previousPadding = areaPaddings.get(previousArea);
+
+                if (area == Area.BUTTON_BAR && hasBottomPadding(previousArea)) {
+                    previousPadding[3] = dialogPadding[3];
                 }
 
-                previousArea = area;
-                previousView = view;
+                addViewSpacing(previousArea, previousPadding, area);
             }
 
-            if (scrollView != null) {
-                LinearLayout.LayoutParams layoutParams =
-                        (LayoutParams) scrollView.getLayoutParams();
-                layoutParams.bottomMargin = scrollViewMarginBottom;
-                scrollView.setPadding(scrollView.getPaddingLeft(),
-                        scrollView.getPaddingTop() + scrollViewPaddingTop,
-                        scrollView.getPaddingRight(), scrollView.getPaddingBottom());
+            previousArea = area;
+        }
+    }
+
+    /**
+     * Returns the area, the dialog's top padding should be applied to. This is the first visible
+     * area, which is neither the header, the content, nor the button bar.
+     *
+     * @return The area, the dialog's top padding should be applied to, as a value of the enum
+     * {@link Area} or null, if there is no such area
+     */
+    @Nullable
+    private Area findTopPaddingArea() {
+        for (Map.Entry<Area, View> entry : areas.entrySet()) {
+            Area area = entry.getKey();
+
+            if (area != Area.HEADER && area != Area.CONTENT && area != Area.BUTTON_BAR &&
+                    entry.getValue().getVisibility() == View.VISIBLE) {
+                return area;
             }
         }
+
+        return null;
     }
 
     /**
-     * Registers an {@link OnGlobalLayoutListener} at the dialog's scroll view or list view, if
-     * present, in order to be able to adjust the initial visibilities of the dividers as soon as
-     * the respective view has been layouted.
+     * Returns, whether the dialog's bottom padding may be applied to a specific area, or not.
+     *
+     * @param area
+     *         The area as a value of the enum {@link Area}. The area may not be null
+     * @return True, if the dialog's bottom padding may be applied to the given area, false
+     * otherwise
+     */
+    private boolean hasBottomPadding(@NonNull final Area area) {
+        return area != Area.HEADER && area != Area.BUTTON_BAR;
+    }
+
+    /**
+     * Returns the original padding of a specific view, i.e. the padding it had before the
+     * padding of the dialog's areas has been applied to it for the first time.
+     *
+     * @param view
+     *         The view, whose original padding should be returned, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @return An array, which contains the left, top, right and bottom padding of the given view,
+     * as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    private int[] getOriginalPadding(@NonNull final View view) {
+        Object tag = view.getTag(R.id.original_padding);
+
+        if (tag instanceof int[]) {
+            return (int[]) tag;
+        }
+
+        int[] originalPadding = new int[]{view.getPaddingLeft(), view.getPaddingTop(),
+                view.getPaddingRight(), view.getPaddingBottom()};
+        view.setTag(R.id.original_padding, originalPadding);
+        return originalPadding;
+    }
+
+    /**
+     * Applies the padding, which has been computed for a specific area, to its view. The view is
+     * only updated, if its padding has changed.
+     *
+     * @param area
+     *         The area, whose padding should be applied, as a value of the enum {@link Area}. The
+     *         area may not be null
+     * @param view
+     *         The view, the padding should be applied to, as an instance of the class {@link View}.
+     *         The view may not be null
+     */
+    private void applyAreaPadding(@NonNull final Area area, @NonNull final View view) {
+        int[] padding = areaPaddings.get(area);
+
+        if (padding != null && (view.getPaddingLeft() != padding[0] ||
+                view.getPaddingTop() != padding[1] || view.getPaddingRight() != padding[2] ||
+                view.getPaddingBottom() != padding[3])) {
+            view.setPadding(padding[0], padding[1], padding[2], padding[3]);
+        }
+    }
+
+    /**
+     * Registers an {@link OnGlobalLayoutListener} at the dialog's scroll view or at the registered
+     * scrollable view, if present, in order to be able to adjust the initial visibilities of the
+     * dividers as soon as the respective view has been layouted.
      */
     private void registerScrollLayoutListener() {
         if (scrollView != null) {
             scrollView.getViewTreeObserver()
                     .addOnGlobalLayoutListener(createScrollViewLayoutListener(scrollView));
-        } else if (listView != null) {
-            listView.getViewTreeObserver()
-                    .addOnGlobalLayoutListener(createScrollViewLayoutListener(listView));
+        } else if (scrollableView != null) {
+            scrollableView.getViewTreeObserver()
+                    .addOnGlobalLayoutListener(createScrollViewLayoutListener(scrollableView));
         }
     }
 
@@ -580,15 +866,16 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         if (scrollView != null) {
             adaptDividerVisibilities(scrollView.isScrolledToTop(), scrollView.isScrolledToBottom(),
                     false);
-        } else if (listView != null) {
-            adaptDividerVisibilities(isListViewScrolledToTop(listView),
-                    isListViewScrolledToBottom(listView), false);
+        } else if (scrollableView != null) {
+            adaptDividerVisibilities(isScrolledToTop(scrollableView),
+                    isScrolledToBottom(scrollableView), false);
         }
     }
 
     /**
      * Adapts the visibility of the top and bottom divider, depending on whether the scrollable area
-     * is scrolled to the top/bottom, or not.
+     * is scrolled to the top/bottom, or not. When scrolling, the dividers are only updated, if the
+     * scrollable area has reached or left the top or bottom since the last update.
      *
      * @param scrolledToTop
      *         True, if the scrollable area is scrolled to the top, false otherwise
@@ -599,6 +886,15 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private void adaptDividerVisibilities(final boolean scrolledToTop,
                                           final boolean scrolledToBottom, final boolean animate) {
+        if (animate && dividerScrollStateKnown && scrolledToTop == dividerScrolledToTop &&
+                scrolledToBottom == dividerScrolledToBottom) {
+            return;
+        }
+
+        dividerScrollStateKnown = true;
+        dividerScrolledToTop = scrolledToTop;
+        dividerScrolledToBottom = scrolledToBottom;
+
         if (topDivider != null && !topDivider.isVisibleByDefault()) {
             topDivider.setVisibility(
                     scrolledToTop || !showDividersOnScroll ? View.INVISIBLE : View.VISIBLE,
@@ -612,6 +908,38 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         }
     }
 
+    /**
+     * Returns, whether a specific scrollable view is scrolled to the top, or not.
+     *
+     * @param view
+     *         The scrollable view as an instance of the class {@link View}. The view may not be
+     *         null
+     * @return True, if the given view is scrolled to the top, false otherwise
+     */
+    private boolean isScrolledToTop(@NonNull final View view) {
+        if (view instanceof AbsListView) {
+            return isListViewScrolledToTop((AbsListView) view);
+        }
+
+        return !view.canScrollVertically(-1);
+    }
+
+    /**
+     * Returns, whether a specific scrollable view is scrolled to the bottom, or not.
+     *
+     * @param view
+     *         The scrollable view as an instance of the class {@link View}. The view may not be
+     *         null
+     * @return True, if the given view is scrolled to the bottom, false otherwise
+     */
+    private boolean isScrolledToBottom(@NonNull final View view) {
+        if (view instanceof AbsListView) {
+            return isListViewScrolledToBottom((AbsListView) view);
+        }
+
+        return !view.canScrollVertically(1);
+    }
+
     /**
      * Returns, whether a specific list view is scrolled to the bottom, or not.
      *
@@ -655,99 +983,22 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     }
 
     /**
-     * Applies the dialog's left padding to the view of a specific area.
-     *
-     * @param area
-     *         The area, the view, the padding should be applied to, corresponds to, as an instance
-     *         of the class {@link Area}. The area may not be null
-     * @param view
-     *         The view, the padding should be applied to, as an instance of the class {@link View}.
-     *         The view may not be null
-     */
-    private void applyDialogPaddingLeft(@NonNull final Area area, @NonNull final View view) {
-        int padding = area != Area.HEADER && area != Area.BUTTON_BAR && area != Area.CONTENT ?
-                dialogPadding[0] : 0;
-        view.setPadding(padding, view.getPaddingTop(), view.getPaddingRight(),
-                view.getPaddingBottom());
-    }
-
-    /**
-     * Applies the dialog's top padding to the view of a specific area.
-     *
-     * @param area
-     *         The area, the view, the padding should be applied to, corresponds to, as an instance
-     *         of the class {@link Area}. The area may not be null
-     * @param view
-     *         The view, the padding should be applied to, as an instance of the class {@link View}.
-     *         The view may not be null
-     */
-    private boolean applyDialogPaddingTop(@NonNull final Area area, @NonNull final View view) {
-        if (area != Area.HEADER && area != Area.CONTENT && area != Area.BUTTON_BAR &&
-                view.getVisibility() == View.VISIBLE) {
-            view.setPadding(view.getPaddingLeft(), dialogPadding[1], view.getPaddingRight(),
-                    view.getPaddingBottom());
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Applies the dialog's right padding to the view of a specific area.
-     *
-     * @param area
-     *         The area, the view, the padding should be applied to, corresponds to, as an instance
-     *         of the class {@link Area}. The area may not be null
-     * @param view
-     *         The view, the padding should be applied to, as an instance of the class {@link View}.
-     *         The view may not be null
-     */
-    private void applyDialogPaddingRight(@NonNull final Area area, @NonNull final View view) {
-        int padding = area != Area.HEADER && area != Area.BUTTON_BAR && area != Area.CONTENT ?
-                dialogPadding[2] : 0;
-        view.setPadding(view.getPaddingLeft(), view.getPaddingTop(), padding,
-                view.getPaddingBottom());
-    }
-
-    /**
-     * Applies the dialog's bottom padding to the view of a specific area.
-     *
-     * @param area
-     *         The area, the view, the padding should be applied to, corresponds to, as an instance
-     *         of the class {@link Area}. The area may not be null
-     * @param view
-     *         The view, the padding should be applied to, as an instance of the class {@link View}.
-     *         The view may not be null
-     */
-    private void applyDialogPaddingBottom(@NonNull final Area area, @NonNull final View view) {
-        if (area != Area.HEADER && area != Area.BUTTON_BAR) {
-            view.setPadding(view.getPaddingLeft(), view.getPaddingTop(), view.getPaddingRight(),
-                    dialogPadding[3]);
-        }
-    }
-
-    /**
-     * Adds spacing to the view of a specific area. The spacing is added to the view's current
-     * bottom padding.
+     * Adds spacing to the padding of a specific area. The spacing is added to the bottom padding,
+     * which has been computed for the area. If the spacing separates a scrollable from a
+     * non-scrollable area, it is partially applied to the dialog's scroll view instead.
      *
      * @param previousArea
-     *         The area, the view, the spacing should be applied to, corresponds to, as an instance
-     *         of the class {@link Area}. The area may not be null
-     * @param previousView
-     *         The view, the spacing should be applied to, as an instance of the class {@link View}.
-     *         The view may not be null
+     *         The area, the spacing should be applied to, as a value of the enum {@link Area}. The
+     *         area may not be null
+     * @param previousPadding
+     *         The padding, which has been computed for the area, the spacing should be applied
+     *         to, as an {@link Integer} array. The array may not be null
      * @param area
      *         The current area as a value of the enum {@link Area}. The area may not be null
-     * @return A pair, which contains the top and bottom padding, which should be added to the
-     * dialog's scroll view, as an instance of the class {@link Pair} value
      */
-    @NonNull
-    private Pair<Integer, Integer> addViewSpacing(@NonNull final Area previousArea,
-                                                  @NonNull final View previousView,
-                                                  @NonNull final Area area) {
-        int scrollViewPaddingTop = 0;
-        int scrollViewMarginBottom = 0;
-        int padding = -1;
+    private void addViewSpacing(@NonNull final Area previousArea,
+                                @NonNull final int[] previousPadding, @NonNull final Area area) {
+        int padding = 0;
 
         if (previousArea == Area.TITLE) {
             padding = getResources().getDimensionPixelSize(R.dimen.dialog_title_bottom_padding);
@@ -759,20 +1010,15 @@ public class DialogRootView extends LinearLayout implements AreaListener {
                 scrollableArea.isScrollable(area)) {
             int originalPadding = padding;
             padding = originalPadding / 2;
-            scrollViewPaddingTop = originalPadding - padding;
+            scrollViewPaddingTop += originalPadding - padding;
         } else if (area == Area.BUTTON_BAR && scrollableArea.isScrollable(previousArea) &&
                 !scrollableArea.isScrollable(area)) {
             int originalPadding = padding;
             padding = originalPadding / 2;
-            scrollViewMarginBottom = originalPadding - padding;
-        }
-
-        if (padding != -1) {
-            previousView.setPadding(previousView.getPaddingLeft(), previousView.getPaddingTop(),
-                    previousView.getPaddingRight(), previousView.getPaddingBottom() + padding);
+            scrollViewMarginBottom += originalPadding - padding;
         }
 
-        return Pair.create(scrollViewPaddingTop, scrollViewMarginBottom);
+        previousPadding[3] += padding;
     }
 
     /**
@@ -857,26 +1103,101 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     }
 
     /**
-     * Creates and returns a listener, which allows to observe the list view, which is contained by
-     * the dialog, is scrolled.
+     * Creates and returns a listener, which allows to add the listener, which observes the
+     * registered scrollable view, to the view tree observer of the window, the view is attached
+     * to, and to remove it again, when the view is detached.
      *
      * @return The listener, which has been created, as an instance of the type {@link
-     * android.widget.AbsListView.OnScrollListener}. The listener may not be null
+     * OnAttachStateChangeListener}. The listener may not be null
      */
     @NonNull
-    private AbsListView.OnScrollListener createListViewScrollListener() {
-        return new AbsListView.OnScrollListener() {
+    private OnAttachStateChangeListener createScrollableViewAttachStateListener() {
+        return new OnAttachStateChangeListener() {
 
             @Override
-            public void onScrollStateChanged(final AbsListView view, final int scrollState) {
+            public void onViewAttachedToWindow(final View view) {
+                addScrollableViewScrollListener(view);
+            }
+
+            @Override
+            public void onViewDetachedFromWindow(final View view) {
+                removeScrollableViewScrollListener();
+            }
+
+        };
+    }
+
+    /**
+     * Adds the listener, which observes the registered scrollable view, to the view tree observer
+     * of a specific view. The view tree observer is retained in order to be able to remove the
+     * listener from the same instance, as a view returns a different view tree observer once it
+     * has been detached.
+     *
+     * @param view
+     *         The view, whose view tree observer should be used, as an instance of the class
+     *         {@link View}. The view may not be null
+     */
+    private void addScrollableViewScrollListener(@NonNull final View view) {
+        removeScrollableViewScrollListener();
+        scrollableViewTreeObserver = view.getViewTreeObserver();
+        scrollableViewTreeObserver.addOnScrollChangedListener(scrollableViewScrollListener);
+    }
 
+    /**
+     * Removes the listener, which observes the registered scrollable view, from the view tree
+     * observer, it has been added to, if it has been added.
+     */
+    private void removeScrollableViewScrollListener() {
+        if (scrollableViewTreeObserver != null) {
+            if (scrollableViewTreeObserver.isAlive()) {
+                scrollableViewTreeObserver
+                        .removeOnScrollChangedListener(scrollableViewScrollListener);
+            }
+
+            scrollableViewTreeObserver = null;
+        }
+    }
+
+    /**
+     * Creates and returns a listener, which allows to observe, when the registered scrollable view
+     * is scrolled, if it is not a recycler view. As the listener is registered at the view's view
+     * tree observer, scroll listeners, which have been set by the user, are preserved.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * OnScrollChangedListener}. The listener may not be null
+     */
+    @NonNull
+    private OnScrollChangedListener createScrollableViewScrollListener() {
+        return new OnScrollChangedListener() {
+
+            @Override
+            public void onScrollChanged() {
+                if (scrollView == null && scrollableView != null) {
+                    adaptDividerVisibilities(isScrolledToTop(scrollableView),
+                            isScrolledToBottom(scrollableView), true);
+                }
             }
 
+        };
+    }
+
+    /**
+     * Creates and returns a listener, which allows to observe, when the registered scrollable view
+     * is scrolled, if it is a recycler view.
+     *
+     * @return The listener, which has been created, as an instance of the class {@link
+     * RecyclerView.OnScrollListener}. The listener may not be null
+     */
+    @NonNull
+    private RecyclerView.OnScrollListener createRecyclerViewScrollListener() {
+        return new RecyclerView.OnScrollListener() {
+
             @Override
-            public void onScroll(final AbsListView view, final int firstVisibleItem,
-                                 final int visibleItemCount, final int totalItemCount) {
-                adaptDividerVisibilities(isListViewScrolledToTop(view),
-                        isListViewScrolledToBottom(view), true);
+            public void onScrolled(final RecyclerView recyclerView, final int dx, final int dy) {
+                if (scrollView == null) {
+                    adaptDividerVisibilities(isScrolledToTop(recyclerView),
+                            isScrolledToBottom(recyclerView), true);
+                }
             }
 
         };
@@ -941,6 +1262,70 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         }
     }
 
+    /**
+     * Returns, whether the dialog's window background can be drawn to a specific canvas using a
+     * hardware layer, or not.
+     *
+     * @param canvas
+     *         The canvas, the window background should be drawn to, as an instance of the class
+     *         {@link Canvas}. The canvas may not be null
+     * @return True, if the window background can be drawn using a hardware layer, false otherwise
+     */
+    private boolean isHardwareLayerSupported(@NonNull final Canvas canvas) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP &&
+                canvas.isHardwareAccelerated();
+    }
+
+    /**
+     * Draws the dialog's window background to a specific canvas using a hardware layer. The
+     * window background is drawn into an offscreen layer, which is multiplied with the view's
+     * content, when it is restored. This allows the composition to be performed by the GPU
+     * without copying any pixels.
+     *
+     * @param canvas
+     *         The canvas, the window background should be drawn to, as an instance of the class
+     *         {@link Canvas}. The canvas may not be null
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private void drawWindowBackgroundUsingHardwareLayer(@NonNull final Canvas canvas) {
+        int width = getWidth();
+        int height = getHeight();
+        windowBackground.setBounds(0, 0, width, height);
+        int saveCount = canvas.saveLayer(0, 0, width, height, paint);
+        windowBackground.draw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Draws the dialog's window background to a specific canvas using a software bitmap. The
+     * window background is rendered into the offscreen buffer, if it has changed, and the buffer
+     * is multiplied with the view's content afterwards.
+     *
+     * @param canvas
+     *         The canvas, the window background should be drawn to, as an instance of the class
+     *         {@link Canvas}. The canvas may not be null
+     */
+    private void drawWindowBackgroundUsingBackingBuffer(@NonNull final Canvas canvas) {
+        int width = getWidth();
+        int height = getHeight();
+        windowBackgroundDirty |= backingBuffer.setSize(width, height);
+        Canvas backingCanvas = backingBuffer.getCanvas();
+
+        if (backingCanvas != null) {
+            if (windowBackgroundDirty) {
+                windowBackground.setBounds(0, 0, width, height);
+                backingBuffer.clear();
+                windowBackground.draw(backingCanvas);
+                windowBackgroundDirty = false;
+                windowBackgroundCacheMisses++;
+            } else {
+                windowBackgroundCacheHits++;
+            }
+
+            backingBuffer.draw(canvas, paint);
+        }
+    }
+
     /**
      * Returns the left inset of the dialog, depending on whether the dialog is shown fullscreen, or
      * not.
@@ -1070,11 +1455,55 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     public final void setWindowBackgroundAndInset(@Nullable final Drawable windowBackground,
                                                   @Nullable final Rect windowInsets) {
+        if (this.windowBackground != null && this.windowBackground != windowBackground) {
+            this.windowBackground.setCallback(null);
+        }
+
+        if (windowBackground != null) {
+            windowBackground.setCallback(this);
+        }
+
         this.windowBackground = windowBackground;
         this.windowInsets = windowInsets;
+        this.windowBackgroundDirty = true;
         adaptWindowBackgroundAndInsets();
     }
 
+    /**
+     * Returns the number of times, the dialog's window background has been drawn without rendering
+     * it again, because neither the window background, nor the size of the view have changed.
+     *
+     * @return The number of times, the dialog's window background has been drawn without rendering
+     * it again, as a {@link Long} value
+     */
+    public final long getWindowBackgroundCacheHits() {
+        return windowBackgroundCacheHits;
+    }
+
+    /**
+     * Returns the number of times, the dialog's window background had to be rendered again,
+     * because the window background or the size of the view have changed.
+     *
+     * @return The number of times, the dialog's window background had to be rendered again, as a
+     * {@link Long} value
+     */
+    public final long getWindowBackgroundCacheMisses() {
+        return windowBackgroundCacheMisses;
+    }
+
+    /**
+     * Returns, whether the dialog's window background has been drawn using a hardware layer the
+     * last time the view has been drawn, or not. Hardware layers are used on devices with API
+     * level 21 or higher, if the view is hardware accelerated. Otherwise, the window background is
+     * drawn using a software bitmap.
+     *
+     * @return True, if the dialog's window background has been drawn using a hardware layer, false
+     * otherwise
+     */
+    public final boolean isWindowBackgroundHardwareAccelerated() {
+        return windowBackgroundHardwareAccelerated;
+    }
+
     /**
      * Sets, whether the dialog is shown fullscreen, or not.
      *
@@ -1140,7 +1569,38 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     public final void setScrollableArea(@NonNull final ScrollableArea scrollableArea) {
         ensureNotNull(scrollableArea, "The scrollable area may not be null");
         this.scrollableArea = scrollableArea;
-        addAreas();
+
+        if (batchDepth > 0) {
+            areasInvalidated = true;
+        } else {
+            addAreas();
+        }
+    }
+
+    /**
+     * Begins a batch. While a batch is open, the areas are not added again and their padding is
+     * not adapted, until the batch is ended. Batches may be nested.
+     */
+    public final void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch, which has previously been begun by using the method {@link #beginBatch()}. If
+     * no other batch is open, the areas are added again, or their padding is adapted, in a single
+     * pass, if necessary.
+     */
+    public final void endBatch() {
+        if (batchDepth > 0 && --batchDepth == 0) {
+            if (areasInvalidated) {
+                areasInvalidated = false;
+                areaPaddingInvalidated = false;
+                addAreas();
+            } else if (areaPaddingInvalidated) {
+                areaPaddingInvalidated = false;
+                adaptAreaPadding();
+            }
+        }
     }
 
     /**
@@ -1180,6 +1640,91 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         adaptDividerMargin();
     }
 
+    /**
+     * Sets the tracer, which should be used to measure the time, which is needed to add the
+     * dialog's areas.
+     *
+     * @param showTracer
+     *         The tracer, which should be set, as an instance of the class {@link ShowTracer} or
+     *         null, if no tracer should be used
+     */
+    public final void setShowTracer(@Nullable final ShowTracer showTracer) {
+        this.showTracer = showTracer;
+    }
+
+    /**
+     * Registers a scrollable view, which is contained by the dialog, e.g. a list view. While the
+     * view is registered, the visibility of the dividers, which are located above and below the
+     * dialog's scrollable areas, is adapted, when it is scrolled. Only one view can be registered
+     * at once. A previously registered view is unregistered.
+     *
+     * @param view
+     *         The view, which should be registered, as an instance of the class {@link View}. The
+     *         view must either be an {@link AbsListView}, a {@link RecyclerView}, or implement the
+     *         interface {@link NestedScrollingChild}. The view may not be null
+     */
+    public final void registerScrollableView(@NonNull final View view) {
+        ensureNotNull(view, "The view may not be null");
+        ensureTrue(view instanceof AbsListView || view instanceof RecyclerView ||
+                        view instanceof NestedScrollingChild,
+                "The view must either be an AbsListView, a RecyclerView or a NestedScrollingChild");
+
+        if (scrollableView != view) {
+            if (scrollableView != null) {
+                unregisterScrollableView(scrollableView);
+            }
+
+            scrollableView = view;
+            dividerScrollStateKnown = false;
+
+            if (view instanceof RecyclerView) {
+                if (recyclerViewScrollListener == null) {
+                    recyclerViewScrollListener = createRecyclerViewScrollListener();
+                }
+
+                ((RecyclerView) view).addOnScrollListener(recyclerViewScrollListener);
+            } else {
+                if (scrollableViewScrollListener == null) {
+                    scrollableViewScrollListener = createScrollableViewScrollListener();
+                    scrollableViewAttachStateListener = createScrollableViewAttachStateListener();
+                }
+
+                view.addOnAttachStateChangeListener(scrollableViewAttachStateListener);
+
+                if (ViewCompat.isAttachedToWindow(view)) {
+                    addScrollableViewScrollListener(view);
+                }
+            }
+
+            if (areas != null) {
+                registerScrollLayoutListener();
+            }
+        }
+    }
+
+    /**
+     * Unregisters a scrollable view, which has previously been registered by using the method
+     * {@link #registerScrollableView(View)}.
+     *
+     * @param view
+     *         The view, which should be unregistered, as an instance of the class {@link View}. The
+     *         view may not be null
+     */
+    public final void unregisterScrollableView(@NonNull final View view) {
+        ensureNotNull(view, "The view may not be null");
+
+        if (scrollableView == view) {
+            if (view instanceof RecyclerView) {
+                ((RecyclerView) view).removeOnScrollListener(recyclerViewScrollListener);
+            } else {
+                view.removeOnAttachStateChangeListener(scrollableViewAttachStateListener);
+                removeScrollableViewScrollListener();
+            }
+
+            scrollableView = null;
+        }
+    }
+
     /**
      * Adds the different areas of a dialog to the root view.
      *
@@ -1208,14 +1753,63 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         registerScrollLayoutListener();
     }
 
+    /**
+     * Adds additional areas to the root view, e.g. because a decorator has been attached after the
+     * areas of the dialog have already been added. If possible, only the views of the additional
+     * areas are inserted. Otherwise, the view hierarchy is rebuilt.
+     *
+     * @param areas
+     *         A map, which contains the areas, which should be added, as keys and their
+     *         corresponding views as values, as an instance of the type {@link Map}. The map may
+     *         not be null
+     */
+    public final void putAreas(@NonNull final Map<ViewType, View> areas) {
+        ensureNotNull(areas, "The map may not be null");
+
+        if (this.areas == null) {
+            addAreas(areas);
+        } else {
+            SortedMap<Area, View> addedAreas = new TreeMap<>(new AreaComparator());
+            boolean insert = true;
+
+            for (Map.Entry<ViewType, View> entry : areas.entrySet()) {
+                ViewType viewType = entry.getKey();
+                View view = entry.getValue();
+
+                if (viewType instanceof AreaViewType) {
+                    Area area = ((AreaViewType) viewType).getArea();
+                    insert &= canInsertArea(area);
+                    addedAreas.put(area, view);
+                } else if (viewType instanceof DividerViewType && view instanceof Divider) {
+                    this.dividers.put(((DividerViewType) viewType).getLocation(), (Divider) view);
+                }
+            }
+
+            this.areas.putAll(addedAreas);
+
+            if (insert) {
+                for (Map.Entry<Area, View> entry : addedAreas.entrySet()) {
+                    insertArea(entry.getKey(), entry.getValue());
+                }
+
+                adaptAreaPadding();
+            } else {
+                addAreas();
+            }
+
+            addDividers();
+            registerScrollLayoutListener();
+        }
+    }
+
     @Override
     public final void onAreaShown(@NonNull final Area area) {
-        adaptAreaPadding();
+        adaptTopPaddingArea();
     }
 
     @Override
     public final void onAreaHidden(@NonNull final Area area) {
-        adaptAreaPadding();
+        adaptTopPaddingArea();
     }
 
     @Override
@@ -1224,29 +1818,56 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         adaptAreaPadding();
     }
 
-    @SuppressLint("DrawAllocation")
     @Override
     protected final void onLayout(final boolean changed, final int l, final int t, final int r,
                                   final int b) {
         super.onLayout(changed, l, t, r, b);
 
-        if (changed) {
-            backingBitmap = Bitmap.createBitmap(r - l, b - t, Bitmap.Config.ARGB_8888);
-            backingCanvas = new Canvas(backingBitmap);
+        if (changed && backingBuffer.isAllocated() && backingBuffer.setSize(r - l, b - t)) {
+            windowBackgroundDirty = true;
         }
     }
 
+    @Override
+    protected final void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        backingBuffer.release();
+        windowBackgroundDirty = true;
+    }
+
+    @Override
+    protected final boolean verifyDrawable(@NonNull final Drawable drawable) {
+        return drawable == windowBackground || super.verifyDrawable(drawable);
+    }
+
+    @Override
+    public final void invalidateDrawable(@NonNull final Drawable drawable) {
+        if (drawable == windowBackground) {
+            windowBackgroundDirty = true;
+            invalidate();
+        } else {
+            super.invalidateDrawable(drawable);
+        }
+    }
+
+    @SuppressLint("DrawAllocation")
     @Override
     public final void draw(final Canvas canvas) {
         super.draw(canvas);
 
         if (!fullscreen && windowBackground != null) {
-            int width = getWidth();
-            int height = getHeight();
-            windowBackground.setBounds(0, 0, width, height);
-            backingBitmap.eraseColor(Color.TRANSPARENT);
-            windowBackground.draw(backingCanvas);
-            canvas.drawBitmap(backingBitmap, 0, 0, paint);
+            windowBackgroundHardwareAccelerated = isHardwareLayerSupported(canvas);
+
+            if (windowBackgroundHardwareAccelerated) {
+                if (backingBuffer.isAllocated()) {
+                    backingBuffer.release();
+                    windowBackgroundDirty = true;
+                }
+
+                drawWindowBackgroundUsingHardwareLayer(canvas);
+            } else {
+                drawWindowBackgroundUsingBackingBuffer(canvas);
+            }
         }
     }
 
@@ -39,32 +39,44 @@ public class Divider extends View {
      */
     private boolean visibleByDefault;
 
+    /**
+     * True, if the divider is shown by the current animation, false, if it is hidden.
+     */
+    private boolean animatedVisible;
+
+    /**
+     * The listener, which is used to observe the animations, which are used to show or hide the
+     * divider. It is reused for all animations.
+     */
+    private AnimatorListener visibilityAnimationListener;
+
     /**
      * Initializes the view.
      */
     private void initialize() {
         this.visibleByDefault = false;
+        this.animatedVisible = true;
+        this.visibilityAnimationListener = createVisibilityAnimationListener();
         setTag(true);
     }
 
     /**
      * Creates and returns a listener, which allows to observe the progress of an animation, which
-     * is used to show or hide the divider.
+     * is used to show or hide the divider. Whether the divider is shown or hidden, is determined
+     * when the animation starts or ends, which allows to reuse the listener for all animations.
      *
-     * @param show
-     *         True, if the divider is shown by the animation, false otherwise
      * @return The listener, which has been created, as an instance of the type {@link
      * AnimatorListener}. The listener may not be null
      */
     @NonNull
-    private AnimatorListener createVisibilityAnimationListener(final boolean show) {
+    private AnimatorListener createVisibilityAnimationListener() {
         return new AnimatorListenerAdapter() {
 
             @Override
             public void onAnimationStart(final Animator animation) {
                 super.onAnimationStart(animation);
 
-                if (show) {
+                if (animatedVisible) {
                     Divider.super.setVisibility(View.VISIBLE);
                 }
             }
@@ -73,7 +85,7 @@ public class Divider extends View {
             public void onAnimationEnd(final Animator animation) {
                 super.onAnimationEnd(animation);
 
-                if (!show) {
+                if (!animatedVisible) {
                     Divider.super.setVisibility(View.INVISIBLE);
                 }
             }
@@ -189,9 +201,10 @@ public class Divider extends View {
 
                 }
 
+                animatedVisible = visible;
                 animate().alpha(visible ? 1 : 0).setDuration(
                         getResources().getInteger(android.R.integer.config_mediumAnimTime))
-                        .setListener(createVisibilityAnimationListener(visible)).start();
+                        .setListener(visibilityAnimationListener).start();
             }
         } else {
             super.setVisibility(visible ? View.VISIBLE : View.INVISIBLE);
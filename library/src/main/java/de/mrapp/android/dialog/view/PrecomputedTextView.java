@@ -0,0 +1,318 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.os.Build;
+import android.support.annotation.AttrRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.widget.AppCompatTextView;
+import android.text.Layout;
+import android.util.AttributeSet;
+import android.view.Gravity;
+
+/**
+ * A custom text view, which allows to show long texts, which have been laid out in the background
+ * by using the class {@link TextPrecomputer}. The layout, which has been created in the background,
+ * is used to measure and draw the view, until another text is set. Until the layout is available,
+ * the view takes an estimated height. Texts are only laid out in the background, if the view does
+ * not require any attributes, which cannot be honored by such a layout, e.g. a maximum number of
+ * lines, an ellipsize mode, a movement method or a right-to-left text direction. Otherwise, the
+ * text is shown regularly.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class PrecomputedTextView extends AppCompatTextView {
+
+    /**
+     * The text, which has been set to be laid out in the background, or null, if the text of the
+     * view is shown regularly.
+     */
+    private CharSequence precomputedText;
+
+    /**
+     * The alignment, which is used to lay out the text in the background, or null, if the text of
+     * the view is shown regularly.
+     */
+    private Layout.Alignment precomputedAlignment;
+
+    /**
+     * The layout of the text, which has been laid out in the background, or null, if the layout is
+     * not available yet.
+     */
+    private Layout precomputedLayout;
+
+    /**
+     * The width, the text is currently laid out for in the background, in pixels or -1, if no text
+     * is currently laid out.
+     */
+    private int pendingWidth = -1;
+
+    /**
+     * The callback, which is notified about the layout, which is currently created in the
+     * background, or null, if no layout is currently created.
+     */
+    private TextPrecomputer.Callback pendingCallback;
+
+    /**
+     * The estimated height of the text in pixels, which is used as long as no layout is
+     * available.
+     */
+    private int placeholderHeight;
+
+    /**
+     * Estimates the height of the text, which has been set to be laid out in the background, for
+     * a specific width. The estimation is based on the number of line breaks and on the average
+     * width of lowercase characters.
+     *
+     * @param width
+     *         The width, the height should be estimated for, in pixels as an {@link Integer} value
+     * @return The estimated height in pixels as an {@link Integer} value
+     */
+    private int estimateHeight(final int width) {
+        int lineBreaks = 0;
+
+        for (int i = 0; i < precomputedText.length(); i++) {
+            if (precomputedText.charAt(i) == '\n') {
+                lineBreaks++;
+            }
+        }
+
+        String sample = "abcdefghijklmnopqrstuvwxyz";
+        float characterWidth = getPaint().measureText(sample) / sample.length();
+        int lines = (int) Math.ceil(precomputedText.length() * characterWidth / width);
+        return Math.max(lines, lineBreaks + 1) * getLineHeight();
+    }
+
+    /**
+     * Creates and returns a callback, which allows to use a layout, which has been created in the
+     * background.
+     *
+     * @return The callback, which has been created, as an instance of the type {@link
+     * TextPrecomputer.Callback}. The callback may not be null
+     */
+    @NonNull
+    private TextPrecomputer.Callback createPrecomputeCallback() {
+        return new TextPrecomputer.Callback() {
+
+            @Override
+            public void onPrecomputed(@NonNull final Layout layout) {
+                if (pendingCallback == this) {
+                    pendingCallback = null;
+                    pendingWidth = -1;
+                    precomputedLayout = layout;
+                    requestLayout();
+                    invalidate();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Lays out the text, which has been set to be laid out in the background, for a specific
+     * width, unless a layout for this width is already available or created.
+     *
+     * @param width
+     *         The width, the text should be laid out for, in pixels as an {@link Integer} value
+     */
+    private void precompute(final int width) {
+        if ((precomputedLayout == null || precomputedLayout.getWidth() != width) &&
+                pendingWidth != width) {
+            pendingWidth = width;
+            pendingCallback = createPrecomputeCallback();
+            placeholderHeight = estimateHeight(width);
+            TextPrecomputer.precompute(this, precomputedText, width, precomputedAlignment,
+                    pendingCallback);
+        }
+    }
+
+    /**
+     * Resets the text, which has been set to be laid out in the background.
+     */
+    private void resetPrecomputedText() {
+        precomputedText = null;
+        precomputedAlignment = null;
+        precomputedLayout = null;
+        pendingWidth = -1;
+        pendingCallback = null;
+        placeholderHeight = 0;
+    }
+
+    /**
+     * Creates a new custom text view, which allows to show long texts, which have been laid out in
+     * the background.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     */
+    public PrecomputedTextView(@NonNull final Context context) {
+        super(context);
+    }
+
+    /**
+     * Creates a new custom text view, which allows to show long texts, which have been laid out in
+     * the background.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param attributeSet
+     *         The attribute set, the view's attributes should be obtained from, as an instance of
+     *         the type {@link AttributeSet} or null, if no attributes should be obtained
+     */
+    public PrecomputedTextView(@NonNull final Context context,
+                               @Nullable final AttributeSet attributeSet) {
+        super(context, attributeSet);
+    }
+
+    /**
+     * Creates a new custom text view, which allows to show long texts, which have been laid out in
+     * the background.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param attributeSet
+     *         The attribute set, the view's attributes should be obtained from, as an instance of
+     *         the type {@link AttributeSet} or null, if no attributes should be obtained
+     * @param defaultStyle
+     *         The default style to apply to this view. If 0, no style will be applied (beyond what
+     *         is included in the theme). This may either be an attribute resource, whose value will
+     *         be retrieved from the current theme, or an explicit style resource
+     */
+    public PrecomputedTextView(@NonNull final Context context,
+                               @Nullable final AttributeSet attributeSet,
+                               @AttrRes final int defaultStyle) {
+        super(context, attributeSet, defaultStyle);
+    }
+
+    /**
+     * Returns the alignment, which should be used to lay out the text of the view in the
+     * background. The alignment corresponds to the horizontal gravity of the view.
+     *
+     * @return The alignment, which should be used to lay out the text of the view in the
+     * background, as a value of the enum {@link Layout.Alignment} or null, if the view requires
+     * attributes, which cannot be honored by a layout, which has been created in the background
+     */
+    @Nullable
+    final Layout.Alignment getPrecomputedAlignment() {
+        if (getEllipsize() != null || getMovementMethod() != null ||
+                ViewCompat.getLayoutDirection(this) == ViewCompat.LAYOUT_DIRECTION_RTL) {
+            return null;
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN &&
+                getMaxLines() != Integer.MAX_VALUE) {
+            return null;
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 &&
+                getTextDirection() != TEXT_DIRECTION_FIRST_STRONG) {
+            return null;
+        }
+
+        switch (getGravity() & Gravity.RELATIVE_HORIZONTAL_GRAVITY_MASK) {
+            case Gravity.CENTER_HORIZONTAL:
+                return Layout.Alignment.ALIGN_CENTER;
+            case Gravity.END:
+            case Gravity.RIGHT:
+                return Layout.Alignment.ALIGN_OPPOSITE;
+            default:
+                return Layout.Alignment.ALIGN_NORMAL;
+        }
+    }
+
+    /**
+     * Sets a text, which should be laid out in the background, before it is shown. The text is
+     * laid out for the width, which is available once the view is measured.
+     *
+     * @param text
+     *         The text, which should be set, as an instance of the type {@link CharSequence}. The
+     *         text may not be null
+     * @param alignment
+     *         The alignment, which should be used to lay out the text, as a value of the enum
+     *         {@link Layout.Alignment}. The alignment may not be null
+     */
+    final void setPrecomputedText(@NonNull final CharSequence text,
+                                  @NonNull final Layout.Alignment alignment) {
+        super.setText(null, BufferType.NORMAL);
+        resetPrecomputedText();
+        precomputedText = text;
+        precomputedAlignment = alignment;
+        requestLayout();
+        invalidate();
+    }
+
+    @Override
+    public CharSequence getText() {
+        return precomputedText != null ? precomputedText : super.getText();
+    }
+
+    @Override
+    public void setText(final CharSequence text, final BufferType type) {
+        resetPrecomputedText();
+        super.setText(text, type);
+    }
+
+    @Override
+    protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        if (precomputedText == null) {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+        } else {
+            int widthMode = MeasureSpec.getMode(widthMeasureSpec);
+            int width = widthMode == MeasureSpec.UNSPECIFIED ?
+                    getResources().getDisplayMetrics().widthPixels :
+                    MeasureSpec.getSize(widthMeasureSpec);
+            precompute(Math.max(1,
+                    width - getCompoundPaddingLeft() - getCompoundPaddingRight()));
+            int height = getCompoundPaddingTop() + getCompoundPaddingBottom() +
+                    (precomputedLayout != null ? precomputedLayout.getHeight() :
+                            placeholderHeight);
+            setMeasuredDimension(width, resolveSize(Math.max(height, getSuggestedMinimumHeight()),
+                    heightMeasureSpec));
+        }
+    }
+
+    @Override
+    protected void onDraw(final Canvas canvas) {
+        super.onDraw(canvas);
+
+        if (precomputedLayout != null) {
+            precomputedLayout.getPaint().setColor(getCurrentTextColor());
+            precomputedLayout.getPaint().drawableState = getDrawableState();
+            int availableHeight =
+                    getHeight() - getCompoundPaddingTop() - getCompoundPaddingBottom();
+            int offset = Math.max(0, availableHeight - precomputedLayout.getHeight());
+            int verticalGravity = getGravity() & Gravity.VERTICAL_GRAVITY_MASK;
+
+            if (verticalGravity == Gravity.CENTER_VERTICAL) {
+                offset /= 2;
+            } else if (verticalGravity != Gravity.BOTTOM) {
+                offset = 0;
+            }
+
+            canvas.save();
+            canvas.translate(getCompoundPaddingLeft(), getCompoundPaddingTop() + offset);
+            precomputedLayout.draw(canvas);
+            canvas.restore();
+        }
+    }
+
+}
@@ -59,11 +59,46 @@ public class ScrollView extends android.widget.ScrollView {
      */
     private ListenerList<ScrollListener> scrollListeners;
 
+    /**
+     * The maximum vertical scroll position of the scroll view, which is cached between layout
+     * passes.
+     */
+    private int maxScrollY;
+
+    /**
+     * True, if the scroll view was scrolled to the top, when the listeners have been notified the
+     * last time, false otherwise.
+     */
+    private boolean notifiedScrolledToTop;
+
+    /**
+     * True, if the scroll view was scrolled to the bottom, when the listeners have been notified
+     * the last time, false otherwise.
+     */
+    private boolean notifiedScrolledToBottom;
+
+    /**
+     * True, if the listeners have already been notified since the last layout pass, false
+     * otherwise.
+     */
+    private boolean notified;
+
     /**
      * Initializes the view.
      */
     private void initialize() {
         this.scrollListeners = new ListenerList<>();
+        this.maxScrollY = 0;
+        this.notified = false;
+    }
+
+    /**
+     * Updates the maximum vertical scroll position of the scroll view, depending on the height of
+     * its child.
+     */
+    private void updateMaxScrollY() {
+        View view = getChildAt(0);
+        maxScrollY = view != null ? Math.max(0, view.getBottom() - getHeight()) : 0;
     }
 
     /**
@@ -191,15 +226,30 @@ public class ScrollView extends android.widget.ScrollView {
      * @return True, if the scroll view is scrolled to the bottom, false otherwise
      */
     public final boolean isScrolledToBottom() {
-        int y = getScrollY();
-        View view = getChildAt(0);
-        return (view.getBottom() - y) == getHeight();
+        return getScrollY() >= maxScrollY;
+    }
+
+    @Override
+    protected final void onLayout(final boolean changed, final int l, final int t, final int r,
+                                  final int b) {
+        super.onLayout(changed, l, t, r, b);
+        updateMaxScrollY();
+        notified = false;
     }
 
     @Override
     protected final void onScrollChanged(final int l, final int t, final int oldl, final int oldt) {
         super.onScrollChanged(l, t, oldl, oldt);
-        notifyOnScrolled(isScrolledToTop(), isScrolledToBottom());
+        boolean scrolledToTop = isScrolledToTop();
+        boolean scrolledToBottom = isScrolledToBottom();
+
+        if (!notified || scrolledToTop != notifiedScrolledToTop ||
+                scrolledToBottom != notifiedScrolledToBottom) {
+            notified = true;
+            notifiedScrolledToTop = scrolledToTop;
+            notifiedScrolledToBottom = scrolledToBottom;
+            notifyOnScrolled(scrolledToTop, scrolledToBottom);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.support.annotation.AttrRes;
+import android.support.annotation.ColorInt;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.util.AttributeSet;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.mrapp.android.dialog.R;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A recycler view, which allows to show very large messages, which are split into chunks of lines.
+ * Only the chunks, which are currently visible, are laid out. The message is stored by a {@link
+ * ChunkAdapter}, which may outlive the view, and text can be appended to it while the view is
+ * shown. If the view is scrolled to the bottom, when text is appended, it stays scrolled to the
+ * bottom, which allows to tail a log, for example.
+ *
+ * If the view is contained by a scroll view, its height is limited to half of the display's height
+ * in order to prevent all chunks from being laid out.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public class StreamingMessageView extends android.support.v7.widget.RecyclerView {
+
+    /**
+     * An adapter, which stores a message as chunks of lines and provides them to a {@link
+     * StreamingMessageView}. The chunks are the only copy of the message's text.
+     */
+    public static class ChunkAdapter extends Adapter<ChunkAdapter.ViewHolder> {
+
+        /**
+         * The view holder, which is used to show a single chunk.
+         */
+        private static class ViewHolder extends android.support.v7.widget.RecyclerView.ViewHolder {
+
+            /**
+             * The text view, which is used to show the chunk.
+             */
+            private final TextView textView;
+
+            /**
+             * Creates a new view holder, which is used to show a single chunk.
+             *
+             * @param textView
+             *         The text view, which is used to show the chunk, as an instance of the class
+             *         {@link TextView}. The text view may not be null
+             */
+            ViewHolder(@NonNull final TextView textView) {
+                super(textView);
+                this.textView = textView;
+            }
+
+        }
+
+        /**
+         * A list, which contains the chunks of the message.
+         */
+        private final List<StringBuilder> chunks;
+
+        /**
+         * The number of lines of the last chunk.
+         */
+        private int lastChunkLineCount;
+
+        /**
+         * The total number of characters of all chunks.
+         */
+        private int length;
+
+        /**
+         * The color of the text or null, if the default color should be used.
+         */
+        private ColorStateList textColor;
+
+        /**
+         * Returns, whether the last chunk is full, or not.
+         *
+         * @return True, if the last chunk is full, false otherwise
+         */
+        private boolean isLastChunkFull() {
+            return chunks.isEmpty() || lastChunkLineCount >= LINES_PER_CHUNK ||
+                    chunks.get(chunks.size() - 1).length() >= MAX_CHUNK_LENGTH;
+        }
+
+        /**
+         * Creates a new adapter, which stores a message as chunks of lines.
+         */
+        public ChunkAdapter() {
+            this.chunks = new ArrayList<>();
+            this.lastChunkLineCount = 0;
+            this.length = 0;
+            this.textColor = null;
+        }
+
+        /**
+         * Returns the total number of characters of the message.
+         *
+         * @return The total number of characters of the message as an {@link Integer} value
+         */
+        public final int length() {
+            return length;
+        }
+
+        /**
+         * Returns the text of the message. The text is copied from the chunks on each call.
+         *
+         * @return The text of the message as a {@link String}. The text may not be null
+         */
+        @NonNull
+        public final String getText() {
+            return getText(length);
+        }
+
+        /**
+         * Returns the end of the text of the message. Only the chunks, which contain the end of
+         * the text, are copied.
+         *
+         * @param maxLength
+         *         The maximum number of characters, which should be returned, as an {@link Integer}
+         *         value. The maximum number of characters must be at least 0
+         * @return The end of the text of the message as a {@link String}. The text may not be null
+         */
+        @NonNull
+        public final String getText(final int maxLength) {
+            ensureAtLeast(maxLength, 0, "The maximum length must be at least 0");
+            int start = Math.max(0, length - maxLength);
+            StringBuilder text = new StringBuilder(length - start);
+            int position = 0;
+
+            for (StringBuilder chunk : chunks) {
+                if (position + chunk.length() > start) {
+                    text.append(chunk, Math.max(0, start - position), chunk.length());
+                }
+
+                position += chunk.length();
+            }
+
+            return text.toString();
+        }
+
+        /**
+         * Appends text to the message.
+         *
+         * @param text
+         *         The text, which should be appended, as an instance of the type {@link
+         *         CharSequence}. The text may not be null
+         */
+        public final void append(@NonNull final CharSequence text) {
+            ensureNotNull(text, "The text may not be null");
+            int previousCount = chunks.size();
+            boolean lastChunkChanged = false;
+            int start = 0;
+
+            while (start < text.length()) {
+                if (isLastChunkFull()) {
+                    chunks.add(new StringBuilder());
+                    lastChunkLineCount = 0;
+                } else if (chunks.size() == previousCount) {
+                    lastChunkChanged = true;
+                }
+
+                StringBuilder chunk = chunks.get(chunks.size() - 1);
+                int lineBreak = indexOf(text, '\n', start);
+                int end = lineBreak != -1 ? lineBreak + 1 : text.length();
+                end = Math.min(end, start + MAX_CHUNK_LENGTH - chunk.length());
+                chunk.append(text, start, end);
+
+                if (text.charAt(end - 1) == '\n') {
+                    lastChunkLineCount++;
+                }
+
+                start = end;
+            }
+
+            length += text.length();
+
+            if (lastChunkChanged) {
+                notifyItemChanged(previousCount - 1);
+            }
+
+            if (chunks.size() > previousCount) {
+                notifyItemRangeInserted(previousCount, chunks.size() - previousCount);
+            }
+        }
+
+        /**
+         * Sets the color of the text.
+         *
+         * @param textColor
+         *         The color, which should be set, as an instance of the class {@link
+         *         ColorStateList} or null, if the default color should be used
+         */
+        final void setTextColor(@Nullable final ColorStateList textColor) {
+            if (this.textColor != textColor) {
+                this.textColor = textColor;
+                notifyDataSetChanged();
+            }
+        }
+
+        @Override
+        public ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent, final int viewType) {
+            View view = LayoutInflater.from(parent.getContext())
+                    .inflate(R.layout.material_dialog_message, parent, false);
+            return new ViewHolder((TextView) view);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull final ViewHolder holder, final int position) {
+            StringBuilder chunk = chunks.get(position);
+            int length = chunk.length();
+
+            if (length > 0 && chunk.charAt(length - 1) == '\n') {
+                length--;
+            }
+
+            holder.textView.setText(chunk.subSequence(0, length));
+
+            if (textColor != null) {
+                holder.textView.setTextColor(textColor);
+            }
+        }
+
+        @Override
+        public int getItemCount() {
+            return chunks.size();
+        }
+
+    }
+
+    /**
+     * The maximum number of lines of a single chunk.
+     */
+    private static final int LINES_PER_CHUNK = 50;
+
+    /**
+     * The maximum number of characters of a single chunk. It prevents very long lines from being
+     * laid out at once.
+     */
+    private static final int MAX_CHUNK_LENGTH = 4096;
+
+    /**
+     * The adapter, which provides the chunks of the message, or null, if no message is shown.
+     */
+    private ChunkAdapter adapter;
+
+    /**
+     * The color of the message or null, if the default color should be used.
+     */
+    private ColorStateList textColor;
+
+    /**
+     * The observer, which keeps the view scrolled to the bottom, when text is appended.
+     */
+    private final AdapterDataObserver dataObserver = createDataObserver();
+
+    /**
+     * Returns the index of the first occurrence of a specific character within a text.
+     *
+     * @param text
+     *         The text, which should be searched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param character
+     *         The character, which should be searched for, as a {@link Character} value
+     * @param start
+     *         The index, the search should be started at, as an {@link Integer} value
+     * @return The index of the first occurrence of the given character as an {@link Integer} value
+     * or -1, if the character is not contained by the text
+     */
+    private static int indexOf(@NonNull final CharSequence text, final char character,
+                               final int start) {
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) == character) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Initializes the view.
+     */
+    private void initialize() {
+        setLayoutManager(new LinearLayoutManager(getContext()));
+        setItemAnimator(null);
+    }
+
+    /**
+     * Creates and returns an observer, which allows to keep the view scrolled to the bottom, when
+     * text is appended, if it has been scrolled to the bottom before.
+     *
+     * @return The observer, which has been created, as an instance of the class {@link
+     * AdapterDataObserver}. The observer may not be null
+     */
+    @NonNull
+    private AdapterDataObserver createDataObserver() {
+        return new AdapterDataObserver() {
+
+            @Override
+            public void onItemRangeChanged(final int positionStart, final int itemCount) {
+                followAppendedText();
+            }
+
+            @Override
+            public void onItemRangeInserted(final int positionStart, final int itemCount) {
+                followAppendedText();
+            }
+
+        };
+    }
+
+    /**
+     * Scrolls to the last chunk, if the view has been scrolled to the bottom before text has been
+     * appended. As the view is not laid out again until the next frame, the scroll position
+     * still reflects the state before the text has been appended.
+     */
+    private void followAppendedText() {
+        if (adapter != null && adapter.getItemCount() > 0 && !canScrollVertically(1)) {
+            scrollToPosition(adapter.getItemCount() - 1);
+        }
+    }
+
+    /**
+     * Creates a new recycler view, which allows to show very large messages.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     */
+    public StreamingMessageView(@NonNull final Context context) {
+        super(context);
+        initialize();
+    }
+
+    /**
+     * Creates a new recycler view, which allows to show very large messages.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param attributeSet
+     *         The attribute set, the view's attributes should be obtained from, as an instance of
+     *         the type {@link AttributeSet} or null, if no attributes should be obtained
+     */
+    public StreamingMessageView(@NonNull final Context context,
+                                @Nullable final AttributeSet attributeSet) {
+        super(context, attributeSet);
+        initialize();
+    }
+
+    /**
+     * Creates a new recycler view, which allows to show very large messages.
+     *
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param attributeSet
+     *         The attribute set, the view's attributes should be obtained from, as an instance of
+     *         the type {@link AttributeSet} or null, if no attributes should be obtained
+     * @param defaultStyle
+     *         The default style to apply to this view. If 0, no style will be applied (beyond what
+     *         is included in the theme). This may either be an attribute resource, whose value will
+     *         be retrieved from the current theme, or an explicit style resource
+     */
+    public StreamingMessageView(@NonNull final Context context,
+                                @Nullable final AttributeSet attributeSet,
+                                @AttrRes final int defaultStyle) {
+        super(context, attributeSet, defaultStyle);
+        initialize();
+    }
+
+    /**
+     * Sets the adapter, which provides the chunks of the message, which should be shown by the
+     * view. Text, which is appended to the adapter, is shown by the view.
+     *
+     * @param adapter
+     *         The adapter, which should be set, as an instance of the class {@link ChunkAdapter}
+     *         or null, if no message should be shown
+     */
+    public final void setChunkAdapter(@Nullable final ChunkAdapter adapter) {
+        if (this.adapter != adapter) {
+            if (this.adapter != null) {
+                this.adapter.unregisterAdapterDataObserver(dataObserver);
+            }
+
+            this.adapter = adapter;
+            setAdapter(adapter);
+
+            if (adapter != null) {
+                adapter.setTextColor(textColor);
+                adapter.registerAdapterDataObserver(dataObserver);
+            }
+        }
+    }
+
+    /**
+     * Sets the color of the message, which is shown by the view.
+     *
+     * @param color
+     *         The color, which should be set, as an {@link Integer} value
+     */
+    public final void setTextColor(@ColorInt final int color) {
+        setTextColor(ColorStateList.valueOf(color));
+    }
+
+    /**
+     * Sets the color of the message, which is shown by the view.
+     *
+     * @param textColor
+     *         The color, which should be set, as an instance of the class {@link ColorStateList}
+     *         or null, if the default color should be used
+     */
+    public final void setTextColor(@Nullable final ColorStateList textColor) {
+        this.textColor = textColor;
+
+        if (adapter != null) {
+            adapter.setTextColor(textColor);
+        }
+    }
+
+    @Override
+    protected final void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        if (MeasureSpec.getMode(heightMeasureSpec) == MeasureSpec.UNSPECIFIED) {
+            int maxHeight = getResources().getDisplayMetrics().heightPixels / 2;
+            super.onMeasure(widthMeasureSpec,
+                    MeasureSpec.makeMeasureSpec(maxHeight, MeasureSpec.AT_MOST));
+        } else {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+        }
+    }
+
+}
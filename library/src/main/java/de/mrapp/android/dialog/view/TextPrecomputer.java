@@ -0,0 +1,264 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.widget.TextView;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A utility class, which allows to lay out long texts on a background thread, before they are
+ * shown by a {@link TextView}. If the text view is a {@link PrecomputedTextView}, the text is laid
+ * out in the background by using the paint and the line spacing of the text view and for the width,
+ * which is available once the view is measured. The resulting layout is then used to measure and
+ * draw the view, which prevents huge texts from blocking the UI thread while the dialog is shown
+ * for the first time. Short texts, as well as texts of other text views, are shown immediately.
+ *
+ * The methods of this class must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 4.4.0
+ */
+public final class TextPrecomputer {
+
+    /**
+     * Defines the interface, a class, which should be notified, when a text has been laid out in
+     * the background, must implement.
+     */
+    interface Callback {
+
+        /**
+         * The method, which is invoked on the UI thread, when a text has been laid out in the
+         * background.
+         *
+         * @param layout
+         *         The layout of the text, as an instance of the class {@link Layout}. The layout
+         *         may not be null
+         */
+        void onPrecomputed(@NonNull Layout layout);
+
+    }
+
+    /**
+     * The minimum length of texts, which are measured in the background.
+     */
+    public static final int THRESHOLD = 1000;
+
+    /**
+     * The handler, which is used to pass the layouts of texts to the UI thread.
+     */
+    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The executor, which has been set to be used to measure texts in the background or null, if
+     * the default executor is used.
+     */
+    private static Executor executor;
+
+    /**
+     * The default executor, which is used to measure texts in the background.
+     */
+    private static ExecutorService defaultExecutor;
+
+    /**
+     * Creates a new utility class, which allows to measure long texts on a background thread. This
+     * constructor is private, because the class only provides static methods.
+     */
+    private TextPrecomputer() {
+
+    }
+
+    /**
+     * Returns the executor, which is used to measure texts in the background. If the default
+     * executor is used and has not been created yet, it is created.
+     *
+     * @return The executor, which is used to measure texts in the background, as an instance of
+     * the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    private static synchronized Executor getExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable,
+                            TextPrecomputer.class.getSimpleName() + "::measureThread");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return defaultExecutor;
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to lay out a text in the background and to
+     * pass the resulting layout to a callback afterwards.
+     *
+     * @param textView
+     *         The text view, whose paint and line spacing should be used, as an instance of the
+     *         class {@link TextView}. The text view may not be null
+     * @param text
+     *         The text, which should be laid out, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     * @param width
+     *         The width, the text should be laid out for, in pixels as an {@link Integer} value
+     * @param alignment
+     *         The alignment, which should be used to lay out the text, as a value of the enum
+     *         {@link Layout.Alignment}. The alignment may not be null
+     * @param callback
+     *         The callback, which should be notified about the layout, as an instance of the type
+     *         {@link Callback}. The callback may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private static Runnable createLayoutRunnable(@NonNull final TextView textView,
+                                                 @NonNull final CharSequence text,
+                                                 final int width,
+                                                 @NonNull final Layout.Alignment alignment,
+                                                 @NonNull final Callback callback) {
+        final TextPaint paint = new TextPaint(textView.getPaint());
+        final float spacingMultiplier;
+        final float spacingAddition;
+        final boolean includePadding;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            spacingMultiplier = textView.getLineSpacingMultiplier();
+            spacingAddition = textView.getLineSpacingExtra();
+            includePadding = textView.getIncludeFontPadding();
+        } else {
+            spacingMultiplier = 1;
+            spacingAddition = 0;
+            includePadding = true;
+        }
+
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                final Layout layout =
+                        new StaticLayout(text, paint, width, alignment,
+                                spacingMultiplier, spacingAddition, includePadding);
+                HANDLER.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        callback.onPrecomputed(layout);
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    /**
+     * Lays out a text in the background by using the paint and the line spacing of a specific
+     * text view.
+     *
+     * @param textView
+     *         The text view, whose paint and line spacing should be used, as an instance of the
+     *         class {@link TextView}. The text view may not be null
+     * @param text
+     *         The text, which should be laid out, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     * @param width
+     *         The width, the text should be laid out for, in pixels as an {@link Integer} value.
+     *         The width must be at least 1
+     * @param alignment
+     *         The alignment, which should be used to lay out the text, as a value of the enum
+     *         {@link Layout.Alignment}. The alignment may not be null
+     * @param callback
+     *         The callback, which should be notified about the layout on the UI thread, as an
+     *         instance of the type {@link Callback}. The callback may not be null
+     */
+    static void precompute(@NonNull final TextView textView, @NonNull final CharSequence text,
+                           final int width, @NonNull final Layout.Alignment alignment,
+                           @NonNull final Callback callback) {
+        ensureNotNull(textView, "The text view may not be null");
+        ensureNotNull(text, "The text may not be null");
+        ensureAtLeast(width, 1, "The width must be at least 1");
+        ensureNotNull(alignment, "The alignment may not be null");
+        ensureNotNull(callback, "The callback may not be null");
+        getExecutor().execute(createLayoutRunnable(textView,
+                TextUtils.stringOrSpannedString(text), width, alignment, callback));
+    }
+
+    /**
+     * Sets the executor, which should be used to measure texts in the background.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor} or
+     *         null, if the default executor should be used
+     */
+    public static synchronized void setExecutor(@Nullable final Executor executor) {
+        TextPrecomputer.executor = executor;
+    }
+
+    /**
+     * Sets the text of a specific text view. If the text is long and the text view is a {@link
+     * PrecomputedTextView}, which does not require attributes that cannot be honored by a layout
+     * created in the background, it is laid out in the background first. Until the layout is
+     * available, the text view takes an estimated height. If the text of the text view is changed
+     * again in the meantime, the layout is discarded.
+     *
+     * @param textView
+     *         The text view, whose text should be set, as an instance of the class {@link
+     *         TextView}. The text view may not be null
+     * @param text
+     *         The text, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if no text should be set
+     */
+    public static void setText(@NonNull final TextView textView,
+                               @Nullable final CharSequence text) {
+        ensureNotNull(textView, "The text view may not be null");
+
+        Layout.Alignment alignment = null;
+
+        if (text != null && text.length() >= THRESHOLD &&
+                textView instanceof PrecomputedTextView) {
+            alignment = ((PrecomputedTextView) textView).getPrecomputedAlignment();
+        }
+
+        if (alignment != null) {
+            ((PrecomputedTextView) textView).setPrecomputedText(text, alignment);
+        } else {
+            textView.setText(text);
+        }
+    }
+
+}